@@ -37,6 +37,7 @@ import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.OpenAPIGenerationEvent;
 import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
@@ -47,6 +48,7 @@ import io.ballerina.openapi.converter.service.OpenAPIServiceMapper;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 
@@ -228,6 +230,31 @@ public class ServiceToOpenAPIConverterUtils {
     public static OASResult generateOAS(ServiceDeclarationNode serviceDefinition,
                                         List<ListenerDeclarationNode> endpoints, SemanticModel semanticModel,
                                         String openApiFileName, Path ballerinaFilePath) {
+        OpenAPIGenerationEvent event = new OpenAPIGenerationEvent();
+        event.begin();
+        OASResult oasResult = generateOASResult(serviceDefinition, endpoints, semanticModel, openApiFileName,
+                ballerinaFilePath);
+        if (event.shouldCommit()) {
+            event.setBallerinaFile(ballerinaFilePath == null ? null : ballerinaFilePath.toString());
+            event.setServiceName(OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServiceBasePath(serviceDefinition));
+            Optional<OpenAPI> openAPI = oasResult.getOpenAPI();
+            if (openAPI.isPresent()) {
+                io.swagger.v3.oas.models.Paths paths = openAPI.get().getPaths();
+                event.setOperationCount(paths == null ? 0 : paths.values().stream()
+                        .mapToInt(pathItem -> pathItem.readOperations().size()).sum());
+                Components components = openAPI.get().getComponents();
+                event.setSchemaCount(components == null || components.getSchemas() == null ? 0 :
+                        components.getSchemas().size());
+            }
+            event.setDiagnosticCount(oasResult.getDiagnostics().size());
+            event.commit();
+        }
+        return oasResult;
+    }
+
+    private static OASResult generateOASResult(ServiceDeclarationNode serviceDefinition,
+                                               List<ListenerDeclarationNode> endpoints, SemanticModel semanticModel,
+                                               String openApiFileName, Path ballerinaFilePath) {
         // 01.Fill the openAPI info section
         OASResult oasResult = fillOpenAPIInfoSection(serviceDefinition, semanticModel, openApiFileName,
                 ballerinaFilePath);
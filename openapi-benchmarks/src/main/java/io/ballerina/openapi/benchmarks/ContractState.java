@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Synthetic contract the benchmarks are run for. The size of the contract is given by the benchmark parameters, which
+ * can be overridden with the -p option of JMH to measure the scaling curves of the generators.
+ *
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+public class ContractState {
+
+    @Param({"10", "100"})
+    public int paths;
+
+    @Param({"10", "100"})
+    public int schemas;
+
+    @Param({"1", "3"})
+    public int depth;
+
+    @Param({"NONE", "ALL_OF", "ONE_OF"})
+    public SyntheticContract.Composition composition;
+
+    private Path contractDirectory;
+    private Path contractPath;
+    private OpenAPI openAPI;
+
+    @Setup(Level.Trial)
+    public void writeContract() throws IOException, BallerinaOpenApiException {
+        contractDirectory = Files.createTempDirectory("openapi-benchmark");
+        contractPath = new SyntheticContract(paths, schemas, depth, composition).write(contractDirectory);
+        openAPI = GeneratorUtils.normalizeOpenAPI(contractPath, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteContract() throws IOException {
+        FileUtils.deleteDirectory(contractDirectory.toFile());
+    }
+
+    public Path getContractPath() {
+        return contractPath;
+    }
+
+    /**
+     * Returns the normalized contract, which is shared by the generation benchmarks as the generators do not modify
+     * the contract.
+     */
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.SourceFormatter;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks formatting the generated sources and removing the unused types from them.
+ *
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SourceFormattingBenchmark {
+
+    @Benchmark
+    public SyntaxTree formatClient(GeneratedSources sources) throws FormatterException {
+        return Formatter.format(sources.clientSyntaxTree);
+    }
+
+    @Benchmark
+    public SyntaxTree formatTypes(GeneratedSources sources) throws FormatterException {
+        return Formatter.format(sources.typesSyntaxTree);
+    }
+
+    /**
+     * Formats the client in chunks on the common pool, as the openapi command does.
+     */
+    @Benchmark
+    public String formatClientInChunks(GeneratedSources sources) throws FormatterException {
+        return sources.sourceFormatter.format(sources.clientSyntaxTree);
+    }
+
+    @Benchmark
+    public String removeUnusedEntities(GeneratedSources sources) throws FormatterException {
+        return GeneratorUtils.removeUnusedEntities(sources.typesSyntaxTree, sources.clientContent,
+                sources.typesContent, sources.serviceContent);
+    }
+
+    /**
+     * Sources generated for the contract, along with their formatted contents.
+     */
+    @State(Scope.Benchmark)
+    public static class GeneratedSources {
+        private final SourceFormatter sourceFormatter = new SourceFormatter(ForkJoinPool.commonPool());
+        private SyntaxTree clientSyntaxTree;
+        private SyntaxTree typesSyntaxTree;
+        private String clientContent;
+        private String typesContent;
+        private String serviceContent;
+
+        @Setup(Level.Trial)
+        public void generateSources(ContractState contract) throws BallerinaOpenApiException, FormatterException {
+            clientSyntaxTree = SourceGenerationBenchmark.createClientGenerator(contract).generateSyntaxTree();
+            typesSyntaxTree = new BallerinaTypesGenerator(contract.getOpenAPI()).generateSyntaxTree();
+            SyntaxTree serviceSyntaxTree = new BallerinaServiceGenerator(contract.getOpenAPI(), new Filter())
+                    .generateSyntaxTree();
+            clientContent = Formatter.format(clientSyntaxTree).toString();
+            typesContent = Formatter.format(typesSyntaxTree).toString();
+            serviceContent = Formatter.format(serviceSyntaxTree).toString();
+        }
+    }
+}
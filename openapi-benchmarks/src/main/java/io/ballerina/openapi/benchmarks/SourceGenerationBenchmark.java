@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating the syntax trees of the types, the client and the service of a normalized contract. The
+ * generators run sequentially, so that the results do not depend on the number of available processors.
+ *
+ * @since 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SourceGenerationBenchmark {
+
+    @Benchmark
+    public SyntaxTree generateTypes(ContractState contract) throws BallerinaOpenApiException {
+        return new BallerinaTypesGenerator(contract.getOpenAPI()).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateClient(ContractState contract) throws BallerinaOpenApiException {
+        return createClientGenerator(contract).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateService(ContractState contract) throws BallerinaOpenApiException {
+        return new BallerinaServiceGenerator(contract.getOpenAPI(), new Filter()).generateSyntaxTree();
+    }
+
+    static BallerinaClientGenerator createClientGenerator(ContractState contract) {
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter())
+                .withNullable(false)
+                .withPlugin(false)
+                .withOpenAPI(contract.getOpenAPI())
+                .withResourceMode(false)
+                .build();
+        return new BallerinaClientGenerator(oasClientConfig);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Generates synthetic OpenAPI contracts of a given size, so that the scaling of the generators can be measured.
+ * <p>
+ * Each path of the contract has a get and a post operation, which refer to the schemas in a round robin. Each schema
+ * is an object with inline objects nested up to the given depth. With a composition, each schema is composed of the
+ * previous schema and its own object, hence the schemas form a chain of allOf or oneOf references. Without a
+ * composition, the schemas which are not referred by the operations are unused.
+ *
+ * @since 1.3.0
+ */
+public class SyntheticContract {
+    public static final String CONTRACT_FILE_NAME = "openapi.yaml";
+
+    private static final String SCHEMA_REFERENCE = "#/components/schemas/";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final int TAG_COUNT = 4;
+
+    private final int paths;
+    private final int schemas;
+    private final int depth;
+    private final Composition composition;
+
+    /**
+     * Composition of the schemas of the contract.
+     */
+    public enum Composition {
+        NONE,
+        ALL_OF,
+        ONE_OF
+    }
+
+    /**
+     * Creates the generator of the contracts with the given size.
+     *
+     * @param paths       number of paths, each of which has two operations
+     * @param schemas     number of component schemas
+     * @param depth       nesting depth of the inline objects of the schemas
+     * @param composition composition of the schemas
+     */
+    public SyntheticContract(int paths, int schemas, int depth, Composition composition) {
+        if (paths < 1 || schemas < 1 || depth < 0) {
+            throw new IllegalArgumentException("Contract requires at least a path and a schema, and a depth of at " +
+                    "least zero");
+        }
+        this.paths = paths;
+        this.schemas = schemas;
+        this.depth = depth;
+        this.composition = composition;
+    }
+
+    public OpenAPI generate() {
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Synthetic API").version("1.0.0"))
+                .addServersItem(new Server().url("http://localhost:9090/v1"));
+        for (int path = 0; path < paths; path++) {
+            String schemaName = getSchemaName(path % schemas);
+            Operation getOperation = new Operation()
+                    .operationId("getResource" + path)
+                    .addTagsItem("tag" + path % TAG_COUNT)
+                    .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema()))
+                    .addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", createResponse(schemaName)));
+            Operation postOperation = new Operation()
+                    .operationId("createResource" + path)
+                    .addTagsItem("tag" + path % TAG_COUNT)
+                    .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema()))
+                    .requestBody(new RequestBody().required(true).content(createContent(schemaName)))
+                    .responses(new ApiResponses().addApiResponse("201", createResponse(schemaName)));
+            openAPI.path("/resources" + path + "/{id}", new PathItem().get(getOperation).post(postOperation));
+        }
+        Components components = new Components();
+        for (int schema = 0; schema < schemas; schema++) {
+            components.addSchemas(getSchemaName(schema), createSchema(schema));
+        }
+        return openAPI.components(components);
+    }
+
+    /**
+     * Writes the generated contract in YAML to the given directory.
+     *
+     * @param directory directory to write the contract
+     * @return - path of the written contract
+     * @throws IOException - when the contract can not be written
+     */
+    public Path write(Path directory) throws IOException {
+        Path contractPath = directory.resolve(CONTRACT_FILE_NAME);
+        Files.writeString(contractPath, Yaml.pretty().writeValueAsString(generate()), StandardCharsets.UTF_8);
+        return contractPath;
+    }
+
+    private Schema<?> createSchema(int index) {
+        ObjectSchema objectSchema = new ObjectSchema();
+        objectSchema.addProperties("id", new IntegerSchema().format("int64"));
+        objectSchema.addProperties("name", new StringSchema());
+        objectSchema.addProperties("labels", new ArraySchema().items(new StringSchema()));
+        objectSchema.addRequiredItem("id");
+        if (depth > 0) {
+            objectSchema.addProperties("detail", createNestedSchema(depth));
+        }
+        if (composition == Composition.NONE || index == 0) {
+            return objectSchema;
+        }
+        Schema<?> reference = new Schema<>().$ref(SCHEMA_REFERENCE + getSchemaName(index - 1));
+        ComposedSchema composedSchema = new ComposedSchema();
+        if (composition == Composition.ALL_OF) {
+            composedSchema.allOf(List.of(reference, objectSchema));
+        } else {
+            composedSchema.oneOf(List.of(reference, objectSchema));
+        }
+        return composedSchema;
+    }
+
+    private static Schema<?> createNestedSchema(int level) {
+        ObjectSchema nestedSchema = new ObjectSchema();
+        nestedSchema.addProperties("value", new StringSchema());
+        nestedSchema.addProperties("count", new IntegerSchema());
+        if (level > 1) {
+            nestedSchema.addProperties("detail", createNestedSchema(level - 1));
+        }
+        return nestedSchema;
+    }
+
+    private static ApiResponse createResponse(String schemaName) {
+        return new ApiResponse().description("Successful response").content(createContent(schemaName));
+    }
+
+    private static Content createContent(String schemaName) {
+        return new Content().addMediaType(JSON_MEDIA_TYPE,
+                new MediaType().schema(new Schema<>().$ref(SCHEMA_REFERENCE + schemaName)));
+    }
+
+    private static String getSchemaName(int index) {
+        return "Schema" + index;
+    }
+}
@@ -38,6 +38,7 @@ import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.swagger.v3.oas.models.OpenAPI;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -101,11 +102,22 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         } else if (isHttpService(serviceNode, semanticModel)) {
             Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
             if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
+                OpenAPIExportEvent event = new OpenAPIExportEvent();
+                event.begin();
                 extractListenersAndServiceNodes(syntaxTree.rootNode(), endpoints, services, semanticModel);
                 OASResult oasResult = ServiceToOpenAPIConverterUtils.generateOAS(serviceNode, endpoints,
                         semanticModel, services.get(serviceSymbol.get().hashCode()), inputPath);
                 oasResult.setServiceName(constructFileName(syntaxTree, services, serviceSymbol.get()));
                 writeOpenAPIYaml(outPath, oasResult, diagnostics);
+                if (event.shouldCommit()) {
+                    event.setBallerinaFile(inputPath == null ? syntaxTree.filePath() : inputPath.toString());
+                    event.setServiceName(oasResult.getServiceName());
+                    Optional<io.swagger.v3.oas.models.Paths> paths = oasResult.getOpenAPI().map(OpenAPI::getPaths);
+                    event.setOperationCount(paths.map(pathItems -> pathItems.values().stream()
+                            .mapToInt(pathItem -> pathItem.readOperations().size()).sum()).orElse(0));
+                    event.setContractSize(oasResult.getYaml().map(String::length).orElse(0));
+                    event.commit();
+                }
             }
         }
         if (!diagnostics.isEmpty()) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.build;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of exporting the OpenAPI contract of a Ballerina service to the target directory of a build.
+ *
+ * @since 1.3.0
+ */
+@Name("io.ballerina.openapi.OpenAPIExport")
+@Label("OpenAPI Contract Export")
+@Category({"Ballerina", "OpenAPI"})
+@Description("Exporting the OpenAPI contract of a Ballerina service at the build time")
+@StackTrace(false)
+public class OpenAPIExportEvent extends Event {
+
+    @Label("Ballerina File")
+    @Description("Path of the Ballerina file of the service")
+    private String ballerinaFile;
+
+    @Label("Service")
+    @Description("Name of the exported contract")
+    private String serviceName;
+
+    @Label("Operations")
+    @Description("Number of operations of the exported contract")
+    private int operationCount;
+
+    @Label("Contract Size")
+    @Description("Size of the exported contract")
+    @DataAmount
+    private long contractSize;
+
+    public void setBallerinaFile(String ballerinaFile) {
+        this.ballerinaFile = ballerinaFile;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public void setOperationCount(int operationCount) {
+        this.operationCount = operationCount;
+    }
+
+    public void setContractSize(long contractSize) {
+        this.contractSize = contractSize;
+    }
+}
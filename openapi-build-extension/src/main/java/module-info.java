@@ -19,5 +19,7 @@ module ballerina.openapi.build {
     requires io.ballerina.parser;
     requires io.ballerina.openapi.converter;
     requires io.ballerina.tools.api;
+    requires io.swagger.v3.oas.models;
     requires org.apache.commons.io;
+    requires jdk.jfr;
 }
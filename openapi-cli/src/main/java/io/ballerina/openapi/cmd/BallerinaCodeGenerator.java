@@ -18,40 +18,74 @@
 
 package io.ballerina.openapi.cmd;
 
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
+import io.ballerina.openapi.core.GenerationManifest;
+import io.ballerina.openapi.core.GenerationProfile;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.OpenAPICache;
+import io.ballerina.openapi.core.SourceFormatter;
+import io.ballerina.openapi.core.SourceFormattingEvent;
+import io.ballerina.openapi.core.SourceGenerationEvent;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.core.generators.client.model.ClientGrouping;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
+import io.ballerina.openapi.core.generators.schema.TypesModuleSharder;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Console;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_CLIENT_PKG;
@@ -60,10 +94,14 @@ import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_BOTH;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_SERVICE;
 import static io.ballerina.openapi.cmd.CmdConstants.OAS_PATH_SEPARATOR;
+import static io.ballerina.openapi.cmd.CmdConstants.SERVICE;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_DIR;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.TYPES;
 import static io.ballerina.openapi.cmd.CmdConstants.TYPE_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.TYPE_SHARD_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.UNTITLED_SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.UTILS;
 import static io.ballerina.openapi.cmd.CmdConstants.UTIL_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdUtils.setGeneratedFileName;
 
@@ -76,8 +114,18 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
-
-    private static final PrintStream outStream = System.err;
+    private OpenAPICache openAPICache;
+    private int maxTypesPerFile;
+    private ClientGrouping clientGrouping = ClientGrouping.NONE;
+    private boolean incremental;
+    private GenerationManifest manifest;
+    private PrintStream outStream = System.err;
+    private UnaryOperator<String> overwritePrompt = BallerinaCodeGenerator::askOnConsole;
+    private GenerationProfile profile = GenerationProfile.disabled();
+
+    private static final int PARALLEL_GENERATION_THRESHOLD = 64;
+    private static final Pattern TYPE_FILE_PATTERN = Pattern.compile("types(_[0-9]+)?\\.bal");
+    private static final SourceFormatter SOURCE_FORMATTER = new SourceFormatter(ForkJoinPool.commonPool());
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -90,21 +138,26 @@ public class BallerinaCodeGenerator {
             io.ballerina.openapi.core.exception.BallerinaOpenApiException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        Path openAPIPath = Path.of(definitionPath);
+        if (isUpToDate(openAPIPath, srcPath, getGenerationOptions(GEN_BOTH, serviceName, filter, nullable,
+                isResource))) {
+            return;
+        }
 
         List<GenSrcFile> sourceFiles = new ArrayList<>();
-        Path openAPIPath = Path.of(definitionPath);
         // Normalize OpenAPI definition, in the client generation we suppose to terminate code generation when the
         // absence of the operationId in operation. Therefor we enable client flag true as default code generation.
         // if resource is enabled, we avoid checking operationId.
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIPath, !isResource);
+        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIPath, !isResource, filter, openAPICache,
+                profile);
 
         // Generate service
         String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
         String srcFile = concatTitle + "_service.bal";
         BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(openAPIDef, filter);
-        String serviceContent = Formatter.format
-                (serviceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, serviceContent));
+        serviceGenerator.setForkJoinPool(getForkJoinPool(GeneratorUtils.countOperations(openAPIDef)));
+        SyntaxTree serviceSyntaxTree = generateSource(GenerationProfile.SERVICE_GENERATION, SERVICE, openAPIPath,
+                openAPIDef, serviceGenerator::generateSyntaxTree);
 
         // Generate client.
         // Generate ballerina client remote.
@@ -114,20 +167,18 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
-                .withResourceMode(isResource).build();
+                .withResourceMode(isResource)
+                .withClientGrouping(clientGrouping).build();
 
         BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, clientContent));
-        String utilContent = Formatter.format(clientGenerator
-                .getBallerinaUtilGenerator()
-                .generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
-        }
+        clientGenerator.setForkJoinPool(getForkJoinPool(GeneratorUtils.countOperations(openAPIDef)));
+        SyntaxTree clientSyntaxTree = generateSource(GenerationProfile.CLIENT_GENERATION, CLIENT, openAPIPath,
+                openAPIDef, clientGenerator::generateSyntaxTree);
+        SyntaxTree utilSyntaxTree = generateSource(GenerationProfile.CLIENT_GENERATION, UTILS, openAPIPath,
+                openAPIDef, clientGenerator.getBallerinaUtilGenerator()::generateUtilSyntaxTree);
 
         //Update type definition list
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new TypeDefinitionRegistry(
                 clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         List<TypeDefinitionNode> typeInclusionRecords = serviceGenerator.getTypeInclusionRecords();
         List<TypeDefinitionNode> typeDefinitionNodeList = clientGenerator.getTypeDefinitionNodeList();
@@ -136,33 +187,45 @@ public class BallerinaCodeGenerator {
 
         // Generate ballerina types.
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+        BallerinaTypesGenerator ballerinaSchemaGenerator = createTypesGenerator(
                 openAPIDef, nullable, preGeneratedTypeDefNodes);
 
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+        SyntaxTree schemaSyntaxTree = generateSource(GenerationProfile.TYPE_GENERATION, TYPES, openAPIPath, openAPIDef,
+                ballerinaSchemaGenerator::generateSyntaxTree);
 
+        // The syntax trees are formatted while writing the files
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientContent, schemaContent,
-                    serviceContent);
-        }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+            List<String> contents;
+            try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.FORMATTING)) {
+                contents = SOURCE_FORMATTER.formatAll(List.of(serviceSyntaxTree, clientSyntaxTree,
+                        schemaSyntaxTree));
+            }
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, contents.get(0)));
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                    contents.get(1)));
+            addUtilFile(sourceFiles, utilSyntaxTree);
+            String schemaContent;
+            try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.UNUSED_TYPE_REMOVAL)) {
+                schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, contents.get(1),
+                        contents.get(2), contents.get(0));
+            }
+            if (!schemaContent.isBlank()) {
+                addTypeFiles(sourceFiles, GenSrcFile.GenFileType.MODEL_SRC, schemaContent);
+            }
+        } else {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, serviceSyntaxTree));
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                    clientSyntaxTree));
+            addUtilFile(sourceFiles, utilSyntaxTree);
+            if (!isEmpty(schemaSyntaxTree)) {
+                addTypeFiles(sourceFiles, GenSrcFile.GenFileType.MODEL_SRC, schemaSyntaxTree);
+            }
         }
-
         // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
-
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        CONFIG_FILE_NAME, configContent));
-            }
+        // Test boilerplate calls the functions on the `Client`, which are moved to the group clients when grouping
+        if (this.includeTestFiles && clientGrouping == ClientGrouping.NONE) {
+            addTestFiles(sourceFiles, new BallerinaTestGenerator(clientGenerator));
         }
 
         List<GenSrcFile> newGenFiles = sourceFiles.stream()
@@ -196,6 +259,11 @@ public class BallerinaCodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        setDefaultSrcPackage(DEFAULT_CLIENT_PKG);
+        if (isUpToDate(Paths.get(definitionPath), srcPath, getGenerationOptions(GEN_CLIENT, null, filter, nullable,
+                isResource))) {
+            return;
+        }
         List<GenSrcFile> genFiles = generateClientFiles(Paths.get(definitionPath), filter, nullable, isResource);
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
     }
@@ -217,13 +285,157 @@ public class BallerinaCodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
-        List<GenSrcFile> genFiles = generateBallerinaService(Paths.get(definitionPath), serviceName, filter, nullable);
+        setDefaultSrcPackage(DEFAULT_MOCK_PKG);
+        if (isUpToDate(Paths.get(definitionPath), srcPath, getGenerationOptions(GEN_SERVICE, serviceName, filter,
+                nullable, false))) {
+            return;
+        }
+        List<GenSrcFile> genFiles = generateServiceFiles(Paths.get(definitionPath), serviceName, filter, nullable);
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_SERVICE);
     }
 
+    /**
+     * Generates the sources for each of the given contracts on a pool of the given number of workers, using the
+     * options of this generator. A failure of a contract is reported in its result without stopping the generation
+     * of the other contracts. The existing files are overwritten without prompting, as the prompts of the concurrent
+     * generations would interleave.
+     *
+     * @param entries     contracts along with their generation options
+     * @param parallelism maximum number of contracts generated concurrently
+     * @param listener    listener notified with the result of each contract as it completes, on the calling thread
+     * @return - results of the contracts in the order of the given entries
+     * @throws InterruptedException - when the batch generation is interrupted
+     */
+    public List<BatchResult> generateBatch(List<BatchEntry> entries, int parallelism,
+                                           Consumer<BatchResult> listener) throws InterruptedException {
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism,
+                entries.size())));
+        try {
+            CompletionService<BatchResult> completionService = new ExecutorCompletionService<>(executorService);
+            Map<Future<BatchResult>, BatchEntry> futures = new LinkedHashMap<>();
+            for (BatchEntry entry : entries) {
+                futures.put(completionService.submit(() -> generate(entry)), entry);
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                Future<BatchResult> future = completionService.take();
+                listener.accept(getBatchResult(future, futures.get(future)));
+            }
+            List<BatchResult> results = new ArrayList<>(entries.size());
+            for (Map.Entry<Future<BatchResult>, BatchEntry> future : futures.entrySet()) {
+                results.add(getBatchResult(future.getKey(), future.getValue()));
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates the sources for a contract of a batch with a copy of this generator, as the generators keep the
+     * state of a generation. The messages of the generation are collected to be reported along with the result.
+     * Any error of the generation, such as a stack overflow for a deeply nested contract, fails only the contract.
+     */
+    private BatchResult generate(BatchEntry entry) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.srcPackage = srcPackage;
+        generator.licenseHeader = licenseHeader;
+        generator.includeTestFiles = includeTestFiles;
+        generator.openAPICache = openAPICache;
+        generator.maxTypesPerFile = maxTypesPerFile;
+        generator.clientGrouping = clientGrouping;
+        generator.incremental = incremental;
+        generator.overwritePrompt = null;
+        generator.outStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        String definitionPath = entry.getContractPath().toString();
+        String outPath = entry.getOutputPath().toString();
+        String error = null;
+        try {
+            if (SERVICE.equals(entry.getMode())) {
+                generator.generateService(definitionPath, entry.getServiceName(), outPath, entry.getFilter(),
+                        entry.isNullable());
+            } else if (CLIENT.equals(entry.getMode())) {
+                generator.generateClient(definitionPath, outPath, entry.getFilter(), entry.isNullable(),
+                        entry.isResourceMode());
+            } else {
+                generator.generateClientAndService(definitionPath, entry.getServiceName(), outPath,
+                        entry.getFilter(), entry.isNullable(), entry.isResourceMode());
+            }
+        } catch (Throwable e) {
+            error = getErrorMessage(e);
+        }
+        return new BatchResult(entry, output.toString(StandardCharsets.UTF_8), error);
+    }
+
+    private static BatchResult getBatchResult(Future<BatchResult> future, BatchEntry entry)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new BatchResult(entry, "", getErrorMessage(e.getCause()));
+        }
+    }
+
+    private static String getErrorMessage(Throwable error) {
+        return error.getLocalizedMessage() != null ? error.getLocalizedMessage() : error.toString();
+    }
+
+    /**
+     * Checks whether the sources generated by the previous incremental generation with the same contract and options
+     * are up to date, and creates the manifest which is written along with the sources of an incremental generation.
+     */
+    private boolean isUpToDate(Path definitionPath, Path srcPath, String options)
+            throws IOException, BallerinaOpenApiException {
+        // The contract is validated before it is fingerprinted, so that an invalid path is reported as the parser does
+        GeneratorUtils.validateContractPath(definitionPath);
+        if (!incremental) {
+            manifest = null;
+            return false;
+        }
+        // Changes of the files referred by the contract should regenerate the sources as the contract changes
+        manifest = GenerationManifest.create(Files.readAllBytes(definitionPath),
+                options + GenerationManifest.fingerprintReferredFiles(definitionPath));
+        Optional<GenerationManifest> previousManifest = GenerationManifest.read(srcPath);
+        if (previousManifest.isPresent() && manifest.isUpToDate(previousManifest.get(), srcPath)) {
+            outStream.println("Generated sources are up to date with the OpenAPI contract.");
+            manifest = null;
+            return true;
+        }
+        return false;
+    }
+
+    private void setDefaultSrcPackage(String defaultPackage) {
+        if (srcPackage == null || srcPackage.isEmpty()) {
+            srcPackage = defaultPackage;
+        }
+    }
+
+    private String getGenerationOptions(CmdConstants.GenType type, String serviceName, Filter filter,
+                                        boolean nullable, boolean isResource) {
+        return String.format("mode=%s;service=%s;tags=%s;operations=%s;nullable=%s;resource=%s;package=%s;" +
+                        "tests=%s;maxTypesPerFile=%d;clientGrouping=%s;license=%s;", type, serviceName,
+                filter.getTags(), filter.getOperations(), nullable, isResource, srcPackage, includeTestFiles,
+                maxTypesPerFile, clientGrouping, licenseHeader);
+    }
+
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
                                        CmdConstants.GenType type)
-            throws IOException {
+            throws IOException, FormatterException {
+        try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.WRITING)) {
+            writeSources(sources, srcPath, implPath, type);
+        }
+    }
+
+    private void writeSources(List<GenSrcFile> sources, Path srcPath, Path implPath, CmdConstants.GenType type)
+            throws IOException, FormatterException {
+        removeStaleTypeFiles(sources, srcPath);
+        if (manifest == null) {
+            // The manifest of an earlier incremental generation no longer describes the sources
+            Files.deleteIfExists(srcPath.resolve(GenerationManifest.MANIFEST_FILE_NAME));
+        }
         //  Remove old generated file with same name
         List<File> listFiles = new ArrayList<>();
         if (Files.exists(srcPath)) {
@@ -244,10 +456,10 @@ public class BallerinaCodeGenerator {
         for (File file : listFiles) {
             for (GenSrcFile gFile : sources) {
                 if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
-                        String userInput = System.console().readLine("There is already a/an " + file.getName() +
+                    if (overwritePrompt != null) {
+                        String userInput = overwritePrompt.apply("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
-                        if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
+                        if (userInput == null || !Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
                             int duplicateCount = 0;
                             setGeneratedFileName(listFiles, gFile, duplicateCount);
                         }
@@ -264,9 +476,7 @@ public class BallerinaCodeGenerator {
             if (!file.getType().isOverwritable()) {
                 filePath = implPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
-                    String fileContent = file.getFileName().endsWith(".bal") ?
-                            (licenseHeader + file.getContent()) : file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
+                    addToManifest(srcPath, filePath, writeGeneratedSource(filePath, file));
                 }
             } else {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
@@ -280,10 +490,17 @@ public class BallerinaCodeGenerator {
                 } else {
                     filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
-                String fileContent = file.getFileName().endsWith(".bal") ?
-                        (licenseHeader + file.getContent()) : file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+                addToManifest(srcPath, filePath, writeGeneratedSource(filePath, file));
+            }
+        }
+        if (manifest != null) {
+            try {
+                manifest.write(srcPath);
+            } catch (IOException e) {
+                // The sources are generated, only the next generation is a full generation without the manifest
+                outStream.println("Unable to write the generation manifest. " + e.getLocalizedMessage());
             }
+            manifest = null;
         }
 
         //This will print the generated files to the console
@@ -300,6 +517,95 @@ public class BallerinaCodeGenerator {
         }
     }
 
+    /**
+     * Removes the types files recorded by the previous generation which this generation does not generate, ex: the
+     * shards of a generation with more types files. Otherwise, the types would be defined twice in the module.
+     */
+    private static void removeStaleTypeFiles(List<GenSrcFile> sources, Path srcPath) throws IOException {
+        Optional<GenerationManifest> previousManifest = GenerationManifest.read(srcPath);
+        if (previousManifest.isEmpty()) {
+            return;
+        }
+        Set<String> fileNames = new HashSet<>();
+        for (GenSrcFile source : sources) {
+            fileNames.add(source.getFileName());
+        }
+        for (String filePath : previousManifest.get().getFiles().keySet()) {
+            if (TYPE_FILE_PATTERN.matcher(filePath).matches() && !fileNames.contains(filePath)) {
+                Files.deleteIfExists(srcPath.resolve(filePath));
+            }
+        }
+    }
+
+    /**
+     * Writes the given file through a buffered UTF-8 writer. The syntax tree of the file is formatted while writing,
+     * and released once the file is written, hence only one formatted source is held in memory at a time. The source
+     * is written to a temporary file first, and an existing file with the same content is not replaced, hence the
+     * builds depending on the generated sources do not see unchanged files as modified.
+     *
+     * @return fingerprint of the content of the file
+     */
+    private String writeGeneratedSource(Path filePath, GenSrcFile file) throws IOException, FormatterException {
+        Path tempPath = filePath.resolveSibling("." + filePath.getFileName() + ".tmp");
+        MessageDigest messageDigest = GenerationManifest.createMessageDigest();
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new DigestOutputStream(
+                    Files.newOutputStream(tempPath), messageDigest), StandardCharsets.UTF_8))) {
+                if (file.getFileName().endsWith(".bal")) {
+                    writer.write(licenseHeader);
+                }
+                if (file.getSyntaxTree() != null) {
+                    formatSource(filePath, tempPath, file.getSyntaxTree(), writer);
+                    file.setSyntaxTree(null);
+                } else {
+                    writer.write(file.getContent());
+                }
+            }
+            String fingerprint = GenerationManifest.toHex(messageDigest.digest());
+            if (profile.isEnabled()) {
+                profile.count(GenerationProfile.FILES_WRITTEN, 1);
+                profile.count(GenerationProfile.BYTES_WRITTEN, Files.size(tempPath));
+            }
+            if (!Files.isRegularFile(filePath) || !fingerprint.equals(GenerationManifest.fingerprint(filePath))) {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return fingerprint;
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Formats the given syntax tree to the given writer, recording the formatting in the profile and as a flight
+     * recorder event. The formatted source is written as it is formatted, hence the writes are part of the formatting.
+     */
+    private void formatSource(Path filePath, Path tempPath, SyntaxTree syntaxTree, Writer writer)
+            throws IOException, FormatterException {
+        SourceFormattingEvent event = new SourceFormattingEvent();
+        event.begin();
+        try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.FORMATTING)) {
+            SOURCE_FORMATTER.format(syntaxTree, writer);
+        }
+        if (event.shouldCommit()) {
+            // The size of the source is known once the writer is flushed
+            writer.flush();
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            event.setFile(filePath.toString());
+            event.setMemberCount(modulePartNode.members().size());
+            event.setSourceSize(Files.size(tempPath));
+            event.commit();
+        }
+    }
+
+    private void addToManifest(Path srcPath, Path filePath, String fingerprint) throws IOException {
+        if (manifest != null) {
+            // Canonical paths, since the paths of the test files are canonical
+            Path relativePath = srcPath.toFile().getCanonicalFile().toPath().relativize(
+                    filePath.toFile().getCanonicalFile().toPath());
+            manifest.addFile(relativePath.toString().replace(File.separatorChar, '/'), fingerprint);
+        }
+    }
+
     /**
      * Generate code for ballerina client.
      *
@@ -308,12 +614,11 @@ public class BallerinaCodeGenerator {
      */
     private List<GenSrcFile> generateClientFiles(Path openAPI, Filter filter, boolean nullable, boolean isResource)
             throws IOException, BallerinaOpenApiException, FormatterException {
-        if (srcPackage == null || srcPackage.isEmpty()) {
-            srcPackage = DEFAULT_CLIENT_PKG;
-        }
+        setDefaultSrcPackage(DEFAULT_CLIENT_PKG);
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         // Normalize OpenAPI definition
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource);
+        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource, filter, openAPICache,
+                profile);
         // Generate ballerina service and resources.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
@@ -322,46 +627,56 @@ public class BallerinaCodeGenerator {
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
                 .withResourceMode(isResource)
+                .withClientGrouping(clientGrouping)
                 .withLicense(licenseHeader)
                 .build();
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
-        }
+        ballerinaClientGenerator.setForkJoinPool(getForkJoinPool(GeneratorUtils.countOperations(openAPIDef)));
+        SyntaxTree clientSyntaxTree = generateSource(GenerationProfile.CLIENT_GENERATION, CLIENT, openAPI,
+                openAPIDef, ballerinaClientGenerator::generateSyntaxTree);
+        SyntaxTree utilSyntaxTree = generateSource(GenerationProfile.CLIENT_GENERATION, UTILS, openAPI,
+                openAPIDef, ballerinaClientGenerator.getBallerinaUtilGenerator()::generateUtilSyntaxTree);
 
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new TypeDefinitionRegistry(
                 ballerinaClientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         preGeneratedTypeDefNodes.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+        BallerinaTypesGenerator ballerinaSchemaGenerator = createTypesGenerator(
                 openAPIDef, nullable, preGeneratedTypeDefNodes);
 
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+        SyntaxTree schemaSyntaxTree = generateSource(GenerationProfile.TYPE_GENERATION, TYPES, openAPI, openAPIDef,
+                ballerinaSchemaGenerator::generateSyntaxTree);
+
+        // The syntax trees are formatted while writing the files
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, mainContent, schemaContent, null);
-        }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+            List<String> contents;
+            try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.FORMATTING)) {
+                contents = SOURCE_FORMATTER.formatAll(List.of(clientSyntaxTree, schemaSyntaxTree));
+            }
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                    contents.get(0)));
+            addUtilFile(sourceFiles, utilSyntaxTree);
+            String schemaContent;
+            try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.UNUSED_TYPE_REMOVAL)) {
+                schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, contents.get(0),
+                        contents.get(1), null);
+            }
+            if (!schemaContent.isBlank()) {
+                addTypeFiles(sourceFiles, GenSrcFile.GenFileType.MODEL_SRC, schemaContent);
+            }
+        } else {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                    clientSyntaxTree));
+            addUtilFile(sourceFiles, utilSyntaxTree);
+            if (!isEmpty(schemaSyntaxTree)) {
+                addTypeFiles(sourceFiles, GenSrcFile.GenFileType.MODEL_SRC, schemaSyntaxTree);
+            }
         }
-
         // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
-
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        CONFIG_FILE_NAME, configContent));
-            }
+        // Test boilerplate calls the functions on the `Client`, which are moved to the group clients when grouping
+        if (this.includeTestFiles && clientGrouping == ClientGrouping.NONE) {
+            addTestFiles(sourceFiles, new BallerinaTestGenerator(ballerinaClientGenerator));
         }
 
         return sourceFiles;
@@ -371,10 +686,20 @@ public class BallerinaCodeGenerator {
     public List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
                                                       Filter filter, boolean nullable)
             throws IOException, FormatterException, BallerinaOpenApiException {
-        if (srcPackage == null || srcPackage.isEmpty()) {
-            srcPackage = DEFAULT_MOCK_PKG;
+        List<GenSrcFile> sourceFiles = generateServiceFiles(openAPI, serviceName, filter, nullable);
+        for (GenSrcFile sourceFile : sourceFiles) {
+            if (sourceFile.getSyntaxTree() != null) {
+                sourceFile.setContent(SOURCE_FORMATTER.format(sourceFile.getSyntaxTree()));
+                sourceFile.setSyntaxTree(null);
+            }
         }
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, false);
+        return sourceFiles;
+    }
+
+    private List<GenSrcFile> generateServiceFiles(Path openAPI, String serviceName, Filter filter, boolean nullable)
+            throws IOException, BallerinaOpenApiException {
+        setDefaultSrcPackage(DEFAULT_MOCK_PKG);
+        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, false, filter, openAPICache, profile);
         if (openAPIDef.getInfo() == null) {
             throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
                     openAPI);
@@ -392,21 +717,136 @@ public class BallerinaCodeGenerator {
                 serviceName.toLowerCase(Locale.ENGLISH);
         String srcFile = concatTitle + "_service.bal";
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(openAPIDef, filter);
-        String mainContent = Formatter.format(ballerinaServiceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+        ballerinaServiceGenerator.setForkJoinPool(getForkJoinPool(GeneratorUtils.countOperations(openAPIDef)));
+        SyntaxTree serviceSyntaxTree = generateSource(GenerationProfile.SERVICE_GENERATION, SERVICE, openAPI,
+                openAPIDef, ballerinaServiceGenerator::generateSyntaxTree);
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new TypeDefinitionRegistry(
                 ballerinaServiceGenerator.getTypeInclusionRecords());
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+        BallerinaTypesGenerator ballerinaSchemaGenerator = createTypesGenerator(
                 openAPIDef, nullable, preGeneratedTypeDefNodes);
-        String schemaContent = Formatter.format(
-                ballerinaSchemaGenerator.generateSyntaxTree()).toString();
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+        SyntaxTree schemaSyntaxTree = generateSource(GenerationProfile.TYPE_GENERATION, TYPES, openAPI, openAPIDef,
+                ballerinaSchemaGenerator::generateSyntaxTree);
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, serviceSyntaxTree));
+        if (!isEmpty(schemaSyntaxTree)) {
+            addTypeFiles(sourceFiles, GenSrcFile.GenFileType.GEN_SRC, schemaSyntaxTree);
         }
         return sourceFiles;
     }
 
+    private void addUtilFile(List<GenSrcFile> sourceFiles, SyntaxTree utilSyntaxTree) {
+        if (!isEmpty(utilSyntaxTree)) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                    utilSyntaxTree));
+        }
+    }
+
+    private void addTypeFiles(List<GenSrcFile> sourceFiles, GenSrcFile.GenFileType type, String schemaContent) {
+        if (maxTypesPerFile > 0) {
+            addTypeFiles(sourceFiles, type, SyntaxTree.from(TextDocuments.from(schemaContent)));
+        } else {
+            sourceFiles.add(new GenSrcFile(type, srcPackage, TYPE_FILE_NAME, schemaContent));
+        }
+    }
+
+    /**
+     * Adds the types file, or the shards of the types module when the module has more types than the configured
+     * number of types per file. The shards are named by their index, ex: types_0.bal, types_2.bal, hence the other
+     * shards keep their names when a shard is empty.
+     */
+    private void addTypeFiles(List<GenSrcFile> sourceFiles, GenSrcFile.GenFileType type, SyntaxTree schemaSyntaxTree) {
+        if (maxTypesPerFile <= 0) {
+            sourceFiles.add(new GenSrcFile(type, srcPackage, TYPE_FILE_NAME, schemaSyntaxTree));
+            return;
+        }
+        for (Map.Entry<Integer, SyntaxTree> shard :
+                new TypesModuleSharder(maxTypesPerFile).partition(schemaSyntaxTree).entrySet()) {
+            String fileName = shard.getKey() == TypesModuleSharder.UNPARTITIONED ? TYPE_FILE_NAME :
+                    String.format(TYPE_SHARD_FILE_NAME, shard.getKey());
+            sourceFiles.add(new GenSrcFile(type, srcPackage, fileName, shard.getValue()));
+        }
+    }
+
+    private void addTestFiles(List<GenSrcFile> sourceFiles, BallerinaTestGenerator ballerinaTestGenerator)
+            throws IOException, BallerinaOpenApiException {
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                ballerinaTestGenerator.generateSyntaxTree()));
+        String configContent = ballerinaTestGenerator.getConfigTomlFile();
+        if (!configContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                    CONFIG_FILE_NAME, configContent));
+        }
+    }
+
+    /**
+     * Generates the syntax tree of a source, recording the generation in the profile and as a flight recorder event.
+     *
+     * @param phase        phase of the profile
+     * @param kind         kind of the generated source
+     * @param contractPath path of the contract
+     * @param openAPIDef   normalized contract
+     * @param generation   generation of the syntax tree
+     * @return generated syntax tree
+     */
+    private SyntaxTree generateSource(String phase, String kind, Path contractPath, OpenAPI openAPIDef,
+                                      SourceGeneration generation) throws IOException, BallerinaOpenApiException {
+        SourceGenerationEvent event = new SourceGenerationEvent();
+        event.begin();
+        SyntaxTree syntaxTree;
+        try (GenerationProfile.Phase ignored = profile.start(phase)) {
+            syntaxTree = generation.generate();
+        }
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        profile.count(GenerationProfile.GENERATED_MEMBERS, modulePartNode.members().size());
+        if (event.shouldCommit()) {
+            event.setContract(contractPath.toString());
+            event.setKind(kind);
+            event.setOperationCount(GeneratorUtils.countOperations(openAPIDef));
+            event.setGeneratedMembers(modulePartNode.members().size());
+            event.commit();
+        }
+        return syntaxTree;
+    }
+
+    /**
+     * Checks whether the given syntax tree has no imports and module members, which formats to a blank source.
+     */
+    private static boolean isEmpty(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        return modulePartNode.imports().isEmpty() && modulePartNode.members().isEmpty();
+    }
+
+    /**
+     * Creates the types generator for the given definition. Definitions with a large number of component schemas are
+     * converted on the common fork join pool, which produces the same types as the sequential generation.
+     */
+    private static BallerinaTypesGenerator createTypesGenerator(OpenAPI openAPIDef, boolean nullable,
+                                                                List<TypeDefinitionNode> preGeneratedTypeDefNodes) {
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable,
+                preGeneratedTypeDefNodes);
+        if (openAPIDef.getComponents() != null && openAPIDef.getComponents().getSchemas() != null) {
+            ballerinaSchemaGenerator.setForkJoinPool(getForkJoinPool(
+                    openAPIDef.getComponents().getSchemas().size()));
+        }
+        return ballerinaSchemaGenerator;
+    }
+
+    /**
+     * Returns the common fork join pool when the number of independent generation units (schemas or operations) is
+     * large enough to benefit from parallel generation, otherwise null to generate sequentially.
+     */
+    private static ForkJoinPool getForkJoinPool(int generationUnits) {
+        return generationUnits >= PARALLEL_GENERATION_THRESHOLD ? ForkJoinPool.commonPool() : null;
+    }
+
+    /**
+     * Set the profile to record the phases of the generation in. The batch generation does not record its phases.
+     *
+     * @param profile profile of the generation
+     */
+    public void setProfile(GenerationProfile profile) {
+        this.profile = profile;
+    }
+
     /**
      * Set the content of license header.
      *
@@ -424,4 +864,73 @@ public class BallerinaCodeGenerator {
     public void setIncludeTestFiles(boolean includeTestFiles) {
         this.includeTestFiles = includeTestFiles;
     }
+
+    /**
+     * Set the cache of the normalized OpenAPI definitions.
+     *
+     * @param openAPICache cache to load the normalized definitions from, or null to parse the definitions always
+     */
+    public void setOpenAPICache(OpenAPICache openAPICache) {
+        this.openAPICache = openAPICache;
+    }
+
+    /**
+     * Set the number of types in a types file. The types of the larger types modules are split into multiple files,
+     * which hold the given number of types on average. A file may hold more types when the type names hash unevenly.
+     *
+     * @param maxTypesPerFile average number of types in a file, or zero to generate a single types file always
+     */
+    public void setMaxTypesPerFile(int maxTypesPerFile) {
+        this.maxTypesPerFile = maxTypesPerFile;
+    }
+
+    /**
+     * Set whether to skip the generation when the contract and the options are unchanged since the last generation.
+     * A manifest of the generation is written next to the generated sources when enabled.
+     *
+     * @param incremental whether to generate incrementally
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Set the prompt which asks whether to override an existing file with a generated file of the same name. The
+     * prompt returns the answer of the user, and the generated file is written with another name unless the answer
+     * is "y". By default the prompt asks on the console, and the existing files are overwritten when there is no
+     * console.
+     *
+     * @param overwritePrompt prompt which returns the answer to the given question, or null to overwrite the existing
+     *                        files without prompting
+     */
+    public void setOverwritePrompt(UnaryOperator<String> overwritePrompt) {
+        this.overwritePrompt = overwritePrompt;
+    }
+
+    /**
+     * Asks the given question on the console, which is the default overwrite prompt.
+     *
+     * @param question question to ask
+     * @return - answer of the user, or "y" when there is no console to ask on
+     */
+    public static String askOnConsole(String question) {
+        Console console = System.console();
+        return console != null ? console.readLine(question) : "y";
+    }
+
+    /**
+     * Set how the client functions are grouped into client classes.
+     *
+     * @param clientGrouping value received from command line by "--split-client"
+     */
+    public void setClientGrouping(ClientGrouping clientGrouping) {
+        this.clientGrouping = clientGrouping;
+    }
+
+    /**
+     * Generation of the syntax tree of a source.
+     */
+    private interface SourceGeneration {
+        SyntaxTree generate() throws IOException, BallerinaOpenApiException;
+    }
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT;
+import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.REMOTE;
+import static io.ballerina.openapi.cmd.CmdConstants.RESOURCE;
+import static io.ballerina.openapi.cmd.CmdConstants.SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.YAML_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.YML_EXTENSION;
+import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
+
+/**
+ * Contains the util functions to find the OpenAPI contracts of a batch generation. The contracts are given by a
+ * directory, a glob pattern or a batch manifest listing the contracts along with their options, such as
+ * <pre>
+ * contracts:
+ *   - contract: pets/openapi.yaml
+ *     mode: client
+ *     tags: [pets]
+ *     output: clients/pets
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+public class BatchContracts {
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final String CONTRACTS = "contracts";
+    private static final String CONTRACT = "contract";
+    private static final String MODE = "mode";
+    private static final String TAGS = "tags";
+    private static final String OPERATIONS = "operations";
+    private static final String OUTPUT = "output";
+    private static final String SERVICE_NAME = "serviceName";
+    private static final String NULLABLE = "nullable";
+    private static final String CLIENT_METHODS = "clientMethods";
+
+    private BatchContracts() {
+    }
+
+    /**
+     * Checks whether the given input of the command is a directory or a glob pattern of contracts.
+     */
+    public static boolean isBatchInput(String input) {
+        if (isGlob(input)) {
+            try {
+                // Contract files with the glob characters in their names are not patterns
+                return !Files.isRegularFile(Paths.get(input));
+            } catch (InvalidPathException e) {
+                return true;
+            }
+        }
+        return Files.isDirectory(Paths.get(input));
+    }
+
+    /**
+     * Returns the entries for the contracts in the given directory or matching the given glob pattern. Each contract
+     * is generated with the given options, in a directory of the output directory named after the path of the
+     * contract relative to the input directory.
+     *
+     * @param input    directory or glob pattern of the contracts
+     * @param defaults options of the generation
+     * @return - batch entries of the contracts sorted by their paths
+     * @throws IOException - when the input directory can not be read
+     */
+    public static List<BatchEntry> getEntries(String input, BatchEntry defaults) throws IOException {
+        Path inputDirectory;
+        PathMatcher pathMatcher;
+        int maxDepth = Integer.MAX_VALUE;
+        if (isGlob(input)) {
+            String normalizedInput = input.replace('\\', '/');
+            int globIndex = indexOfGlob(normalizedInput);
+            int separatorIndex = normalizedInput.lastIndexOf('/', globIndex);
+            inputDirectory = separatorIndex < 0 ? Paths.get("") : Paths.get(normalizedInput.substring(0,
+                    separatorIndex + 1));
+            String pattern = normalizedInput.substring(separatorIndex + 1);
+            pathMatcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+            if (!pattern.contains("**")) {
+                // Only the directories of the pattern segments are walked
+                maxDepth = pattern.split("/").length;
+            }
+        } else {
+            inputDirectory = Paths.get(input);
+            pathMatcher = path -> true;
+        }
+        Path baseDirectory = inputDirectory.toAbsolutePath().normalize();
+        List<BatchEntry> entries = new ArrayList<>();
+        if (!Files.isDirectory(baseDirectory)) {
+            return entries;
+        }
+        List<Path> contractPaths;
+        try (Stream<Path> paths = Files.walk(baseDirectory, maxDepth)) {
+            contractPaths = paths.filter(path -> Files.isRegularFile(path) && isContract(path))
+                    .filter(path -> !isHidden(baseDirectory.relativize(path)))
+                    .filter(path -> pathMatcher.matches(baseDirectory.relativize(path)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path contractPath : contractPaths) {
+            entries.add(createEntry(defaults, contractPath, baseDirectory));
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the entries of the given batch manifest. The paths in the manifest are relative to the directory of the
+     * manifest, and the options which are not given in an entry are taken from the given options.
+     *
+     * @param manifestPath path of the batch manifest
+     * @param defaults     options of the generation
+     * @return - batch entries in the order of the manifest
+     * @throws IOException - when the manifest can not be read or an entry of the manifest is invalid
+     */
+    public static List<BatchEntry> readManifest(Path manifestPath, BatchEntry defaults) throws IOException {
+        Path baseDirectory = manifestPath.toAbsolutePath().normalize().getParent();
+        String content = Files.readString(manifestPath);
+        JsonNode manifestNode = content.trim().startsWith("{") ? Json.mapper().readTree(content) :
+                Yaml.mapper().readTree(content);
+        JsonNode contractsNode = manifestNode == null ? null : manifestNode.get(CONTRACTS);
+        if (contractsNode == null || !contractsNode.isArray()) {
+            throw new IOException("Batch manifest " + manifestPath + " should have a list of `contracts`.");
+        }
+        List<BatchEntry> entries = new ArrayList<>();
+        for (JsonNode entryNode : contractsNode) {
+            JsonNode contractNode = entryNode.isTextual() ? entryNode : entryNode.get(CONTRACT);
+            if (contractNode == null || !contractNode.isTextual()) {
+                throw new IOException(String.format("Contract path of the entry %d of the batch manifest %s is " +
+                        "missing.", entries.size() + 1, manifestPath));
+            }
+            Path contractPath = baseDirectory.resolve(contractNode.asText()).normalize();
+            BatchEntry.Builder builder = new BatchEntry.Builder(createEntry(defaults, contractPath, baseDirectory));
+            if (entryNode.isObject()) {
+                readOptions(entryNode, baseDirectory, builder, entries.size() + 1, manifestPath);
+            }
+            entries.add(builder.build());
+        }
+        return entries;
+    }
+
+    private static void readOptions(JsonNode entryNode, Path baseDirectory, BatchEntry.Builder builder,
+                                    int entryNumber, Path manifestPath) throws IOException {
+        if (entryNode.hasNonNull(MODE)) {
+            String mode = entryNode.get(MODE).asText().toLowerCase(Locale.ENGLISH);
+            if (!mode.equals(SERVICE) && !mode.equals(CLIENT)) {
+                throw new IOException(String.format("Mode of the entry %d of the batch manifest %s should be " +
+                        "either `service` or `client`.", entryNumber, manifestPath));
+            }
+            builder.withMode(mode);
+        }
+        if (entryNode.hasNonNull(CLIENT_METHODS)) {
+            String clientMethods = entryNode.get(CLIENT_METHODS).asText().toLowerCase(Locale.ENGLISH);
+            if (!clientMethods.equals(RESOURCE) && !clientMethods.equals(REMOTE)) {
+                throw new IOException(String.format("Client methods of the entry %d of the batch manifest %s " +
+                        "should be either `remote` or `resource`.", entryNumber, manifestPath));
+            }
+            builder.withResourceMode(clientMethods.equals(RESOURCE));
+        }
+        if (entryNode.has(TAGS) || entryNode.has(OPERATIONS)) {
+            List<String> operations = new ArrayList<>();
+            for (String operation : readList(entryNode.get(OPERATIONS))) {
+                operations.add(getValidName(operation, false));
+            }
+            builder.withFilter(new Filter(readList(entryNode.get(TAGS)), operations));
+        }
+        if (entryNode.hasNonNull(OUTPUT)) {
+            builder.withOutputPath(baseDirectory.resolve(entryNode.get(OUTPUT).asText()).normalize());
+        }
+        if (entryNode.hasNonNull(SERVICE_NAME)) {
+            builder.withServiceName(entryNode.get(SERVICE_NAME).asText());
+        }
+        if (entryNode.hasNonNull(NULLABLE)) {
+            builder.withNullable(entryNode.get(NULLABLE).asBoolean());
+        }
+    }
+
+    /**
+     * Reads a list given either as an array or as a comma separated string, as in the command options.
+     */
+    private static List<String> readList(JsonNode listNode) {
+        List<String> values = new ArrayList<>();
+        if (listNode == null || listNode.isNull()) {
+            return values;
+        }
+        if (listNode.isArray()) {
+            for (JsonNode valueNode : listNode) {
+                values.add(valueNode.asText().trim());
+            }
+        } else {
+            values.addAll(Arrays.stream(listNode.asText().split(","))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .collect(Collectors.toList()));
+        }
+        return values;
+    }
+
+    private static BatchEntry createEntry(BatchEntry defaults, Path contractPath, Path baseDirectory) {
+        String fileName = contractPath.getFileName().toString();
+        String contractName = fileName.substring(0, fileName.lastIndexOf('.') > 0 ? fileName.lastIndexOf('.') :
+                fileName.length());
+        // Contracts are generated in separate directories, as the generated files of the contracts have same names
+        Path relativePath = baseDirectory.relativize(contractPath.getParent()).resolve(contractName);
+        if (relativePath.startsWith("..")) {
+            relativePath = Paths.get(contractName);
+        }
+        return new BatchEntry.Builder(defaults)
+                .withContractPath(contractPath)
+                .withServiceName(contractName.split("\\.")[0])
+                .withOutputPath(defaults.getOutputPath().resolve(relativePath))
+                .build();
+    }
+
+    private static boolean isContract(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(YML_EXTENSION) ||
+                fileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Checks whether the path has a hidden file or directory, such as the manifests of the generated sources.
+     */
+    private static boolean isHidden(Path relativePath) {
+        for (Path name : relativePath) {
+            if (name.toString().startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGlob(String input) {
+        return indexOfGlob(input) >= 0;
+    }
+
+    private static int indexOfGlob(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(input.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
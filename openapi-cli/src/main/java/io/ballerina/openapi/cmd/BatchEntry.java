@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.model.Filter;
+
+import java.nio.file.Path;
+
+/**
+ * This model is used for storing an OpenAPI contract of a batch generation along with its generation options.
+ *
+ * @since 1.3.0
+ */
+public class BatchEntry {
+    private final Path contractPath;
+    private final String mode;
+    private final Filter filter;
+    private final Path outputPath;
+    private final String serviceName;
+    private final boolean nullable;
+    private final boolean resourceMode;
+
+    private BatchEntry(Builder batchEntryBuilder) {
+        this.contractPath = batchEntryBuilder.contractPath;
+        this.mode = batchEntryBuilder.mode;
+        this.filter = batchEntryBuilder.filter;
+        this.outputPath = batchEntryBuilder.outputPath;
+        this.serviceName = batchEntryBuilder.serviceName;
+        this.nullable = batchEntryBuilder.nullable;
+        this.resourceMode = batchEntryBuilder.resourceMode;
+    }
+
+    public Path getContractPath() {
+        return contractPath;
+    }
+
+    /**
+     * Returns the generation mode, which is either `service` or `client`, or null to generate both.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public Path getOutputPath() {
+        return outputPath;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public boolean isResourceMode() {
+        return resourceMode;
+    }
+
+    /**
+     * Batch entry builder class.
+     */
+    public static class Builder {
+        private Path contractPath;
+        private String mode;
+        private Filter filter = new Filter();
+        private Path outputPath;
+        private String serviceName;
+        private boolean nullable = false;
+        private boolean resourceMode = true;
+
+        public Builder() {
+        }
+
+        /**
+         * Creates a builder with the options of the given entry, which are overridden by the options of the entries
+         * in the batch.
+         */
+        public Builder(BatchEntry batchEntry) {
+            this.contractPath = batchEntry.contractPath;
+            this.mode = batchEntry.mode;
+            this.filter = batchEntry.filter;
+            this.outputPath = batchEntry.outputPath;
+            this.serviceName = batchEntry.serviceName;
+            this.nullable = batchEntry.nullable;
+            this.resourceMode = batchEntry.resourceMode;
+        }
+
+        public Builder withContractPath(Path contractPath) {
+            this.contractPath = contractPath;
+            return this;
+        }
+
+        public Builder withMode(String mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        public Builder withFilter(Filter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public Builder withOutputPath(Path outputPath) {
+            this.outputPath = outputPath;
+            return this;
+        }
+
+        public Builder withServiceName(String serviceName) {
+            this.serviceName = serviceName;
+            return this;
+        }
+
+        public Builder withNullable(boolean nullable) {
+            this.nullable = nullable;
+            return this;
+        }
+
+        public Builder withResourceMode(boolean resourceMode) {
+            this.resourceMode = resourceMode;
+            return this;
+        }
+
+        public BatchEntry build() {
+            return new BatchEntry(this);
+        }
+    }
+}
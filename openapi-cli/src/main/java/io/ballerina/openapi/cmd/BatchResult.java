@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import java.util.Optional;
+
+/**
+ * This model is used for storing the result of generating the sources for a contract of a batch generation.
+ *
+ * @since 1.3.0
+ */
+public class BatchResult {
+    private final BatchEntry entry;
+    private final String output;
+    private final String error;
+
+    public BatchResult(BatchEntry entry, String output, String error) {
+        this.entry = entry;
+        this.output = output;
+        this.error = error;
+    }
+
+    public BatchEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * Returns the messages printed while generating the sources for the contract.
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    /**
+     * Returns the error message when the generation of the contract failed.
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
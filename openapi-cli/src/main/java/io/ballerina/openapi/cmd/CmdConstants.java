@@ -30,6 +30,9 @@ public class CmdConstants {
     public static final String RESOURCE = "resource";
     public static final String REMOTE = "remote";
     public static final String SERVICE = "service";
+    public static final String CLIENT = "client";
+    public static final String TYPES = "types";
+    public static final String UTILS = "utils";
 
     /**
      * Enum to select the code generation mode.
@@ -77,6 +80,7 @@ public class CmdConstants {
     }
 
     public static final String TYPE_FILE_NAME = "types.bal";
+    public static final String TYPE_SHARD_FILE_NAME = "types_%d.bal";
     public static final String CLIENT_FILE_NAME = "client.bal";
     public static final String UTIL_FILE_NAME = "utils.bal";
     public static final String TEST_FILE_NAME = "test.bal";
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.openapi.cmd.CmdConstants.BAL_EXTENSION;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches the input file of the openapi command along with the local files referred by the OpenAPI contract, and
+ * runs the generation when they change. Bursts of changes, such as an editor saving several files, are coalesced
+ * into a single generation which runs once the files are unchanged for the debounce period.
+ *
+ * @since 1.3.0
+ */
+public class ContractWatcher implements Closeable {
+    private final Path inputPath;
+    private final long debounceMillis;
+    private final Runnable generation;
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+    private volatile Set<Path> watchedFiles = Set.of();
+
+    public ContractWatcher(Path inputPath, long debounceMillis, Runnable generation) throws IOException {
+        this.inputPath = inputPath.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.generation = generation;
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Returns the files watched for changes, which are the input file and the files referred by it.
+     */
+    public Set<Path> getWatchedFiles() {
+        return watchedFiles;
+    }
+
+    /**
+     * Blocks the current thread running the generation for the changes of the watched files until the watcher is
+     * closed or the thread is interrupted. The watched files are updated after each generation, as the changed
+     * contract may refer different files.
+     */
+    public void watch() throws IOException, InterruptedException {
+        updateWatchedFiles();
+        try {
+            while (true) {
+                boolean changed = isWatchedFileChanged(watchService.take());
+                // Wait until the files are unchanged for the debounce period
+                WatchKey watchKey;
+                while ((watchKey = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isWatchedFileChanged(watchKey);
+                }
+                if (changed) {
+                    generation.run();
+                    updateWatchedFiles();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // The watcher is closed
+        }
+    }
+
+    private boolean isWatchedFileChanged(WatchKey watchKey) {
+        boolean changed = false;
+        Path directory = (Path) watchKey.watchable();
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events are lost, hence the watched files may have changed
+                changed = true;
+            } else if (watchedFiles.contains(directory.resolve((Path) event.context()))) {
+                changed = true;
+            }
+        }
+        watchKey.reset();
+        return changed;
+    }
+
+    private void updateWatchedFiles() throws IOException {
+        Set<Path> files = inputPath.toString().endsWith(BAL_EXTENSION) ? Set.of(inputPath) :
+                GeneratorUtils.getReferredFiles(inputPath);
+        Map<Path, WatchKey> previousDirectories = new HashMap<>(watchedDirectories);
+        watchedDirectories.clear();
+        for (Path watchedFile : files) {
+            Path directory = watchedFile.getParent();
+            if (!watchedDirectories.containsKey(directory)) {
+                WatchKey watchKey = previousDirectories.remove(directory);
+                if (watchKey == null) {
+                    // Editors often save files by replacing them, which is notified as a new file
+                    watchKey = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+                }
+                watchedDirectories.put(directory, watchKey);
+            }
+        }
+        for (WatchKey staleKey : previousDirectories.values()) {
+            staleKey.cancel();
+        }
+        watchedFiles = files;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.OpenAPICache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.UnaryOperator;
+
+import static io.ballerina.openapi.cmd.GenerationDaemon.EXIT_FRAME;
+import static io.ballerina.openapi.cmd.GenerationDaemon.INFO_FILE_NAME;
+import static io.ballerina.openapi.cmd.GenerationDaemon.OUTPUT_FRAME;
+import static io.ballerina.openapi.cmd.GenerationDaemon.PING_REQUEST;
+import static io.ballerina.openapi.cmd.GenerationDaemon.PORT;
+import static io.ballerina.openapi.cmd.GenerationDaemon.PROMPT_FRAME;
+import static io.ballerina.openapi.cmd.GenerationDaemon.RUN_REQUEST;
+import static io.ballerina.openapi.cmd.GenerationDaemon.STOP_REQUEST;
+import static io.ballerina.openapi.cmd.GenerationDaemon.TOKEN;
+import static io.ballerina.openapi.cmd.GenerationDaemon.VERSION;
+
+/**
+ * Client which runs the openapi commands on the {@link GenerationDaemon}.
+ *
+ * @since 1.3.0
+ */
+public class DaemonClient {
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    // The daemon serves one command at a time, hence a busy daemon does not answer the handshake in time
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 5000;
+    private static final int RESPONSE_TIMEOUT_MILLIS = 300000;
+
+    private final int port;
+    private final String token;
+
+    private DaemonClient(int port, String token) {
+        this.port = port;
+        this.token = token;
+    }
+
+    /**
+     * Returns the client of the daemon of this tool version, when the info file of such a daemon is in the given
+     * directory. The daemon may not be running anymore, in which case connecting to it fails.
+     *
+     * @param daemonDirectory directory of the info file of the daemon
+     * @return - client of the daemon, or empty when there is no daemon of this tool version
+     */
+    public static Optional<DaemonClient> find(Path daemonDirectory) {
+        Path infoPath = daemonDirectory.resolve(INFO_FILE_NAME);
+        if (!Files.isRegularFile(infoPath)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(infoPath, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        // A daemon of another tool version generates different sources
+        String token = properties.getProperty(TOKEN);
+        if (token == null || !OpenAPICache.getToolVersion().equals(properties.getProperty(VERSION))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new DaemonClient(Integer.parseInt(properties.getProperty(PORT, "")), token));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Runs the openapi command with the given arguments on the daemon, writing the output of the command to the
+     * given stream. The prompts of the command are answered on the console of this process.
+     *
+     * @param workingDirectory directory the command is run in
+     * @param args             arguments of the command
+     * @param outputStream     stream to write the output of the command
+     * @return - exit code of the command
+     * @throws ConnectException - when the daemon is not running, busy or does not prove its token
+     * @throws IOException      - when the connection to the daemon fails or times out while running the command
+     */
+    public int run(Path workingDirectory, List<String> args, OutputStream outputStream) throws IOException {
+        return run(workingDirectory, args, outputStream,
+                System.console() != null ? BallerinaCodeGenerator::askOnConsole : null);
+    }
+
+    /**
+     * Runs the openapi command on the daemon, answering the prompts of the command with the given prompt.
+     *
+     * @param prompt prompt which returns the answer to the given question, or null to let the command overwrite the
+     *               existing files without prompting
+     */
+    int run(Path workingDirectory, List<String> args, OutputStream outputStream, UnaryOperator<String> prompt)
+            throws IOException {
+        try (Socket socket = connect()) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            authenticate(input, output);
+            output.writeUTF(RUN_REQUEST);
+            output.writeUTF(workingDirectory.toAbsolutePath().toString());
+            output.writeInt(args.size());
+            for (String arg : args) {
+                output.writeUTF(arg);
+            }
+            output.writeBoolean(prompt != null);
+            output.flush();
+            socket.setSoTimeout(RESPONSE_TIMEOUT_MILLIS);
+            return readResponse(input, output, outputStream, prompt);
+        }
+    }
+
+    /**
+     * Checks whether the daemon is running and accepts the commands of this client.
+     */
+    public boolean isRunning() {
+        try {
+            return sendRequest(PING_REQUEST) == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops the daemon once it completes the running command.
+     *
+     * @throws IOException - when the daemon is not running
+     */
+    public void stop() throws IOException {
+        sendRequest(STOP_REQUEST);
+    }
+
+    private int sendRequest(String request) throws IOException {
+        try (Socket socket = connect()) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            authenticate(input, output);
+            output.writeUTF(request);
+            output.flush();
+            return readResponse(input, output, OutputStream.nullOutputStream(), null);
+        }
+    }
+
+    /**
+     * Checks that the daemon holds the token before sending the token, so that the token is not sent to another
+     * process which listens on the port of a stopped daemon.
+     */
+    private void authenticate(DataInputStream input, DataOutputStream output) throws IOException {
+        String challenge = GenerationDaemon.createToken();
+        String proof;
+        try {
+            output.writeUTF(challenge);
+            output.flush();
+            proof = input.readUTF();
+        } catch (IOException e) {
+            throw new ConnectException("Handshake with the OpenAPI daemon failed. " + e.getLocalizedMessage());
+        }
+        if (!MessageDigest.isEqual(GenerationDaemon.prove(token, challenge).getBytes(StandardCharsets.UTF_8),
+                proof.getBytes(StandardCharsets.UTF_8))) {
+            throw new ConnectException("The OpenAPI daemon did not prove its token");
+        }
+        output.writeUTF(token);
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+            return socket;
+        } catch (SocketTimeoutException e) {
+            socket.close();
+            throw new ConnectException("Connection to the OpenAPI daemon timed out");
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private static int readResponse(DataInputStream input, DataOutputStream output, OutputStream outputStream,
+                                    UnaryOperator<String> prompt) throws IOException {
+        while (true) {
+            byte frame = input.readByte();
+            if (frame == OUTPUT_FRAME) {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                outputStream.write(bytes);
+            } else if (frame == PROMPT_FRAME && prompt != null) {
+                String question = input.readUTF();
+                outputStream.flush();
+                String answer = prompt.apply(question);
+                output.writeUTF(answer != null ? answer : "");
+                output.flush();
+            } else if (frame == EXIT_FRAME) {
+                outputStream.flush();
+                return input.readInt();
+            } else {
+                throw new IOException("Invalid response from the OpenAPI daemon");
+            }
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.GenerationManifest;
+import io.ballerina.openapi.core.OpenAPICache;
+import io.ballerina.projects.util.RepoUtils;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Serves the openapi commands in a long-lived JVM, so that the commands do not pay the startup of a JVM and the
+ * loading of the parser, the compiler and the formatter each time. The loaded classes, the JIT compiled code and the
+ * cached templates are reused between the commands.
+ * <p>
+ * The daemon listens on a loopback port and writes the port along with a random token to an info file which is only
+ * readable by the owner. The daemon proves that it holds the token by answering a challenge of the client, after
+ * which the client authenticates by sending the token. Commands are served one at a time, as the standard streams are
+ * redirected to the client while a command runs. The prompts of a command are forwarded to the client, which answers
+ * them on its console. The daemon stops when it is idle for the given timeout, or when its heap usage exceeds the
+ * given memory limit after a command.
+ *
+ * @since 1.3.0
+ */
+public class GenerationDaemon {
+    public static final String DAEMON_DIRECTORY = "openapi-daemon";
+    static final String INFO_FILE_NAME = "daemon.properties";
+    static final String PORT = "port";
+    static final String TOKEN = "token";
+    static final String VERSION = "version";
+    static final String PID = "pid";
+    static final String RUN_REQUEST = "run";
+    static final String PING_REQUEST = "ping";
+    static final String STOP_REQUEST = "stop";
+    static final byte OUTPUT_FRAME = 'O';
+    static final byte EXIT_FRAME = 'X';
+    static final byte PROMPT_FRAME = 'P';
+
+    private static final int TOKEN_LENGTH = 32;
+    private static final String PROOF_ALGORITHM = "HmacSHA256";
+    private static final int REQUEST_TIMEOUT_MILLIS = 10000;
+
+    private final Path daemonDirectory;
+    private final Duration idleTimeout;
+    private final long maxMemory;
+    private final PrintStream outStream;
+    private String token;
+    private boolean stopped;
+
+    public GenerationDaemon(Path daemonDirectory, Duration idleTimeout, long maxMemory, PrintStream outStream) {
+        this.daemonDirectory = daemonDirectory;
+        this.idleTimeout = idleTimeout;
+        this.maxMemory = maxMemory;
+        this.outStream = outStream;
+    }
+
+    /**
+     * Returns the directory of the info file of the daemon, which is shared by the daemon and the clients of a user.
+     */
+    public static Path getDefaultDaemonDirectory() {
+        return RepoUtils.createAndGetHomeReposPath().resolve(DAEMON_DIRECTORY);
+    }
+
+    /**
+     * Serves the commands until the daemon is stopped, idle for the idle timeout or over the memory limit.
+     *
+     * @throws IOException - when the daemon can not listen for the commands
+     */
+    public void run() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, idleTimeout.toMillis()));
+            token = createToken();
+            Path infoPath = writeInfo(serverSocket.getLocalPort());
+            outStream.println("OpenAPI daemon started on port " + serverSocket.getLocalPort() + ".");
+            try {
+                while (!stopped) {
+                    Socket socket;
+                    try {
+                        socket = serverSocket.accept();
+                    } catch (SocketTimeoutException e) {
+                        outStream.println("Stopping the OpenAPI daemon as it is idle.");
+                        break;
+                    }
+                    try (socket) {
+                        serve(socket);
+                    } catch (IOException e) {
+                        outStream.println("Unable to serve the command. " + e.getLocalizedMessage());
+                    }
+                    if (!stopped && isOverMemoryLimit()) {
+                        outStream.println("Stopping the OpenAPI daemon as it uses more than the memory limit.");
+                        break;
+                    }
+                }
+            } finally {
+                deleteInfo(infoPath);
+            }
+        }
+    }
+
+    private void serve(Socket socket) throws IOException {
+        // Requests are read with a timeout, so that a stalled client does not block the other clients
+        socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        // The client sends its token only once the daemon proves that it holds the token
+        output.writeUTF(prove(token, input.readUTF()));
+        output.flush();
+        String requestToken = input.readUTF();
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                requestToken.getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
+        String request = input.readUTF();
+        int exitCode = 0;
+        if (STOP_REQUEST.equals(request)) {
+            outStream.println("Stopping the OpenAPI daemon.");
+            stopped = true;
+        } else if (RUN_REQUEST.equals(request)) {
+            Path workingDirectory = Paths.get(input.readUTF());
+            int argCount = input.readInt();
+            List<String> args = new ArrayList<>(argCount);
+            for (int i = 0; i < argCount; i++) {
+                args.add(input.readUTF());
+            }
+            boolean interactive = input.readBoolean();
+            // The command waits for the answers of the prompts as long as the user takes
+            socket.setSoTimeout(0);
+            exitCode = execute(workingDirectory, args, interactive, input, output);
+        } else if (!PING_REQUEST.equals(request)) {
+            exitCode = 1;
+        }
+        output.writeByte(EXIT_FRAME);
+        output.writeInt(exitCode);
+        output.flush();
+    }
+
+    private int execute(Path workingDirectory, List<String> args, boolean interactive, DataInputStream input,
+                        DataOutputStream output) {
+        FrameOutputStream frameOutputStream = new FrameOutputStream(output);
+        PrintStream printStream = new PrintStream(frameOutputStream, true, StandardCharsets.UTF_8);
+        PrintStream systemOut = System.out;
+        PrintStream systemErr = System.err;
+        // Messages printed by the generators are sent to the client as well
+        System.setOut(printStream);
+        System.setErr(printStream);
+        try {
+            OpenApiCmd openApiCmd = new OpenApiCmd(printStream, workingDirectory, false);
+            // Without a console the client overwrites the existing files, as a command run in the client would
+            openApiCmd.setOverwritePrompt(interactive ? question -> frameOutputStream.prompt(question, input) : null);
+            new CommandLine(openApiCmd).parseArgs(args.toArray(new String[0]));
+            openApiCmd.execute();
+            return openApiCmd.getExitCode();
+        } catch (CommandLine.ParameterException e) {
+            printStream.println(e.getMessage());
+            return 1;
+        } catch (RuntimeException e) {
+            // A failed command does not stop the daemon
+            printStream.println("Error occurred when running the openapi command. " + e);
+            return 1;
+        } finally {
+            printStream.flush();
+            System.setOut(systemOut);
+            System.setErr(systemErr);
+        }
+    }
+
+    /**
+     * Checks the heap usage after the last collections, as the garbage of the commands does not count towards the
+     * memory limit.
+     */
+    private boolean isOverMemoryLimit() {
+        long usedMemory = 0;
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage collectionUsage = memoryPool.getCollectionUsage();
+            if (memoryPool.getType() == MemoryType.HEAP && collectionUsage != null) {
+                usedMemory += collectionUsage.getUsed();
+            }
+        }
+        return usedMemory > maxMemory;
+    }
+
+    private Path writeInfo(int port) throws IOException {
+        Files.createDirectories(daemonDirectory);
+        Properties properties = new Properties();
+        properties.setProperty(PORT, String.valueOf(port));
+        properties.setProperty(TOKEN, token);
+        properties.setProperty(VERSION, OpenAPICache.getToolVersion());
+        properties.setProperty(PID, String.valueOf(ProcessHandle.current().pid()));
+        Path infoPath = daemonDirectory.resolve(INFO_FILE_NAME);
+        Path tempPath = Files.createTempFile(daemonDirectory, INFO_FILE_NAME, ".tmp");
+        try {
+            if (Files.getFileStore(tempPath).supportsFileAttributeView("posix")) {
+                // The token is only readable by the user who runs the daemon
+                Files.setPosixFilePermissions(tempPath, PosixFilePermissions.fromString("rw-------"));
+            }
+            try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                properties.store(writer, "OpenAPI daemon");
+            }
+            Files.move(tempPath, infoPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        return infoPath;
+    }
+
+    /**
+     * Deletes the info file unless it is replaced by another daemon.
+     */
+    private void deleteInfo(Path infoPath) {
+        Properties properties = new Properties();
+        try {
+            try (Reader reader = Files.newBufferedReader(infoPath, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            if (token.equals(properties.getProperty(TOKEN))) {
+                Files.deleteIfExists(infoPath);
+            }
+        } catch (IOException e) {
+            // The info file is already removed
+        }
+    }
+
+    static String createToken() {
+        byte[] bytes = new byte[TOKEN_LENGTH];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte value : bytes) {
+            token.append(String.format("%02x", value));
+        }
+        return token.toString();
+    }
+
+    /**
+     * Returns the proof that the given token is held, for the given challenge of a client.
+     */
+    static String prove(String token, String challenge) {
+        try {
+            Mac mac = Mac.getInstance(PROOF_ALGORITHM);
+            mac.init(new SecretKeySpec(token.getBytes(StandardCharsets.UTF_8), PROOF_ALGORITHM));
+            return GenerationManifest.toHex(mac.doFinal(challenge.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            // Every Java platform is required to support HmacSHA256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the output of a command as output frames of the response.
+     */
+    private static class FrameOutputStream extends OutputStream {
+        private final DataOutputStream output;
+
+        FrameOutputStream(DataOutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            output.writeByte(OUTPUT_FRAME);
+            output.writeInt(length);
+            output.write(bytes, offset, length);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            output.flush();
+        }
+
+        /**
+         * Sends the given question to the client as a prompt frame and waits for the answer of the user.
+         */
+        synchronized String prompt(String question, DataInputStream input) {
+            try {
+                output.writeByte(PROMPT_FRAME);
+                output.writeUTF(question);
+                output.flush();
+                return input.readUTF();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
+import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.converter.model.OASResult;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
@@ -37,9 +38,11 @@ import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -71,6 +74,49 @@ public class OASContractGenerator {
         return errors;
     }
 
+    /**
+     * Generates the OpenAPI contracts for the services of the given Ballerina file and reports the diagnostics of the
+     * generation.
+     *
+     * @param fileName    The path to a single ballerina file.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param needJson    Generate the OpenAPI specifications in JSON.
+     * @param outStream   Stream to report the diagnostics of the generation.
+     * @return - true when the generation fails with an error
+     */
+    public boolean generateOAS3Definitions(String fileName, Path outPath, String serviceName, Boolean needJson,
+                                           PrintStream outStream) {
+        try {
+            Path balFilePath = Paths.get(new File(fileName).getCanonicalPath());
+            generateOAS3DefinitionsAllService(balFilePath, outPath, serviceName, needJson);
+        } catch (IOException e) {
+            DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
+            errors.add(new ExceptionDiagnostic(message.getCode(), message.getDescription(), null,
+                    e.getLocalizedMessage()));
+        }
+        boolean failed = false;
+        PrintStream diagnosticStream = outStream;
+        for (OpenAPIConverterDiagnostic error : errors) {
+            if (error instanceof ExceptionDiagnostic) {
+                diagnosticStream = System.err;
+                ExceptionDiagnostic exceptionDiagnostic = (ExceptionDiagnostic) error;
+                OpenAPIDiagnostic diagnostic = CmdUtils.constructOpenAPIDiagnostic(exceptionDiagnostic.getCode(),
+                        exceptionDiagnostic.getMessage(), exceptionDiagnostic.getDiagnosticSeverity(),
+                        exceptionDiagnostic.getLocation().orElse(null));
+                diagnosticStream.println(diagnostic.toString());
+                failed = true;
+            } else if (error instanceof IncompatibleResourceDiagnostic) {
+                IncompatibleResourceDiagnostic incompatibleError = (IncompatibleResourceDiagnostic) error;
+                OpenAPIDiagnostic diagnostic = CmdUtils.constructOpenAPIDiagnostic(incompatibleError.getCode(),
+                        incompatibleError.getMessage(), incompatibleError.getDiagnosticSeverity(),
+                        incompatibleError.getLocation().get());
+                diagnosticStream.println(diagnostic.toString());
+            }
+        }
+        return failed;
+    }
+
     /**
      * This util for generating OAS files.
      *
@@ -18,11 +18,10 @@
 package io.ballerina.openapi.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
-import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
-import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
-import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
-import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+import io.ballerina.openapi.core.GenerationProfile;
+import io.ballerina.openapi.core.OpenAPICache;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.model.ClientGrouping;
 import io.ballerina.openapi.core.model.Filter;
 import org.ballerinalang.formatter.core.FormatterException;
 import picocli.CommandLine;
@@ -30,15 +29,22 @@ import picocli.CommandLine;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.net.ConnectException;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.cmd.CmdConstants.BAL_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
 import static io.ballerina.openapi.cmd.CmdConstants.REMOTE;
 import static io.ballerina.openapi.cmd.CmdConstants.RESOURCE;
@@ -58,11 +64,15 @@ import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 )
 public class OpenApiCmd implements BLauncherCmd {
     private static final String CMD_NAME = "openapi";
+    private static final long WATCH_DEBOUNCE_MILLIS = 300;
+    private static final int DEFAULT_DAEMON_IDLE_TIMEOUT = 30;
     private PrintStream outStream;
     private Path executionPath = Paths.get(System.getProperty("user.dir"));
     private Path targetOutputPath;
     private boolean exitWhenFinish;
+    private int exitCode;
     private boolean clientResourceMode;
+    private UnaryOperator<String> overwritePrompt = BallerinaCodeGenerator::askOnConsole;
 
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
@@ -107,6 +117,62 @@ public class OpenApiCmd implements BLauncherCmd {
             " with provided type . Only \"remote\"(default) and \"resource\" options are supported.")
     private String generateClientMethods;
 
+    @CommandLine.Option(names = {"--no-cache"}, description = "Parse the OpenAPI contract without using the cached " +
+            "normalized OpenAPI models")
+    private boolean noCache;
+
+    @CommandLine.Option(names = {"--clear-cache"}, description = "Clear the cached normalized OpenAPI models")
+    private boolean clearCache;
+
+    @CommandLine.Option(names = {"--max-types-per-file"}, description = "Split the generated types into multiple " +
+            "files when there are more types than the given count. The files hold the given number of types on " +
+            "average.")
+    private Integer maxTypesPerFile;
+
+    @CommandLine.Option(names = {"--split-client"}, description = "Generate a client class for each tag or path " +
+            "prefix of the operations. Only \"tag\" and \"path\" options are supported.")
+    private String splitClient;
+
+    @CommandLine.Option(names = {"--force"}, description = "Regenerate the sources even when the OpenAPI contract " +
+            "and the options are unchanged since the last generation. Without this option, the generation is " +
+            "recorded in a .openapi-manifest.json file next to the generated sources")
+    private boolean force;
+
+    @CommandLine.Option(names = {"--watch"}, description = "Regenerate the sources whenever the input file or the " +
+            "files referred by the OpenAPI contract change")
+    private boolean watch;
+
+    @CommandLine.Option(names = {"--batch"}, description = "Generate the sources for the OpenAPI contracts listed " +
+            "in the given batch manifest")
+    private boolean batch;
+
+    @CommandLine.Option(names = {"--timings"}, description = "Print the wall time, CPU time and allocated bytes of " +
+            "each phase of the generation, along with the counts of the generated sources")
+    private boolean timings;
+
+    @CommandLine.Option(names = {"--timings-json"}, description = "Write the timings of the generation to the given " +
+            "JSON file")
+    private String timingsJsonPath;
+
+    @CommandLine.Option(names = {"--daemon"}, description = "Run a daemon which serves the later openapi commands " +
+            "of this user in the same JVM, until it is idle for the idle timeout")
+    private boolean daemon;
+
+    @CommandLine.Option(names = {"--stop-daemon"}, description = "Stop the running openapi daemon")
+    private boolean stopDaemon;
+
+    @CommandLine.Option(names = {"--no-daemon"}, description = "Run the command in this process even when an " +
+            "openapi daemon is running")
+    private boolean noDaemon;
+
+    @CommandLine.Option(names = {"--daemon-idle-timeout"}, description = "Minutes the daemon waits for a command " +
+            "before it stops. Default is 30 minutes.")
+    private Integer daemonIdleTimeout;
+
+    @CommandLine.Option(names = {"--daemon-max-memory"}, description = "Heap usage in megabytes after which the " +
+            "daemon stops. Default is three quarters of the maximum heap size.")
+    private Integer daemonMaxMemory;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -133,6 +199,34 @@ public class OpenApiCmd implements BLauncherCmd {
             outStream.println(commandUsageInfo);
             return;
         }
+        if (daemon) {
+            runDaemon();
+            return;
+        }
+        if (stopDaemon) {
+            stopDaemon();
+            return;
+        }
+        // Only the commands of the launcher are forwarded, as the daemon runs its commands with this class as well
+        if (this.exitWhenFinish && !noDaemon && !watch && runOnDaemon()) {
+            return;
+        }
+        if (clearCache) {
+            try {
+                new OpenAPICache(OpenAPICache.getDefaultCacheDirectory()).clear();
+            } catch (IOException e) {
+                outStream.println("Unable to clear the OpenAPI cache: " + e.getLocalizedMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
+            if (!inputPath) {
+                outStream.println("OpenAPI cache cleared successfully.");
+                if (this.exitWhenFinish) {
+                    Runtime.getRuntime().exit(0);
+                }
+                return;
+            }
+        }
         //Check if cli input argument is present
         if (inputPath) {
             //Check if an OpenApi definition is provided
@@ -141,31 +235,27 @@ public class OpenApiCmd implements BLauncherCmd {
                 exitError(this.exitWhenFinish);
                 return;
             }
+            if (maxTypesPerFile != null && maxTypesPerFile < 1) {
+                outStream.println("'--max-types-per-file' should be a positive number.");
+                exitError(this.exitWhenFinish);
+                return;
+            }
             // If given input is yaml contract, it generates service file and client stub
             // else if given ballerina service file it generates openapi contract file
             // else it generates error message to enter correct input file
             String fileName = argList.get(0);
-            if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
+            if (batch || BatchContracts.isBatchInput(fileName)) {
+                generateBatch(fileName);
+            } else if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
                     fileName.endsWith(YML_EXTENSION)) {
-                List<String> tag = new ArrayList<>();
-                List<String> operation = new ArrayList<>();
-                if (tags != null) {
-                    tag.addAll(Arrays.asList(tags.split(",")));
-                }
-                if (operations != null) {
-                    String[] ids = operations.split(",");
-                    List<String> normalizedOperationIds =
-                            Arrays.stream(ids).map(operationId -> getValidName(operationId, false))
-                                    .collect(Collectors.toList());
-                    operation.addAll(normalizedOperationIds);
-                }
-                Filter filter = new Filter(tag, operation);
+                Filter filter = getFilter();
 
                 if (generateClientMethods != null && !generateClientMethods.isBlank() &&
                         (!generateClientMethods.equals(RESOURCE) && !generateClientMethods.equals(REMOTE))) {
                     // Exit the code generation process
                     outStream.println("'--client-methods' only supports `remote` or `resource` options.");
                     exitError(this.exitWhenFinish);
+                    return;
                 }
                 // Add the resource flag enable
                 clientResourceMode = generateClientMethods == null || generateClientMethods.isBlank() ||
@@ -175,21 +265,37 @@ public class OpenApiCmd implements BLauncherCmd {
                     // Exit the code generation process
                     outStream.println("'--client-methods' option is only available in client generation mode.");
                     exitError(this.exitWhenFinish);
+                    return;
                 }
-                try {
-                    openApiToBallerina(fileName, filter);
-                } catch (IOException e) {
-                    outStream.println(e.getLocalizedMessage());
+                if (splitClient != null && getClientGrouping() == null) {
+                    // Exit the code generation process
+                    outStream.println("'--split-client' only supports `tag` or `path` options.");
                     exitError(this.exitWhenFinish);
+                    return;
                 }
+                generate(fileName, () -> {
+                    try {
+                        openApiToBallerina(fileName, filter);
+                    } catch (IOException e) {
+                        outStream.println(e.getLocalizedMessage());
+                        exitError(this.exitWhenFinish);
+                    }
+                });
             } else if (fileName.endsWith(BAL_EXTENSION)) {
                 // Add the resource flag enable
                 if (generateClientMethods != null && !generateClientMethods.isBlank()) {
                     // Exit the code generation process
                     outStream.println("'--client-methods' option is only available in client generation mode.");
                     exitError(this.exitWhenFinish);
+                    return;
                 }
-                ballerinaToOpenApi(fileName);
+                if (isTimingsEnabled()) {
+                    outStream.println("'--timings' option is only available when generating from an OpenAPI " +
+                            "contract.");
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
+                generate(fileName, () -> ballerinaToOpenApi(fileName));
             } else {
                 outStream.println(ErrorMessages.MISSING_CONTRACT_PATH);
                 exitError(this.exitWhenFinish);
@@ -206,47 +312,182 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * Runs the generation, and when the watch mode is enabled, runs it again whenever the input file or the files
+     * referred by it change until the command is interrupted. The generations in the watch mode share the same JVM,
+     * hence the loaded classes and the cached OpenAPI models are reused between the generations.
+     *
+     * @param fileName   input file
+     * @param generation generation of the sources for the input file
+     */
+    private void generate(String fileName, Runnable generation) {
+        if (!watch) {
+            generation.run();
+            return;
+        }
+        boolean exitOnError = this.exitWhenFinish;
+        // Errors are reported without exiting, so that the sources are generated once the input file is fixed
+        this.exitWhenFinish = false;
+        try (ContractWatcher watcher = new ContractWatcher(Paths.get(fileName), WATCH_DEBOUNCE_MILLIS, () -> {
+            outStream.println("Changes detected, regenerating the sources.");
+            generation.run();
+        })) {
+            generation.run();
+            outStream.println("Watching " + fileName + " for changes. Press Ctrl+C to stop.");
+            watcher.watch();
+        } catch (IOException e) {
+            outStream.println("Unable to watch " + fileName + ": " + e.getLocalizedMessage());
+            exitError(exitOnError);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.exitWhenFinish = exitOnError;
+        }
+    }
+
     /**
      * This util method to generate openApi contract based on the given service ballerina file.
      * @param fileName  input resource file
      */
     private void ballerinaToOpenApi(String fileName) {
-        List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
-        final File balFile = new File(fileName);
-        Path balFilePath = null;
+        getTargetOutputPath();
+        OASContractGenerator openApiConverter = new OASContractGenerator();
+        if (openApiConverter.generateOAS3Definitions(fileName, targetOutputPath, service, generatedFileType,
+                outStream)) {
+            exitError(this.exitWhenFinish);
+        }
+    }
+
+    /**
+     * Generates the sources for the contracts in the given directory, matching the given glob pattern or listed in
+     * the given batch manifest. The contracts are generated in this process on a worker pool sized to the available
+     * processors, and a failure of a contract is reported without stopping the generation of the other contracts.
+     *
+     * @param input directory, glob pattern or batch manifest of the contracts
+     */
+    private void generateBatch(String input) {
+        if (generateClientMethods != null && !generateClientMethods.isBlank() &&
+                (!generateClientMethods.equals(RESOURCE) && !generateClientMethods.equals(REMOTE))) {
+            outStream.println("'--client-methods' only supports `remote` or `resource` options.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (mode != null && !mode.equals(SERVICE) && !mode.equals(CLIENT)) {
+            outStream.println("'--mode' only supports `service` or `client` options.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (splitClient != null && getClientGrouping() == null) {
+            outStream.println("'--split-client' only supports `tag` or `path` options.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (watch) {
+            outStream.println("'--watch' option is not supported for the batch generation.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (isTimingsEnabled()) {
+            outStream.println("'--timings' option is not supported for the batch generation.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        getTargetOutputPath();
+        BatchEntry defaults = new BatchEntry.Builder()
+                .withMode(mode)
+                .withFilter(getFilter())
+                .withOutputPath(targetOutputPath)
+                .withNullable(nullable)
+                .withResourceMode(generateClientMethods == null || generateClientMethods.isBlank() ||
+                        !generateClientMethods.equals(REMOTE))
+                .build();
+        List<BatchEntry> entries;
         try {
-            balFilePath = Paths.get(balFile.getCanonicalPath());
+            entries = batch ? BatchContracts.readManifest(Paths.get(input), defaults) :
+                    BatchContracts.getEntries(input, defaults);
         } catch (IOException e) {
-            DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
-            ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
-                    message.getDescription(), null,  e.getLocalizedMessage());
-            errors.add(error);
+            outStream.println("Unable to read the OpenAPI contracts of " + input + ". " + e.getLocalizedMessage());
+            exitError(this.exitWhenFinish);
+            return;
         }
-        getTargetOutputPath();
-        // Check service name it is mandatory
-        OASContractGenerator openApiConverter = new OASContractGenerator();
-        openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
-        errors.addAll(openApiConverter.getErrors());
-        if (!errors.isEmpty()) {
-            for (OpenAPIConverterDiagnostic error: errors) {
-                if (error instanceof ExceptionDiagnostic) {
-                    this.outStream = System.err;
-                    ExceptionDiagnostic exceptionDiagnostic = (ExceptionDiagnostic) error;
-                    OpenAPIDiagnostic diagnostic = CmdUtils.constructOpenAPIDiagnostic(exceptionDiagnostic.getCode(),
-                            exceptionDiagnostic.getMessage(), exceptionDiagnostic.getDiagnosticSeverity(),
-                            exceptionDiagnostic.getLocation().orElse(null));
-                    outStream.println(diagnostic.toString());
-                    exitError(this.exitWhenFinish);
-                } else if (error instanceof IncompatibleResourceDiagnostic) {
-                    IncompatibleResourceDiagnostic incompatibleError = (IncompatibleResourceDiagnostic) error;
-                    OpenAPIDiagnostic diagnostic = CmdUtils.constructOpenAPIDiagnostic(incompatibleError.getCode(),
-                            incompatibleError.getMessage(), incompatibleError.getDiagnosticSeverity(),
-                            incompatibleError.getLocation().get());
-                    outStream.println(diagnostic.toString());
-                }
-            }
+        if (entries.isEmpty()) {
+            outStream.println("No OpenAPI contracts found in " + input + ".");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (nullable) {
+            outStream.println("WARNING: All the constraints in the OpenAPI contract will be ignored when generating" +
+                    " the Ballerina client/service with the `--nullable` option");
+        }
+        BallerinaCodeGenerator generator = createCodeGenerator();
+        if (generator == null) {
+            return;
+        }
+        List<BatchResult> results;
+        try {
+            results = generator.generateBatch(entries, Runtime.getRuntime().availableProcessors(),
+                    result -> {
+                        outStream.println("OpenAPI contract " + result.getEntry().getContractPath() + ":");
+                        outStream.print(result.getOutput());
+                        result.getError().ifPresent(error -> outStream.println("Generation failed. " + error));
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outStream.println("Batch generation was interrupted.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        long failures = results.stream().filter(result -> !result.isSuccessful()).count();
+        outStream.println(String.format("Generated the sources for %d of %d OpenAPI contracts.",
+                results.size() - failures, results.size()));
+        if (failures > 0) {
+            exitError(this.exitWhenFinish);
+        }
+    }
+
+    /**
+     * Creates the code generator with the options of this command, or returns null when the license file can not be
+     * read.
+     */
+    private BallerinaCodeGenerator createCodeGenerator() {
+        String licenseHeader = this.setLicenseHeader();
+        if (licenseHeader == null) {
+            return null;
+        }
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setLicenseHeader(licenseHeader);
+        generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setIncremental(!force);
+        generator.setOverwritePrompt(overwritePrompt);
+        if (maxTypesPerFile != null) {
+            generator.setMaxTypesPerFile(maxTypesPerFile);
+        }
+        if (splitClient != null) {
+            generator.setClientGrouping(getClientGrouping());
+        }
+        if (!noCache) {
+            generator.setOpenAPICache(new OpenAPICache(OpenAPICache.getDefaultCacheDirectory()));
+        }
+        return generator;
+    }
+
+    /**
+     * Returns the filter of the operations given by the `--tags` and `--operations` options.
+     */
+    private Filter getFilter() {
+        List<String> tag = new ArrayList<>();
+        List<String> operation = new ArrayList<>();
+        if (tags != null) {
+            tag.addAll(Arrays.asList(tags.split(",")));
+        }
+        if (operations != null) {
+            String[] ids = operations.split(",");
+            List<String> normalizedOperationIds =
+                    Arrays.stream(ids).map(operationId -> getValidName(operationId, false))
+                            .collect(Collectors.toList());
+            operation.addAll(normalizedOperationIds);
         }
+        return new Filter(tag, operation);
     }
 
     /**
@@ -255,9 +496,12 @@ public class OpenApiCmd implements BLauncherCmd {
      * @param fileName input resource file
      */
     private void openApiToBallerina(String fileName, Filter filter) throws IOException {
-        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
-        generator.setLicenseHeader(this.setLicenseHeader());
-        generator.setIncludeTestFiles(this.includeTestFiles);
+        BallerinaCodeGenerator generator = createCodeGenerator();
+        if (generator == null) {
+            return;
+        }
+        GenerationProfile profile = isTimingsEnabled() ? new GenerationProfile() : GenerationProfile.disabled();
+        generator.setProfile(profile);
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -276,7 +520,7 @@ public class OpenApiCmd implements BLauncherCmd {
                 case "service":
                     generateServiceFile(generator, serviceName, resourcePath, filter);
                     break;
-                case "client":
+                case CLIENT:
                     generatesClientFile(generator, resourcePath, filter, this.clientResourceMode);
                     break;
                 default:
@@ -285,6 +529,31 @@ public class OpenApiCmd implements BLauncherCmd {
         } else {
             generateBothFiles(generator, serviceName, resourcePath, filter, this.clientResourceMode);
         }
+        if (profile.isEnabled()) {
+            reportTimings(profile, resourcePath);
+        }
+    }
+
+    private boolean isTimingsEnabled() {
+        return timings || timingsJsonPath != null;
+    }
+
+    /**
+     * Prints the profile of the generation as a table, and writes it to the `--timings-json` file when given.
+     */
+    private void reportTimings(GenerationProfile profile, Path contractPath) {
+        outStream.println("Timings of the generation:");
+        outStream.print(profile.toTable());
+        if (timingsJsonPath == null) {
+            return;
+        }
+        Path jsonPath = executionPath.resolve(timingsJsonPath);
+        try {
+            Files.writeString(jsonPath, profile.toJson(OpenAPICache.getToolVersion(), contractPath.toString()));
+        } catch (IOException e) {
+            outStream.println("Unable to write the timings to " + jsonPath + ". " + e.getLocalizedMessage());
+            exitError(this.exitWhenFinish);
+        }
     }
 
     /**
@@ -319,6 +588,7 @@ public class OpenApiCmd implements BLauncherCmd {
     }
     /**
      * This util is to set the license header content which is to be added at the beginning of the ballerina files.
+     * Returns null when the license file can not be read.
      */
     private String setLicenseHeader() {
         String licenseHeader = "";
@@ -336,6 +606,7 @@ public class OpenApiCmd implements BLauncherCmd {
             outStream.println("Invalid license file path : " + this.licenseFilePath +
                     ". " + e.getMessage() + ".");
             exitError(this.exitWhenFinish);
+            return null;
         }
         return licenseHeader;
     }
@@ -418,12 +689,155 @@ public class OpenApiCmd implements BLauncherCmd {
     public void setParentCmdParser(CommandLine parentCmdParser) {
     }
 
+    /**
+     * Returns the client grouping given by the `--split-client` option, or null when the option value is invalid.
+     */
+    private ClientGrouping getClientGrouping() {
+        String grouping = splitClient.trim().toLowerCase(Locale.ENGLISH);
+        if (grouping.equals(ClientGrouping.TAG.toString())) {
+            return ClientGrouping.TAG;
+        } else if (grouping.equals(ClientGrouping.PATH.toString())) {
+            return ClientGrouping.PATH;
+        }
+        return null;
+    }
+
+    /**
+     * Set the prompt which asks whether to override the existing files, which is used when the command is run for
+     * a client of the daemon.
+     *
+     * @param overwritePrompt prompt which returns the answer to the given question, or null to overwrite the existing
+     *                        files without prompting
+     */
+    void setOverwritePrompt(UnaryOperator<String> overwritePrompt) {
+        this.overwritePrompt = overwritePrompt;
+    }
+
+    /**
+     * Returns the exit code of the command, which is used when the command does not exit the JVM when finished.
+     */
+    int getExitCode() {
+        return exitCode;
+    }
+
+    /**
+     * Runs the daemon which serves the openapi commands until it is stopped or idle.
+     */
+    private void runDaemon() {
+        if ((daemonIdleTimeout != null && daemonIdleTimeout < 1) || (daemonMaxMemory != null && daemonMaxMemory < 1)) {
+            outStream.println("'--daemon-idle-timeout' and '--daemon-max-memory' should be positive numbers.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        Path daemonDirectory = GenerationDaemon.getDefaultDaemonDirectory();
+        if (DaemonClient.find(daemonDirectory).map(DaemonClient::isRunning).orElse(false)) {
+            outStream.println("An OpenAPI daemon is already running.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        Duration idleTimeout = Duration.ofMinutes(daemonIdleTimeout != null ? daemonIdleTimeout :
+                DEFAULT_DAEMON_IDLE_TIMEOUT);
+        long maxMemory = daemonMaxMemory != null ? daemonMaxMemory * 1024L * 1024L :
+                Runtime.getRuntime().maxMemory() / 4 * 3;
+        try {
+            new GenerationDaemon(daemonDirectory, idleTimeout, maxMemory, outStream).run();
+        } catch (IOException e) {
+            outStream.println("Unable to run the OpenAPI daemon. " + e.getLocalizedMessage());
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (this.exitWhenFinish) {
+            Runtime.getRuntime().exit(0);
+        }
+    }
+
+    private void stopDaemon() {
+        Optional<DaemonClient> daemonClient = DaemonClient.find(GenerationDaemon.getDefaultDaemonDirectory());
+        try {
+            if (daemonClient.isPresent()) {
+                daemonClient.get().stop();
+                outStream.println("OpenAPI daemon stopped.");
+            } else {
+                outStream.println("OpenAPI daemon is not running.");
+            }
+        } catch (IOException e) {
+            outStream.println("OpenAPI daemon is not running.");
+        }
+        if (this.exitWhenFinish) {
+            Runtime.getRuntime().exit(0);
+        }
+    }
+
+    /**
+     * Runs this command on the daemon when a daemon is running, and exits with the exit code of the command. The
+     * ballerina to OpenAPI commands are not run on the daemon, as the converter prompts on the console of the daemon.
+     *
+     * @return whether the command is run on the daemon
+     */
+    private boolean runOnDaemon() {
+        if (argList != null && !argList.isEmpty() && argList.get(0).endsWith(BAL_EXTENSION)) {
+            return false;
+        }
+        Optional<DaemonClient> daemonClient = DaemonClient.find(GenerationDaemon.getDefaultDaemonDirectory());
+        if (daemonClient.isEmpty()) {
+            return false;
+        }
+        int daemonExitCode;
+        try {
+            daemonExitCode = daemonClient.get().run(executionPath, getDaemonArgs(), outStream);
+        } catch (ConnectException e) {
+            // The daemon is not running anymore
+            return false;
+        } catch (IOException e) {
+            outStream.println("Connection to the OpenAPI daemon failed. " + e.getLocalizedMessage() +
+                    " Running the command without the daemon.");
+            return false;
+        }
+        Runtime.getRuntime().exit(daemonExitCode);
+        return true;
+    }
+
+    /**
+     * Returns the arguments to run this command on the daemon. The input and license paths are resolved against the
+     * execution path, as the daemon runs in another directory.
+     */
+    private List<String> getDaemonArgs() {
+        List<String> args = new ArrayList<>();
+        CommandLine.Model.CommandSpec commandSpec = CommandLine.Model.CommandSpec.forAnnotatedObject(this);
+        for (CommandLine.Model.OptionSpec optionSpec : commandSpec.options()) {
+            Object value = optionSpec.getValue();
+            if (value == null || Boolean.FALSE.equals(value)) {
+                continue;
+            }
+            args.add(optionSpec.longestName());
+            if (!(value instanceof Boolean)) {
+                args.add(optionSpec.longestName().equals("--license") ? resolvePath(value.toString()) :
+                        value.toString());
+            }
+        }
+        if (argList != null) {
+            for (int i = 0; i < argList.size(); i++) {
+                args.add(i == 0 ? resolvePath(argList.get(i)) : argList.get(i));
+            }
+        }
+        return args;
+    }
+
+    private String resolvePath(String path) {
+        try {
+            return executionPath.resolve(path).toString();
+        } catch (InvalidPathException e) {
+            return path;
+        }
+    }
+
     /**
      * Exit with error code 1.
      *
      * @param exit Whether to exit or not.
      */
-    private static void exitError(boolean exit) {
+    private void exitError(boolean exit) {
+        exitCode = 1;
         if (exit) {
             Runtime.getRuntime().exit(1);
         }
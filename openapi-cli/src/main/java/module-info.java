@@ -28,6 +28,7 @@ module io.ballerina.openapi {
     requires io.ballerina.openapi.converter;
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
+    requires java.management;
     requires java.ws.rs;
     requires jsr305;
     requires org.apache.commons.io;
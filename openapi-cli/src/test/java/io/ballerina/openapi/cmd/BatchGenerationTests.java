@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests for generating the sources for multiple OpenAPI contracts in a batch.
+ */
+public class BatchGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client/swagger").toAbsolutePath();
+    private Path batchDirectory;
+    private Path outputDirectory;
+    private BatchEntry defaults;
+
+    @BeforeMethod
+    public void copyContracts() throws IOException {
+        batchDirectory = Files.createTempDirectory("openapi-batch").toRealPath();
+        Files.createDirectories(batchDirectory.resolve("salesforce"));
+        Files.createDirectories(batchDirectory.resolve("pets"));
+        Files.copy(RES_DIR.resolve("salesforce.yaml"), batchDirectory.resolve("salesforce/openapi.yaml"));
+        Files.copy(RES_DIR.resolve("combination_of_apikey_and_http_oauth.yaml"),
+                batchDirectory.resolve("pets/openapi.yaml"));
+        Files.writeString(batchDirectory.resolve("pets/README.md"), "Pets API");
+        outputDirectory = batchDirectory.resolve("generated");
+        defaults = new BatchEntry.Builder().withMode(CmdConstants.CLIENT).withOutputPath(outputDirectory).build();
+    }
+
+    @Test(description = "Contracts of a directory are generated in separate output directories")
+    public void testDirectoryEntries() throws Exception {
+        List<BatchEntry> entries = BatchContracts.getEntries(batchDirectory.toString(), defaults);
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.get(0).getContractPath(), batchDirectory.resolve("pets/openapi.yaml"));
+        Assert.assertEquals(entries.get(0).getOutputPath(), outputDirectory.resolve("pets/openapi"));
+        Assert.assertEquals(entries.get(0).getServiceName(), "openapi");
+        Assert.assertEquals(entries.get(1).getOutputPath(), outputDirectory.resolve("salesforce/openapi"));
+        Assert.assertEquals(entries.get(1).getMode(), CmdConstants.CLIENT);
+
+        List<BatchEntry> globEntries = BatchContracts.getEntries(batchDirectory + "/sales*/*.yaml", defaults);
+        Assert.assertEquals(globEntries.size(), 1);
+        Assert.assertEquals(globEntries.get(0).getContractPath(), batchDirectory.resolve("salesforce/openapi.yaml"));
+        Assert.assertTrue(BatchContracts.isBatchInput(batchDirectory + "/*/*.yaml"));
+        Assert.assertFalse(BatchContracts.isBatchInput(batchDirectory.resolve("pets/openapi.yaml").toString()));
+    }
+
+    @Test(description = "Options of the batch manifest entries override the options of the command")
+    public void testManifestEntries() throws Exception {
+        Path manifestPath = batchDirectory.resolve("batch.yaml");
+        Files.writeString(manifestPath, "contracts:\n" +
+                "  - salesforce/openapi.yaml\n" +
+                "  - contract: pets/openapi.yaml\n" +
+                "    mode: service\n" +
+                "    tags: [pets, dogs]\n" +
+                "    operations: list-pets\n" +
+                "    output: services/pets\n");
+        List<BatchEntry> entries = BatchContracts.readManifest(manifestPath, defaults);
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.get(0).getMode(), CmdConstants.CLIENT);
+        Assert.assertEquals(entries.get(0).getOutputPath(), outputDirectory.resolve("salesforce/openapi"));
+        Assert.assertEquals(entries.get(1).getMode(), CmdConstants.SERVICE);
+        Assert.assertEquals(entries.get(1).getFilter().getTags(), List.of("pets", "dogs"));
+        Assert.assertEquals(entries.get(1).getFilter().getOperations(), List.of("listPets"));
+        Assert.assertEquals(entries.get(1).getOutputPath(), batchDirectory.resolve("services/pets"));
+    }
+
+    @Test(description = "Invalid batch manifest entries are reported", expectedExceptions = IOException.class)
+    public void testInvalidManifestEntry() throws Exception {
+        Path manifestPath = batchDirectory.resolve("batch.yaml");
+        Files.writeString(manifestPath, "contracts:\n  - contract: pets/openapi.yaml\n    mode: mock\n");
+        BatchContracts.readManifest(manifestPath, defaults);
+    }
+
+    @Test(description = "Failure of a contract does not stop the generation of the other contracts")
+    public void testGenerateBatch() throws Exception {
+        Files.writeString(batchDirectory.resolve("pets/openapi.yaml"), "This is not an OpenAPI contract");
+        List<BatchEntry> entries = BatchContracts.getEntries(batchDirectory.toString(), defaults);
+        List<BatchResult> completedResults = new ArrayList<>();
+        List<BatchResult> results = new BallerinaCodeGenerator().generateBatch(entries, 2, completedResults::add);
+
+        Assert.assertEquals(completedResults.size(), 2);
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertSame(results.get(0).getEntry(), entries.get(0));
+        Assert.assertFalse(results.get(0).isSuccessful());
+        Assert.assertTrue(results.get(0).getError().isPresent());
+        Assert.assertTrue(results.get(1).isSuccessful(), results.get(1).getError().orElse(""));
+        Assert.assertTrue(results.get(1).getOutput().contains("Client generated successfully."));
+        Assert.assertTrue(Files.exists(outputDirectory.resolve("salesforce/openapi/client.bal")));
+    }
+
+    @Test(description = "Batch generations overwrite the existing files without prompting")
+    public void testGenerateBatchWithoutPrompt() throws Exception {
+        List<BatchEntry> entries = BatchContracts.getEntries(batchDirectory.toString(), defaults);
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setOverwritePrompt(question -> {
+            throw new AssertionError("Unexpected prompt: " + question);
+        });
+        generator.generateBatch(entries, 2, result -> { });
+        Path clientDirectory = outputDirectory.resolve("salesforce/openapi");
+        long fileCount;
+        try (Stream<Path> files = Files.list(clientDirectory)) {
+            fileCount = files.count();
+        }
+
+        List<BatchResult> results = generator.generateBatch(entries, 2, result -> { });
+        Assert.assertTrue(results.get(0).isSuccessful(), results.get(0).getError().orElse(""));
+        Assert.assertTrue(results.get(1).isSuccessful(), results.get(1).getError().orElse(""));
+        try (Stream<Path> files = Files.list(clientDirectory)) {
+            Assert.assertEquals(files.count(), fileCount);
+        }
+    }
+
+    @AfterMethod
+    public void deleteBatchDirectory() throws IOException {
+        FileUtils.deleteDirectory(batchDirectory.toFile());
+    }
+}
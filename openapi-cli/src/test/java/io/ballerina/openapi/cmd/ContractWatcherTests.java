@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for watching the OpenAPI contract and the files referred by it.
+ */
+public class ContractWatcherTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/swagger/references")
+            .toAbsolutePath();
+    private Path contractDirectory;
+
+    @BeforeMethod
+    public void copyContract() throws IOException {
+        contractDirectory = Files.createTempDirectory("openapi-watch").toRealPath();
+        FileUtils.copyDirectory(RES_DIR.toFile(), contractDirectory.toFile());
+    }
+
+    @Test(description = "Contract and the local files referred by it are watched")
+    public void testReferredFiles() {
+        Set<Path> referredFiles = GeneratorUtils.getReferredFiles(contractDirectory.resolve("openapi.yaml"));
+        Assert.assertEquals(referredFiles, Set.of(contractDirectory.resolve("openapi.yaml"),
+                contractDirectory.resolve("Error.yaml")));
+    }
+
+    @Test(description = "Changes of the watched files run a single generation for a burst of changes")
+    public void testWatch() throws Exception {
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch generated = new CountDownLatch(1);
+        ContractWatcher watcher = new ContractWatcher(contractDirectory.resolve("openapi.yaml"), 300, () -> {
+            generations.incrementAndGet();
+            generated.countDown();
+        });
+        Thread watcherThread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (IOException | InterruptedException e) {
+                Assert.fail(e.getMessage());
+            }
+        });
+        watcherThread.start();
+        try {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (watcher.getWatchedFiles().isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(watcher.getWatchedFiles().size(), 2);
+
+            // Changes of the other files in the directory do not run the generation
+            Files.writeString(contractDirectory.resolve("notes.txt"), "notes");
+            Thread.sleep(1000);
+            Assert.assertEquals(generations.get(), 0);
+
+            Path errorPath = contractDirectory.resolve("Error.yaml");
+            String content = Files.readString(errorPath);
+            Files.writeString(errorPath, content + "\n");
+            Files.writeString(errorPath, content + "\n\n");
+            Assert.assertTrue(generated.await(10, TimeUnit.SECONDS));
+            Thread.sleep(1000);
+            Assert.assertEquals(generations.get(), 1);
+        } finally {
+            watcher.close();
+            watcherThread.join(5000);
+        }
+        Assert.assertFalse(watcherThread.isAlive());
+    }
+
+    @AfterMethod
+    public void deleteContractDirectory() throws IOException {
+        FileUtils.deleteDirectory(contractDirectory.toFile());
+    }
+}
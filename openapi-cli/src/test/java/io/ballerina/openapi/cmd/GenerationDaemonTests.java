@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.OpenAPICache;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests for running the openapi commands on the generation daemon.
+ */
+public class GenerationDaemonTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client/swagger").toAbsolutePath();
+    private Path daemonDirectory;
+    private Path outputDirectory;
+    private Thread daemonThread;
+
+    @BeforeMethod
+    public void startDaemon() throws Exception {
+        daemonDirectory = Files.createTempDirectory("openapi-daemon");
+        outputDirectory = Files.createTempDirectory("openapi-daemon-output");
+        GenerationDaemon daemon = new GenerationDaemon(daemonDirectory, Duration.ofMinutes(5), Long.MAX_VALUE,
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        daemonThread = new Thread(() -> {
+            try {
+                daemon.run();
+            } catch (IOException e) {
+                Assert.fail(e.getMessage());
+            }
+        });
+        daemonThread.start();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (DaemonClient.find(daemonDirectory).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test(description = "Commands run on the daemon report their output and exit code to the client")
+    public void testRunCommand() throws Exception {
+        Optional<DaemonClient> daemonClient = DaemonClient.find(daemonDirectory);
+        Assert.assertTrue(daemonClient.isPresent());
+        Assert.assertTrue(daemonClient.get().isRunning());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = daemonClient.get().run(outputDirectory, List.of("-i",
+                RES_DIR.resolve("salesforce.yaml").toString(), "--mode", "client", "--no-cache", "-o", "generated"),
+                output);
+        Assert.assertEquals(exitCode, 0, output.toString(StandardCharsets.UTF_8));
+        Assert.assertTrue(output.toString(StandardCharsets.UTF_8).contains("Client generated successfully."));
+        // Output path is relative to the working directory of the client
+        Assert.assertTrue(Files.exists(outputDirectory.resolve("generated/client.bal")));
+
+        // Failed commands do not stop the daemon
+        output.reset();
+        exitCode = daemonClient.get().run(outputDirectory, List.of("-i", outputDirectory.resolve("missing.txt")
+                .toString()), output);
+        Assert.assertEquals(exitCode, 1);
+        Assert.assertTrue(daemonClient.get().isRunning());
+    }
+
+    @Test(description = "Prompts of the commands run on the daemon are answered by the client")
+    public void testForwardedPrompt() throws Exception {
+        DaemonClient daemonClient = DaemonClient.find(daemonDirectory).orElseThrow();
+        List<String> args = List.of("-i", RES_DIR.resolve("salesforce.yaml").toString(), "--mode", "client",
+                "--no-cache", "--force", "-o", "generated");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Assert.assertEquals(daemonClient.run(outputDirectory, args, output, null), 0,
+                output.toString(StandardCharsets.UTF_8));
+
+        List<String> questions = new ArrayList<>();
+        int exitCode = daemonClient.run(outputDirectory, args, output, question -> {
+            questions.add(question);
+            return "n";
+        });
+        Assert.assertEquals(exitCode, 0, output.toString(StandardCharsets.UTF_8));
+        Assert.assertTrue(questions.stream().anyMatch(question -> question.contains("client.bal")));
+        // The existing file is kept as the client refused to overwrite it
+        Assert.assertTrue(Files.exists(outputDirectory.resolve("generated/client.1.bal")));
+    }
+
+    @Test(description = "Client does not send its token to a process which does not prove the token")
+    public void testUnprovenDaemon() throws Exception {
+        Path otherDirectory = Files.createTempDirectory("openapi-daemon-other");
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Files.writeString(otherDirectory.resolve(GenerationDaemon.INFO_FILE_NAME),
+                    GenerationDaemon.PORT + "=" + serverSocket.getLocalPort() + "\n" +
+                    GenerationDaemon.TOKEN + "=secret\n" +
+                    GenerationDaemon.VERSION + "=" + OpenAPICache.getToolVersion() + "\n");
+            DaemonClient daemonClient = DaemonClient.find(otherDirectory).orElseThrow();
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            Thread serverThread = new Thread(() -> {
+                // Reads the requests without answering them
+                try (Socket socket = serverSocket.accept()) {
+                    socket.getInputStream().transferTo(received);
+                } catch (IOException e) {
+                    // The client closed the connection
+                }
+            });
+            serverThread.start();
+            Assert.expectThrows(ConnectException.class, () -> daemonClient.run(outputDirectory,
+                    List.of("-i", RES_DIR.resolve("salesforce.yaml").toString()), new ByteArrayOutputStream()));
+            serverThread.join(10000);
+            Assert.assertFalse(received.toString(StandardCharsets.UTF_8).contains("secret"));
+        } finally {
+            FileUtils.deleteDirectory(otherDirectory.toFile());
+        }
+    }
+
+    @Test(description = "Stopped daemon removes its info file")
+    public void testStopDaemon() throws Exception {
+        DaemonClient.find(daemonDirectory).orElseThrow().stop();
+        daemonThread.join(10000);
+        Assert.assertFalse(daemonThread.isAlive());
+        Assert.assertTrue(DaemonClient.find(daemonDirectory).isEmpty());
+    }
+
+    @AfterMethod
+    public void stopDaemon() throws Exception {
+        Optional<DaemonClient> daemonClient = DaemonClient.find(daemonDirectory);
+        if (daemonClient.isPresent()) {
+            daemonClient.get().stop();
+        }
+        daemonThread.join(10000);
+        FileUtils.deleteDirectory(daemonDirectory.toFile());
+        FileUtils.deleteDirectory(outputDirectory.toFile());
+    }
+}
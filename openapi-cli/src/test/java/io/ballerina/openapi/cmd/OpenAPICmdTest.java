@@ -462,6 +462,24 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
                 equals("..\\..\\dir2\\dir3\\dir4\\test.txt"));
     }
 
+    @Test(description = "Invalid options stop the command when it does not exit the JVM, as on the daemon")
+    public void testInvalidOptionsWithoutExit() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        Path outputPath = Files.createDirectories(tmpDir.resolve("invalid_options"));
+        String[][] argsList = {
+                {"--input", petstoreYaml.toString(), "-o", outputPath.toString(), "--client-methods", "invalid"},
+                {"--input", petstoreYaml.toString(), "-o", outputPath.toString(), "--license",
+                        tmpDir.resolve("missing_license.txt").toString()}
+        };
+        for (String[] args : argsList) {
+            OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+            new CommandLine(cmd).parseArgs(args);
+            cmd.execute();
+            Assert.assertEquals(cmd.getExitCode(), 1);
+            Assert.assertFalse(Files.exists(outputPath.resolve("client.bal")), readOutput(true));
+        }
+    }
+
     @AfterTest
     public void clean() {
         System.setErr(null);
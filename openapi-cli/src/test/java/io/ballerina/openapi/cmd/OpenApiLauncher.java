@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import picocli.CommandLine;
+
+/**
+ * Launches the openapi command in a new JVM the same way as the bal tool does. This is the workload of the class data
+ * sharing training run and of the startup benchmark of the openapi-cli build.
+ */
+public class OpenApiLauncher {
+
+    public static void main(String[] args) {
+        OpenApiCmd openApiCmd = new OpenApiCmd();
+        new CommandLine(openApiCmd).parseArgs(args);
+        // Exits the JVM once the command completes
+        openApiCmd.execute();
+    }
+}
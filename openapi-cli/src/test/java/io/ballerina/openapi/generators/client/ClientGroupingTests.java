@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.ClientGrouping;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the client classes generated for the groups of operations.
+ */
+public class ClientGroupingTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client/swagger").toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate a client class for each tag")
+    public void testGroupingByTag() throws Exception {
+        Map<String, List<String>> classes = getClassFunctions(RES_DIR.resolve("salesforce.yaml"), true,
+                ClientGrouping.TAG);
+        Assert.assertEquals(new ArrayList<>(classes.keySet()),
+                List.of("Client", "AccountClient", "IndividualClient", "ContactClient"));
+        Assert.assertEquals(classes.get("Client"),
+                List.of("init", "accountClient", "individualClient", "contactClient"));
+
+        // Every function of the single client class is generated in one of the group client classes
+        List<String> groupedFunctions = new ArrayList<>();
+        for (Map.Entry<String, List<String>> clientClass : classes.entrySet()) {
+            if (!clientClass.getKey().equals("Client")) {
+                Assert.assertEquals(clientClass.getValue().get(0), "init");
+                groupedFunctions.addAll(clientClass.getValue().subList(1, clientClass.getValue().size()));
+            }
+        }
+        List<String> functions = getClassFunctions(RES_DIR.resolve("salesforce.yaml"), true,
+                ClientGrouping.NONE).get("Client");
+        Assert.assertEqualsNoOrder(groupedFunctions.toArray(), functions.subList(1, functions.size()).toArray());
+    }
+
+    @Test(description = "Generate a client class for each path prefix")
+    public void testGroupingByPath() throws Exception {
+        Map<String, List<String>> classes = getClassFunctions(RES_DIR.resolve("salesforce.yaml"), false,
+                ClientGrouping.PATH);
+        Assert.assertEquals(new ArrayList<>(classes.keySet()), List.of("Client", "SobjectsClient"));
+        Assert.assertEquals(classes.get("Client"), List.of("init", "sobjectsClient"));
+        Assert.assertEquals(classes.get("SobjectsClient").size(), 10);
+    }
+
+    @Test(description = "Group client classes share the HTTP client and the API keys of the client")
+    public void testSharedConnection() throws Exception {
+        SyntaxTree syntaxTree = createClientGenerator(RES_DIR.resolve("combination_of_apikey_and_http_oauth.yaml"),
+                false, ClientGrouping.TAG).generateSyntaxTree();
+        // Tokens of the generated tree are not formatted, hence the source is compared without the whitespaces
+        String source = syntaxTree.toSourceCode().replaceAll("\\s", "");
+        Assert.assertTrue(source.contains("publicisolatedclientclassPetsClient{"));
+        Assert.assertTrue(source.contains("publicisolatedfunctionpetsClient()returnsPetsClient{" +
+                "returnnew(self.clientEp,self.apiKeyConfig);}"));
+        Assert.assertTrue(source.contains("self.clientEp=clientEp;self.apiKeyConfig=apiKeyConfig;"));
+    }
+
+    private Map<String, List<String>> getClassFunctions(Path definitionPath, boolean isResource,
+                                                        ClientGrouping clientGrouping) throws Exception {
+        SyntaxTree syntaxTree = createClientGenerator(definitionPath, isResource, clientGrouping)
+                .generateSyntaxTree();
+        Map<String, List<String>> classes = new LinkedHashMap<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            ClassDefinitionNode classDefinitionNode = (ClassDefinitionNode) member;
+            List<String> functions = new ArrayList<>();
+            for (Node classMember : classDefinitionNode.members()) {
+                if (classMember instanceof FunctionDefinitionNode) {
+                    FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) classMember;
+                    functions.add(functionDefinitionNode.functionName().text() +
+                            functionDefinitionNode.relativeResourcePath().toSourceCode().trim());
+                }
+            }
+            classes.put(classDefinitionNode.className().text(), functions);
+        }
+        return classes;
+    }
+
+    private BallerinaClientGenerator createClientGenerator(Path definitionPath, boolean isResource,
+                                                           ClientGrouping clientGrouping) throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, !isResource);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(isResource)
+                .withClientGrouping(clientGrouping).build();
+        return new BallerinaClientGenerator(oasClientConfig);
+    }
+}
@@ -26,6 +26,7 @@ import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -84,4 +85,34 @@ public class FilterTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "Load only the operations selected by the tag filter")
+    public void testFilteredLoadingWithTag() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/tag.yaml");
+        Path expectedPath = RES_DIR.resolve("file_provider/ballerina/tag.bal");
+        Filter filter = new Filter(new ArrayList<>(List.of("Data for all countries")), new ArrayList<>());
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, filter, null);
+        OpenAPI completeOpenAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        Assert.assertTrue(openAPI.getPaths().size() < completeOpenAPI.getPaths().size());
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        syntaxTree = new BallerinaClientGenerator(oasClientConfig).generateSyntaxTree();
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+    }
+
+    @Test(description = "Load only the operations selected by the operation filter along with the referred schemas")
+    public void testFilteredLoadingWithOperation() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/operation.yaml");
+        Path expectedPath = RES_DIR.resolve("file_provider/ballerina/operation.bal");
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>(List.of("getCountryList")));
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, filter, null);
+        Assert.assertEquals(openAPI.getPaths().size(), 1);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        syntaxTree = new BallerinaClientGenerator(oasClientConfig).generateSyntaxTree();
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+    }
 }
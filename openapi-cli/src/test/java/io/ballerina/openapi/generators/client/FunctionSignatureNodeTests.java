@@ -28,6 +28,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.FunctionSignatureGenerator;
+import io.ballerina.openapi.core.generators.client.model.FunctionSignature;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -87,6 +88,18 @@ public class FunctionSignatureNodeTests {
         Assert.assertEquals(returnTypeNode.type().toString(), "Product[]|error");
     }
 
+    @Test(description = "Return type of a signature is returned along with the signature")
+    public void testFunctionSignatureReturnType() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/valid_operation.yaml"));
+        FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
+                new BallerinaTypesGenerator(openAPI), new ArrayList<>(), false);
+        FunctionSignature signature = functionSignatureGenerator.generateFunctionSignature(openAPI.getPaths()
+                .get("/products/{country}").getGet(), new ArrayList<>());
+        Assert.assertEquals(signature.getReturnType().getTargetType(), "Product[]");
+        Assert.assertEquals(signature.getSignatureNode().returnTypeDesc().orElseThrow().type().toString(),
+                signature.getReturnType().toTypeDescriptorNode().toString());
+    }
+
     @Test(description = "Test for generate function signature for xml request body")
     public void testFunctionSignatureNodeForXMLPayload() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/xml_request_payload.yaml"));
@@ -18,9 +18,14 @@
 
 package io.ballerina.openapi.generators.client;
 
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.client.model.ReturnType;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -29,6 +34,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -56,6 +62,22 @@ public class FunctionSignatureReturnTypeTests {
                 false), "XMLArr|error");
     }
 
+    @Test(description = "Tests for the return type lowered to the signature and the target type")
+    public void createReturnTypeTests() throws IOException, BallerinaOpenApiException {
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator();
+        OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/all_return_type_operation.yaml"));
+        ReturnType returnType = functionReturnType.createReturnType(
+                array.getPaths().get("/stringproducts/record").getGet(), true);
+        Assert.assertEquals(returnType.getResponseTypes(), List.of("Product[]"));
+        Assert.assertEquals(returnType.getTargetType(), "Product[]");
+        Assert.assertEquals(returnType.toTypeDescriptorNode().toSourceCode(), "Product[]|error");
+
+        ReturnType nilableReturnType = new ReturnType(List.of("Pet", "Error"), true);
+        Assert.assertEquals(nilableReturnType.getTargetType(), "Pet|Error?");
+        Assert.assertEquals(nilableReturnType.toTypeDescriptorNode().toSourceCode(), "Pet|Error|error?");
+        Assert.assertEquals(nilableReturnType.toString(), "Pet|Error|error?");
+    }
+
     @Test(description = "Tests for the object response without property")
     public void getReturnTypeForObjectSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_without_properties_with_additional" +
@@ -108,4 +130,26 @@ public class FunctionSignatureReturnTypeTests {
                 true);
         Assert.assertEquals(returnType, "json|error");
     }
+
+    @Test(description = "Structurally identical inline responses share the type of the first operation")
+    public void getReturnTypeForDuplicatedInlineResponses() throws Exception {
+        // Parsed without flattening, hence the inline response schemas are kept inline
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_response_duplicates.yaml"));
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String clientSource = clientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        List<String> typeNames = new ArrayList<>();
+        for (TypeDefinitionNode typeDefinitionNode : clientGenerator.getTypeDefinitionNodeList()) {
+            typeNames.add(typeDefinitionNode.typeName().text());
+        }
+        Assert.assertTrue(typeNames.contains("ListPetsResponse"));
+        Assert.assertFalse(typeNames.contains("ListOwnersResponse"));
+        Assert.assertTrue(clientSource.contains("listOwners()returnsListPetsResponse|error"));
+        // Fields are generated in their declared order, hence a different order is a different structure
+        Assert.assertTrue(typeNames.contains("GetStatusResponse"));
+        Assert.assertTrue(clientSource.contains("getStatus()returnsGetStatusResponse|error"));
+    }
 }
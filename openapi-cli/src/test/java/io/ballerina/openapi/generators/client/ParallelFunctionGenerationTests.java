@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests that the client and service functions generated on a fork join pool are identical to the functions generated
+ * sequentially.
+ */
+public class ParallelFunctionGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate the client functions in parallel", dataProvider = "clientDefinitionProvider")
+    public void testParallelClientGeneration(String definition, boolean isResource) throws Exception {
+        Path definitionPath = RES_DIR.resolve(definition);
+        BallerinaClientGenerator sequentialGenerator = createClientGenerator(definitionPath, isResource);
+        BallerinaClientGenerator parallelGenerator = createClientGenerator(definitionPath, isResource);
+        parallelGenerator.setForkJoinPool(forkJoinPool);
+
+        Assert.assertEquals(parallelGenerator.generateSyntaxTree().toSourceCode(),
+                sequentialGenerator.generateSyntaxTree().toSourceCode());
+        Assert.assertEquals(parallelGenerator.getRemoteFunctionNameList(),
+                sequentialGenerator.getRemoteFunctionNameList());
+        Assert.assertEquals(getTypeDefinitionSources(parallelGenerator.getTypeDefinitionNodeList()),
+                getTypeDefinitionSources(sequentialGenerator.getTypeDefinitionNodeList()));
+        Assert.assertEquals(parallelGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode(),
+                sequentialGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode());
+    }
+
+    @Test(description = "Generate the service resource functions in parallel",
+            dataProvider = "serviceDefinitionProvider")
+    public void testParallelServiceGeneration(String definition) throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(definition), false);
+        BallerinaServiceGenerator sequentialGenerator = new BallerinaServiceGenerator(openAPI, filter);
+        BallerinaServiceGenerator parallelGenerator = new BallerinaServiceGenerator(openAPI, filter);
+        parallelGenerator.setForkJoinPool(forkJoinPool);
+
+        Assert.assertEquals(parallelGenerator.generateSyntaxTree().toSourceCode(),
+                sequentialGenerator.generateSyntaxTree().toSourceCode());
+        Assert.assertEquals(getTypeDefinitionSources(parallelGenerator.getTypeInclusionRecords()),
+                getTypeDefinitionSources(sequentialGenerator.getTypeInclusionRecords()));
+    }
+
+    @DataProvider(name = "clientDefinitionProvider")
+    public Object[][] clientDefinitionProvider() {
+        return new Object[][]{
+                {"client/swagger/salesforce.yaml", true},
+                {"client/swagger/salesforce.yaml", false},
+                {"client/swagger/request_body_basic_scenarios.yaml", false},
+                {"client/swagger/combination_of_apikey_and_http_oauth.yaml", false},
+                {"client/swagger/path_parameter_valid.yaml", true},
+                {"client/swagger/petstore_without_operation_id.yaml", true}
+        };
+    }
+
+    @DataProvider(name = "serviceDefinitionProvider")
+    public Object[][] serviceDefinitionProvider() {
+        return new Object[][]{
+                {"service/swagger/petstore_service.yaml"},
+                {"service/swagger/multiOperations.yaml"},
+                {"service/swagger/inline_record_type_request_response.yaml"}
+        };
+    }
+
+    @AfterClass
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    private BallerinaClientGenerator createClientGenerator(Path definitionPath, boolean isResource) throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, !isResource);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(isResource).build();
+        return new BallerinaClientGenerator(oasClientConfig);
+    }
+
+    private static List<String> getTypeDefinitionSources(List<TypeDefinitionNode> typeDefinitionNodes) {
+        List<String> sources = new ArrayList<>();
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
+            sources.add(typeDefinitionNode.toSourceCode());
+        }
+        return sources;
+    }
+}
@@ -1,6 +1,7 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeList;
@@ -9,6 +10,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.ClientTemplateCache;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.generators.common.TestUtils;
@@ -25,6 +27,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
 
@@ -207,6 +210,28 @@ public class UtilGenerationTests {
         Assert.assertTrue(diagnostics.isEmpty());
     }
 
+    @Test(description = "Validate the util template functions are parsed once and shared between the generations")
+    public void testUtilTemplateCache() throws IOException, BallerinaOpenApiException {
+        Map<String, FunctionDefinitionNode> utilFunctions = ClientTemplateCache.getUtilFunctions();
+        Assert.assertTrue(utilFunctions.keySet().containsAll(Arrays.asList(CREATE_FORM_URLENCODED_REQUEST_BODY,
+                GET_DEEP_OBJECT_STYLE_REQUEST, GET_FORM_STYLE_REQUEST, GET_SERIALIZED_ARRAY, GET_ENCODED_URI,
+                GET_ORIGINAL_KEY, GET_PATH_FOR_QUERY_PARAM, GET_MAP_FOR_HEADERS, GET_SERIALIZED_RECORD_ARRAY)));
+        Assert.assertSame(ClientTemplateCache.getUtilFunctions(), utilFunctions);
+
+        Path definitionPath = RESDIR.resolve("swagger/query_param.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator firstGenerator = new BallerinaClientGenerator(oasClientConfig);
+        firstGenerator.generateSyntaxTree();
+        BallerinaClientGenerator secondGenerator = new BallerinaClientGenerator(oasClientConfig);
+        secondGenerator.generateSyntaxTree();
+        Assert.assertEquals(secondGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode(),
+                firstGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode());
+    }
+
     private boolean checkUtil(List<String> invalidFunctionNames, SyntaxTree utilSyntaxTree) {
         ModulePartNode modulePartNode = utilSyntaxTree.rootNode();
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
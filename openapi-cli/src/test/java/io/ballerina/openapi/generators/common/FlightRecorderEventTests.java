@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
+import io.ballerina.openapi.core.ContractParseEvent;
+import io.ballerina.openapi.core.SourceGenerationEvent;
+import io.ballerina.openapi.core.model.Filter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the flight recorder events of the code generation.
+ */
+public class FlightRecorderEventTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private static final String CONTRACT_PARSE_EVENT = "io.ballerina.openapi.ContractParse";
+    private static final String SOURCE_GENERATION_EVENT = "io.ballerina.openapi.SourceGeneration";
+    private Path outputDirectory;
+
+    @BeforeMethod
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("openapi-jfr");
+    }
+
+    @Test(description = "Parsing and generation events of a client generation are recorded with their fields")
+    public void testClientGenerationEvents() throws Exception {
+        Path definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml");
+        Path recordingPath = outputDirectory.resolve("generation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ContractParseEvent.class);
+            recording.enable(SourceGenerationEvent.class);
+            recording.start();
+            new BallerinaCodeGenerator().generateClient(definitionPath.toString(),
+                    outputDirectory.resolve("client").toString(), new Filter(new ArrayList<>(), new ArrayList<>()),
+                    false, false);
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+
+        List<RecordedEvent> parseEvents = getEvents(events, CONTRACT_PARSE_EVENT);
+        Assert.assertFalse(parseEvents.isEmpty());
+        RecordedEvent parseEvent = parseEvents.get(0);
+        Assert.assertEquals(parseEvent.getString("contract"), definitionPath.toString());
+        Assert.assertEquals(parseEvent.getLong("contractSize"), Files.size(definitionPath));
+        Assert.assertTrue(parseEvent.getInt("operationCount") > 0);
+        Assert.assertTrue(parseEvent.getInt("schemaCount") > 0);
+
+        List<RecordedEvent> generationEvents = getEvents(events, SOURCE_GENERATION_EVENT);
+        Set<String> kinds = generationEvents.stream().map(event -> event.getString("kind"))
+                .collect(Collectors.toSet());
+        Assert.assertEquals(kinds, Set.of("client", "utils", "types"));
+        for (RecordedEvent generationEvent : generationEvents) {
+            Assert.assertEquals(generationEvent.getString("contract"), definitionPath.toString());
+            Assert.assertEquals(generationEvent.getInt("operationCount"), parseEvent.getInt("operationCount"));
+            Assert.assertTrue(generationEvent.getInt("generatedMembers") >= 0);
+        }
+        RecordedEvent clientEvent = generationEvents.stream()
+                .filter(event -> "client".equals(event.getString("kind"))).findFirst().orElseThrow();
+        Assert.assertTrue(clientEvent.getInt("generatedMembers") > 0);
+    }
+
+    @AfterMethod
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory.toFile());
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String eventName) {
+        return events.stream().filter(event -> eventName.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+}
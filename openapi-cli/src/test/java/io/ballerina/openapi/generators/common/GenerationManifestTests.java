@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
+import io.ballerina.openapi.core.GenerationManifest;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.Filter;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the incremental generation using the generation manifest.
+ */
+public class GenerationManifestTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private Path outputDirectory;
+
+    @BeforeMethod
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("openapi-manifest");
+    }
+
+    @Test(description = "Generation is up to date while the contract, the options and the files are unchanged")
+    public void testUpToDate() throws Exception {
+        byte[] contract = Files.readAllBytes(RES_DIR.resolve("client/swagger/salesforce.yaml"));
+        Path filePath = outputDirectory.resolve("client.bal");
+        Files.writeString(filePath, "client");
+        GenerationManifest manifest = GenerationManifest.create(contract, "mode=client;");
+        manifest.addFile("client.bal", GenerationManifest.fingerprint(filePath));
+        manifest.write(outputDirectory);
+
+        Optional<GenerationManifest> previousManifest = GenerationManifest.read(outputDirectory);
+        Assert.assertTrue(previousManifest.isPresent());
+        Assert.assertEquals(previousManifest.get().getFiles(), manifest.getFiles());
+        Assert.assertTrue(GenerationManifest.create(contract, "mode=client;")
+                .isUpToDate(previousManifest.get(), outputDirectory));
+        Assert.assertFalse(GenerationManifest.create(contract, "mode=service;")
+                .isUpToDate(previousManifest.get(), outputDirectory));
+
+        // Modified files are regenerated
+        Files.writeString(filePath, "modified client");
+        Assert.assertFalse(GenerationManifest.create(contract, "mode=client;")
+                .isUpToDate(previousManifest.get(), outputDirectory));
+    }
+
+    @Test(description = "Options of a generation are fingerprinted after applying the default package")
+    public void testUpToDateWithDefaultPackage() throws Exception {
+        String definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml").toString();
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setIncremental(true);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Path manifestPath = outputDirectory.resolve(GenerationManifest.MANIFEST_FILE_NAME);
+        FileTime modifiedTime = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(manifestPath, modifiedTime);
+
+        // The second generation is skipped, hence the manifest is not rewritten
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertEquals(Files.getLastModifiedTime(manifestPath), modifiedTime);
+    }
+
+    @Test(description = "Unchanged files are not rewritten and unchanged generations are skipped")
+    public void testIncrementalGeneration() throws Exception {
+        String definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml").toString();
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Path clientPath = outputDirectory.resolve("client.bal");
+        String clientContent = Files.readString(clientPath);
+        FileTime modifiedTime = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(clientPath, modifiedTime);
+
+        // A full generation does not replace the files with the same content
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertEquals(Files.getLastModifiedTime(clientPath), modifiedTime);
+        // The manifest is written by the incremental generations only
+        Path manifestPath = outputDirectory.resolve(GenerationManifest.MANIFEST_FILE_NAME);
+        Assert.assertFalse(Files.exists(manifestPath));
+
+        generator.setIncremental(true);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertTrue(Files.exists(manifestPath));
+        // Removed files are generated again even though the contract is unchanged
+        Files.delete(clientPath);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertEquals(Files.readString(clientPath), clientContent);
+
+        // A forced generation removes the manifest which no longer describes the sources
+        generator.setIncremental(false);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertFalse(Files.exists(manifestPath));
+    }
+
+    @Test(description = "Missing contract is reported before it is fingerprinted",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "(?s)OpenAPI contract doesn't exist in the given location:.*")
+    public void testMissingContract() throws Exception {
+        String definitionPath = RES_DIR.resolve("client/swagger/missing.yaml").toString();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setIncremental(true);
+        generator.generateClient(definitionPath, outputDirectory.toString(),
+                new Filter(new ArrayList<>(), new ArrayList<>()), false, true);
+    }
+
+    @Test(description = "Types files of the previous generation which are not generated again are removed")
+    public void testStaleTypeFiles() throws Exception {
+        String definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml").toString();
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setIncremental(true);
+        generator.setMaxTypesPerFile(5);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertFalse(Files.exists(outputDirectory.resolve("types.bal")));
+        Assert.assertFalse(getTypeShards().isEmpty());
+        // Files which are not generated by the tool are kept
+        Path userFile = outputDirectory.resolve("types_user.bal");
+        Files.writeString(userFile, "");
+
+        generator.setMaxTypesPerFile(0);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertTrue(Files.exists(outputDirectory.resolve("types.bal")));
+        Assert.assertTrue(getTypeShards().isEmpty());
+        Assert.assertTrue(Files.exists(userFile));
+
+        generator.setMaxTypesPerFile(5);
+        generator.generateClient(definitionPath, outputDirectory.toString(), filter, false, true);
+        Assert.assertFalse(Files.exists(outputDirectory.resolve("types.bal")));
+        Assert.assertFalse(getTypeShards().isEmpty());
+    }
+
+    private List<Path> getTypeShards() throws IOException {
+        try (Stream<Path> files = Files.list(outputDirectory)) {
+            return files.filter(file -> file.getFileName().toString().matches("types_[0-9]+\\.bal"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @AfterMethod
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory.toFile());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
+import io.ballerina.openapi.core.GenerationProfile;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the phase profile of the code generation.
+ */
+public class GenerationProfileTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private Path outputDirectory;
+
+    @BeforeMethod
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("openapi-profile");
+    }
+
+    @Test(description = "Phases and counts of a client generation are recorded in the profile")
+    public void testClientGenerationProfile() throws Exception {
+        Path definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml");
+        GenerationProfile profile = new GenerationProfile();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setProfile(profile);
+        generator.generateClient(definitionPath.toString(), outputDirectory.toString(),
+                new Filter(new ArrayList<>(), new ArrayList<>()), false, false);
+
+        Assert.assertEquals(profile.getPhases().keySet().toArray(), new String[]{GenerationProfile.PARSING,
+                GenerationProfile.NORMALIZATION, GenerationProfile.CLIENT_GENERATION,
+                GenerationProfile.TYPE_GENERATION, GenerationProfile.WRITING, GenerationProfile.FORMATTING});
+        Assert.assertTrue(profile.getPhases().get(GenerationProfile.PARSING).getWallTime() > 0);
+        Assert.assertTrue(profile.getCounts().get(GenerationProfile.OPERATIONS) > 0);
+        Assert.assertTrue(profile.getCounts().get(GenerationProfile.GENERATED_MEMBERS) > 0);
+        long writtenBytes;
+        try (Stream<Path> files = Files.list(outputDirectory)) {
+            writtenBytes = files.filter(path -> path.toString().endsWith(".bal"))
+                    .mapToLong(path -> path.toFile().length()).sum();
+        }
+        Assert.assertEquals(profile.getCounts().get(GenerationProfile.BYTES_WRITTEN).longValue(), writtenBytes);
+        Assert.assertTrue(profile.toTable().contains(GenerationProfile.CLIENT_GENERATION));
+
+        JsonNode profileNode = Json.mapper().readTree(profile.toJson("1.3.0", definitionPath.toString()));
+        Assert.assertEquals(profileNode.get("toolVersion").asText(), "1.3.0");
+        Assert.assertTrue(profileNode.get("phases").has(GenerationProfile.TYPE_GENERATION));
+        Assert.assertEquals(profileNode.get("counts").get(GenerationProfile.OPERATIONS).asLong(),
+                profile.getCounts().get(GenerationProfile.OPERATIONS).longValue());
+    }
+
+    @Test(description = "Usage of a nested phase is not counted in the outer phase")
+    public void testNestedPhases() throws Exception {
+        GenerationProfile profile = new GenerationProfile();
+        try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.WRITING)) {
+            try (GenerationProfile.Phase nested = profile.start(GenerationProfile.FORMATTING)) {
+                Thread.sleep(200);
+            }
+        }
+        Assert.assertTrue(profile.getPhases().get(GenerationProfile.FORMATTING).getWallTime() >= 200_000_000L);
+        Assert.assertTrue(profile.getPhases().get(GenerationProfile.WRITING).getWallTime() < 200_000_000L);
+    }
+
+    @Test(description = "Disabled profile records nothing")
+    public void testDisabledProfile() {
+        GenerationProfile profile = GenerationProfile.disabled();
+        try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.PARSING)) {
+            profile.count(GenerationProfile.OPERATIONS, 1);
+        }
+        Assert.assertFalse(profile.isEnabled());
+        Assert.assertTrue(profile.getPhases().isEmpty());
+        Assert.assertTrue(profile.getCounts().isEmpty());
+    }
+
+    @AfterMethod
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory.toFile());
+    }
+}
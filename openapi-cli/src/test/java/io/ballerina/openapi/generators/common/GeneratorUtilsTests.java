@@ -20,15 +20,25 @@ package io.ballerina.openapi.generators.common;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.IdentifierSanitizer;
+import io.ballerina.openapi.core.RefIndex;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeReferenceGraph;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
@@ -90,4 +100,83 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Resolve unused type definitions without compiling the generated sources")
+    public static void testUnusedTypeDefinitionNames() {
+        String schemaContent = "public type Pet record { Tag tag; };\n" +
+                "public type Tag record { string name; };\n" +
+                "public type Owner record { Address address; };\n" +
+                "public type Address record { string city; };\n" +
+                "public type Node record { Node? next; };\n" +
+                "public type Left record { Right right; };\n" +
+                "public type Right record { Left left; };\n" +
+                "public enum Status { AVAILABLE, SOLD }\n";
+        String clientContent = "public isolated client class Client {\n" +
+                "    remote isolated function getPet() returns Pet|error { return error(\"\"); }\n" +
+                "}\n";
+        TypeReferenceGraph typeReferenceGraph = new TypeReferenceGraph(schemaContent);
+        typeReferenceGraph.addRoots(clientContent);
+        Set<String> unusedNames = typeReferenceGraph.getUnusedTypeDefinitionNames();
+        Assert.assertEquals(unusedNames, Set.of("Owner", "Address", "Status"));
+    }
+
+    @Test(description = "Names of variables, parameters and fields do not refer to the types of the same name")
+    public static void testUnusedTypeDefinitionNamesOfIdentifiers() {
+        String schemaContent = "public type payload record { string name; };\n" +
+                "public type headers record { string accept; };\n" +
+                "public type Pet record { string name; };\n" +
+                "public type Tag record { string name; };\n";
+        String clientContent = "public isolated client class Client {\n" +
+                "    final map<string> headers = {};\n" +
+                "    remote isolated function addPet(Pet payload, Tag[] tags = []) returns error? {\n" +
+                "        json jsonBody = check payload.cloneWithType(json);\n" +
+                "        map<string> httpHeaders = self.headers;\n" +
+                "        if payload is Pet {\n" +
+                "            _ = <Tag[]>tags;\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n";
+        TypeReferenceGraph typeReferenceGraph = new TypeReferenceGraph(schemaContent);
+        typeReferenceGraph.addRoots(clientContent);
+        Set<String> unusedNames = typeReferenceGraph.getUnusedTypeDefinitionNames();
+        Assert.assertEquals(unusedNames, Set.of("payload", "headers"));
+    }
+
+    @Test(description = "Resolve references through the reference index of a definition")
+    public static void testRefIndex() throws BallerinaOpenApiException {
+        Schema<?> petSchema = new ObjectSchema().description("Pet details");
+        RequestBody petBody = new RequestBody().description("Pet to add");
+        OpenAPI openAPI = new OpenAPI().components(new Components()
+                .schemas(new HashMap<>(Map.of("PetDetails", petSchema)))
+                .requestBodies(new HashMap<>(Map.of("pet_body", petBody))));
+        RefIndex refIndex = new RefIndex(openAPI);
+        RefIndex.Reference reference = refIndex.get("#/components/schemas/pet details");
+        Assert.assertEquals(reference.getKind(), "schemas");
+        Assert.assertEquals(reference.getName(), "pet details");
+        Assert.assertEquals(reference.getTypeName(), "PetDetails");
+        Assert.assertSame(reference.getSchema(), petSchema);
+        Assert.assertSame(refIndex.get("#/components/schemas/pet details"), reference);
+        Assert.assertSame(refIndex.get("#/components/requestBodies/pet_body").getRequestBody(), petBody);
+        Assert.assertNull(refIndex.getSchema("#/components/schemas/Tag"));
+    }
+
+    @Test(description = "Reference index rejects references which are not local",
+            expectedExceptions = BallerinaOpenApiException.class)
+    public static void testRefIndexInvalidReference() throws BallerinaOpenApiException {
+        new RefIndex(new OpenAPI()).get("/components/schemas/Error");
+    }
+
+    @Test(description = "Sanitized names are the same for the repeated lookups of a name")
+    public static void testIdentifierSanitizer() {
+        Assert.assertEquals(IdentifierSanitizer.escapeIdentifier("type"), "'type");
+        Assert.assertEquals(IdentifierSanitizer.escapeIdentifier("200"), "'200");
+        Assert.assertEquals(IdentifierSanitizer.escapeIdentifier("pet-id"), "'pet\\-id");
+        Assert.assertEquals(IdentifierSanitizer.escapeIdentifier("petId"), "petId");
+        Assert.assertEquals(getValidName("pet store", true), "PetStore");
+        Assert.assertEquals(getValidName("pet store", false), "petStore");
+        Assert.assertEquals(getValidName("pet store", true), "PetStore");
+        Assert.assertEquals(getValidName("error", false), "'error");
+        Assert.assertTrue(IdentifierSanitizer.isNumeric("404"));
+        Assert.assertFalse(IdentifierSanitizer.isNumeric("4xx"));
+    }
 }
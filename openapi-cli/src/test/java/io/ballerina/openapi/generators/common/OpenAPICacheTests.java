@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.OpenAPICache;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Optional;
+
+/**
+ * Tests for the on disk cache of the normalized OpenAPI models.
+ */
+public class OpenAPICacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private Path cacheDirectory;
+
+    @BeforeMethod
+    public void createCacheDirectory() throws IOException {
+        cacheDirectory = Files.createTempDirectory("openapi-cache");
+    }
+
+    @Test(description = "Generated sources of a cached model are identical to the sources of a parsed model")
+    public void testCachedModel() throws Exception {
+        Path definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml");
+        OpenAPICache cache = new OpenAPICache(cacheDirectory);
+        String key = OpenAPICache.getKey(definitionPath, true);
+        Assert.assertTrue(cache.get(key).isEmpty());
+
+        OpenAPI parsedOpenAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, cache);
+        Optional<OpenAPI> cachedOpenAPI = cache.get(key);
+        Assert.assertTrue(cachedOpenAPI.isPresent());
+        Assert.assertEquals(generateSources(cachedOpenAPI.get()), generateSources(parsedOpenAPI));
+        // Parse options are a part of the key
+        Assert.assertNotEquals(OpenAPICache.getKey(definitionPath, false), key);
+    }
+
+    @Test(description = "Generated sources of a cached model keep the order of the types of a parsed model")
+    public void testCachedModelOrder() throws Exception {
+        // Twelve schemas fit in a hash map of the default capacity, which a presized copy of the map would double
+        Path definitionPath = RES_DIR.resolve("client/swagger/schema_order.yaml");
+        OpenAPICache cache = new OpenAPICache(cacheDirectory);
+        OpenAPI parsedOpenAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, cache);
+        Assert.assertEquals(parsedOpenAPI.getComponents().getSchemas().size(), 12);
+        Optional<OpenAPI> cachedOpenAPI = cache.get(OpenAPICache.getKey(definitionPath, true));
+        Assert.assertTrue(cachedOpenAPI.isPresent());
+        Assert.assertEquals(new ArrayList<>(cachedOpenAPI.get().getComponents().getSchemas().keySet()),
+                new ArrayList<>(parsedOpenAPI.getComponents().getSchemas().keySet()));
+        Assert.assertEquals(generateSources(cachedOpenAPI.get()), generateSources(parsedOpenAPI));
+    }
+
+    @Test(description = "Changes of the files referred by the contract are not served from the cache")
+    public void testCachedModelWithReferredFile() throws Exception {
+        Path contractDirectory = Files.createTempDirectory("openapi-contract");
+        try {
+            FileUtils.copyDirectory(RES_DIR.resolve("client/swagger/multi_file").toFile(),
+                    contractDirectory.toFile());
+            Path definitionPath = contractDirectory.resolve("openapi.yaml");
+            OpenAPICache cache = new OpenAPICache(cacheDirectory);
+            String key = OpenAPICache.getKey(definitionPath, true);
+            OpenAPI firstOpenAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, cache);
+            Assert.assertFalse(firstOpenAPI.getComponents().getSchemas().get("Pet").getProperties()
+                    .containsKey("tag"));
+
+            Path petPath = contractDirectory.resolve("Pet.yaml");
+            Files.writeString(petPath, Files.readString(petPath) + "        tag:\n          type: string\n");
+            Assert.assertNotEquals(OpenAPICache.getKey(definitionPath, true), key);
+            OpenAPI secondOpenAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, cache);
+            Assert.assertTrue(secondOpenAPI.getComponents().getSchemas().get("Pet").getProperties()
+                    .containsKey("tag"));
+            Assert.assertEquals(generateSources(secondOpenAPI),
+                    generateSources(GeneratorUtils.normalizeOpenAPI(definitionPath, true)));
+        } finally {
+            FileUtils.deleteDirectory(contractDirectory.toFile());
+        }
+    }
+
+    @Test(description = "Least recently used models are evicted when the cache exceeds its size limit")
+    public void testEviction() throws Exception {
+        OpenAPICache cache = new OpenAPICache(cacheDirectory, 1);
+        Path firstDefinition = RES_DIR.resolve("client/swagger/salesforce.yaml");
+        Path secondDefinition = RES_DIR.resolve("client/swagger/request_body_basic_scenarios.yaml");
+        GeneratorUtils.normalizeOpenAPI(firstDefinition, true, cache);
+        GeneratorUtils.normalizeOpenAPI(secondDefinition, true, cache);
+        // Every snapshot is larger than the limit, hence only the snapshot written last is kept
+        Assert.assertTrue(cache.get(OpenAPICache.getKey(firstDefinition, true)).isEmpty());
+        Assert.assertTrue(cache.get(OpenAPICache.getKey(secondDefinition, true)).isPresent());
+    }
+
+    @Test(description = "Clear the cached models")
+    public void testClear() throws Exception {
+        Path definitionPath = RES_DIR.resolve("client/swagger/salesforce.yaml");
+        OpenAPICache cache = new OpenAPICache(cacheDirectory);
+        GeneratorUtils.normalizeOpenAPI(definitionPath, true, cache);
+        cache.clear();
+        Assert.assertTrue(cache.get(OpenAPICache.getKey(definitionPath, true)).isEmpty());
+    }
+
+    @AfterMethod
+    public void deleteCacheDirectory() throws IOException {
+        FileUtils.deleteDirectory(cacheDirectory.toFile());
+    }
+
+    private static String generateSources(OpenAPI openAPI) throws Exception {
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        return clientGenerator.generateSyntaxTree().toSourceCode() +
+                new BallerinaTypesGenerator(openAPI).generateSyntaxTree().toSourceCode();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.SourceFormatter;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeReferenceGraph;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the concurrent and the chunked formatting of the generated sources.
+ */
+public class SourceFormatterTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    @Test(description = "Format the generated files concurrently")
+    public void testFormatAll() throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("client/swagger/salesforce.yaml"), true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .withOpenAPI(openAPI).build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        List<SyntaxTree> syntaxTrees = List.of(clientGenerator.generateSyntaxTree(),
+                clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
+                new BallerinaTypesGenerator(openAPI).generateSyntaxTree());
+
+        List<String> contents = new SourceFormatter(forkJoinPool).formatAll(syntaxTrees);
+        Assert.assertEquals(contents.size(), syntaxTrees.size());
+        for (int i = 0; i < syntaxTrees.size(); i++) {
+            Assert.assertEquals(contents.get(i), Formatter.format(syntaxTrees.get(i)).toString());
+        }
+    }
+
+    @Test(description = "Format the module members of a large syntax tree in chunks")
+    public void testChunkedFormatting() throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
+                RES_DIR.resolve("schema/swagger/nullable_option_record_schema.yaml"), true);
+        SyntaxTree syntaxTree = new BallerinaTypesGenerator(openAPI).generateSyntaxTree();
+        int memberCount = ((ModulePartNode) syntaxTree.rootNode()).members().size();
+        Assert.assertTrue(memberCount > 2);
+
+        String content = new SourceFormatter(forkJoinPool, 2, 2).format(syntaxTree);
+        SyntaxTree chunkedSyntaxTree = SyntaxTree.from(TextDocuments.from(content));
+        Assert.assertFalse(chunkedSyntaxTree.hasDiagnostics());
+        Assert.assertEquals(getDeclarationNames(chunkedSyntaxTree), getDeclarationNames(syntaxTree));
+        // Stitched chunks should already be formatted
+        Assert.assertEquals(Formatter.format(content), content);
+    }
+
+    @Test(description = "Syntax trees below the chunk threshold are formatted as a whole")
+    public void testChunkThreshold() throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
+                RES_DIR.resolve("schema/swagger/nullable_option_record_schema.yaml"), true);
+        SyntaxTree syntaxTree = new BallerinaTypesGenerator(openAPI).generateSyntaxTree();
+        Assert.assertEquals(new SourceFormatter(forkJoinPool).format(syntaxTree),
+                Formatter.format(syntaxTree).toString());
+    }
+
+    @Test(description = "Write the formatted source of a syntax tree to a writer")
+    public void testFormatToWriter() throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
+                RES_DIR.resolve("schema/swagger/nullable_option_record_schema.yaml"), true);
+        SyntaxTree syntaxTree = new BallerinaTypesGenerator(openAPI).generateSyntaxTree();
+        StringWriter writer = new StringWriter();
+        new SourceFormatter(forkJoinPool).format(syntaxTree, writer);
+        Assert.assertEquals(writer.toString(), Formatter.format(syntaxTree).toString());
+
+        SourceFormatter chunkedFormatter = new SourceFormatter(forkJoinPool, 2, 2);
+        StringWriter chunkedWriter = new StringWriter();
+        chunkedFormatter.format(syntaxTree, chunkedWriter);
+        Assert.assertEquals(chunkedWriter.toString(), chunkedFormatter.format(syntaxTree));
+    }
+
+    @Test(description = "Write the chunks which are formatted ahead of the writer in a window")
+    public void testFormatToWriterInWindow() throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
+                RES_DIR.resolve("schema/swagger/nullable_option_record_schema.yaml"), true);
+        SyntaxTree syntaxTree = new BallerinaTypesGenerator(openAPI).generateSyntaxTree();
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            // Every member is a chunk, which makes more chunks than the window of a single threaded pool
+            SourceFormatter chunkedFormatter = new SourceFormatter(singleThreadPool, 2, 1);
+            StringWriter chunkedWriter = new StringWriter();
+            chunkedFormatter.format(syntaxTree, chunkedWriter);
+            Assert.assertEquals(chunkedWriter.toString(), chunkedFormatter.format(syntaxTree));
+        } finally {
+            singleThreadPool.shutdownNow();
+        }
+    }
+
+    @AfterClass
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    private static List<String> getDeclarationNames(SyntaxTree syntaxTree) {
+        List<String> names = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            names.add(TypeReferenceGraph.getDeclarationName(member));
+        }
+        return names;
+    }
+}
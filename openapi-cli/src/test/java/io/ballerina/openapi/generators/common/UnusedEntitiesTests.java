@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeReferenceGraph;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.formatter.core.Formatter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
+import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
+import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
+import static io.ballerina.openapi.core.GeneratorConstants.TYPE_FILE_NAME;
+
+/**
+ * Tests that the unused types resolved with the reference graph are the same as the unused types resolved by
+ * compiling the generated sources, which the generation did before the reference graph.
+ */
+public class UnusedEntitiesTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources").toAbsolutePath();
+
+    @Test(description = "Types of a client filtered by tags are the same as the types of the compilation loop")
+    public void testSameAsCompilationLoop() throws Exception {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("petstore_tags.yaml"), true);
+        Filter filter = new Filter(new ArrayList<>(List.of("dogs")), new ArrayList<>());
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder().withFilters(filter).withOpenAPI(openAPI)
+                .build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        SyntaxTree schemaSyntaxTree = new BallerinaTypesGenerator(openAPI, false,
+                clientGenerator.getTypeDefinitionNodeList()).generateSyntaxTree();
+        String clientContent = Formatter.format(clientSyntaxTree).toString();
+        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+
+        String content = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientContent, schemaContent, null);
+        Assert.assertNotEquals(content, schemaContent, "The filtered client should leave unused types");
+        Assert.assertEquals(content, removeUnusedEntitiesByCompilation(schemaSyntaxTree, clientContent,
+                schemaContent));
+    }
+
+    /**
+     * Removes the unused types the way the generation did before the reference graph, by compiling the generated
+     * sources and removing the types without references until every type is referred.
+     */
+    private static String removeUnusedEntitiesByCompilation(SyntaxTree schemaSyntaxTree, String clientContent,
+                                                            String schemaContent) throws Exception {
+        List<String> unusedTypeNames = getUnusedTypeNames(clientContent, schemaContent);
+        while (!unusedTypeNames.isEmpty()) {
+            ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
+            NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+            List<ModuleMemberDeclarationNode> unusedMembers = new ArrayList<>();
+            for (ModuleMemberDeclarationNode member : members) {
+                if (unusedTypeNames.contains(TypeReferenceGraph.getDeclarationName(member))) {
+                    unusedMembers.add(member);
+                }
+            }
+            schemaSyntaxTree = schemaSyntaxTree.modifyWith(modulePartNode.modify(modulePartNode.imports(),
+                    members.removeAll(unusedMembers), modulePartNode.eofToken()));
+            schemaContent = Formatter.format(schemaSyntaxTree).toString();
+            unusedTypeNames = getUnusedTypeNames(clientContent, schemaContent);
+        }
+        return schemaContent;
+    }
+
+    private static List<String> getUnusedTypeNames(String clientContent, String schemaContent) throws IOException {
+        Path projectDirectory = Files.createTempDirectory("openapi-unused");
+        try {
+            Files.writeString(projectDirectory.resolve(BALLERINA_TOML), BALLERINA_TOML_CONTENT);
+            Files.writeString(projectDirectory.resolve(CLIENT_FILE_NAME), clientContent);
+            Files.writeString(projectDirectory.resolve(TYPE_FILE_NAME), schemaContent);
+            Path clientPath = projectDirectory.resolve(CLIENT_FILE_NAME);
+            Project project = ProjectLoader.loadProject(clientPath);
+            Assert.assertEquals(project.kind(), ProjectKind.BUILD_PROJECT);
+            SemanticModel semanticModel = project.currentPackage().getCompilation()
+                    .getSemanticModel(project.documentId(clientPath).moduleId());
+            List<String> unusedTypeNames = new ArrayList<>();
+            for (Symbol symbol : semanticModel.moduleSymbols()) {
+                // The only reference of an unused type is its definition
+                if ((symbol.kind() == SymbolKind.TYPE_DEFINITION || symbol.kind() == SymbolKind.ENUM) &&
+                        semanticModel.references(symbol).size() == 1) {
+                    unusedTypeNames.add(symbol.getName().orElseThrow());
+                }
+            }
+            return unusedTypeNames;
+        } finally {
+            FileUtils.deleteDirectory(projectDirectory.toFile());
+        }
+    }
+}
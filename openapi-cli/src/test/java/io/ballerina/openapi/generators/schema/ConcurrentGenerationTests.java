@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Tests that concurrent type generations, and the parallel generation of a single definition, are deterministic.
+ */
+public class ConcurrentGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema").toAbsolutePath();
+    private static final int GENERATION_COUNT = 32;
+
+    @Test(description = "Generate the same definition concurrently with and without the nullable option")
+    public void testConcurrentGenerationIsDeterministic() throws Exception {
+        Path definitionPath = RES_DIR.resolve("swagger/nullable_option_record_schema.yaml");
+        String expectedNullable = generateTypes(definitionPath, true);
+        String expectedNonNullable = generateTypes(definitionPath, false);
+        Assert.assertNotEquals(expectedNullable, expectedNonNullable);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> nullableResults = new ArrayList<>();
+            List<Future<String>> nonNullableResults = new ArrayList<>();
+            for (int i = 0; i < GENERATION_COUNT; i++) {
+                nullableResults.add(executorService.submit(() -> generateTypes(definitionPath, true)));
+                nonNullableResults.add(executorService.submit(() -> generateTypes(definitionPath, false)));
+            }
+            for (int i = 0; i < GENERATION_COUNT; i++) {
+                Assert.assertEquals(nullableResults.get(i).get(), expectedNullable);
+                Assert.assertEquals(nonNullableResults.get(i).get(), expectedNonNullable);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(description = "Generate types on a fork join pool and compare with the sequential generation",
+            dataProvider = "definitionProvider")
+    public void testParallelGenerationMatchesSequential(String definition) throws Exception {
+        Path definitionPath = RES_DIR.resolve(definition);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            for (boolean nullable : new boolean[]{true, false}) {
+                Assert.assertEquals(generateTypes(definitionPath, nullable, forkJoinPool),
+                        generateTypes(definitionPath, nullable));
+            }
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    @DataProvider(name = "definitionProvider")
+    public Object[][] definitionProvider() {
+        return new Object[][]{
+                {"swagger/nullable_option_record_schema.yaml"},
+                {"swagger/constraint/record_field.yaml"},
+                {"swagger/constraint/array.yaml"},
+                {"swagger/array_with_oneOf_complex.yaml"},
+                {"swagger/nested_allOf_with_oneOf.yaml"},
+                {"swagger/oneOf_with_inline_schemas.yaml"},
+                {"swagger/world_bank.yaml"}
+        };
+    }
+
+    private static String generateTypes(Path definitionPath, boolean nullable)
+            throws IOException, BallerinaOpenApiException {
+        return generateTypes(definitionPath, nullable, null);
+    }
+
+    private static String generateTypes(Path definitionPath, boolean nullable, ForkJoinPool forkJoinPool)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, nullable);
+        ballerinaSchemaGenerator.setForkJoinPool(forkJoinPool);
+        return ballerinaSchemaGenerator.generateSyntaxTree().toSourceCode();
+    }
+}
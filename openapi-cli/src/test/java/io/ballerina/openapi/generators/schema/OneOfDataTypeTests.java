@@ -51,8 +51,9 @@ public class OneOfDataTypeTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
         Schema schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
-        GeneratorMetaData.createInstance(openAPI, false);
-        UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "Error");
+        GeneratorMetaData generatorMetaData = new GeneratorMetaData(openAPI, false);
+        UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "Error",
+                generatorMetaData);
         String oneOfUnionType = unionTypeGenerator.generateTypeDescriptorNode().toString().trim();
 
         Assert.assertEquals(oneOfUnionType, "Activity|Profile");
@@ -65,8 +66,9 @@ public class OneOfDataTypeTests {
         Schema schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
         List<Schema> oneOf = composedSchema.getOneOf();
-        GeneratorMetaData.createInstance(openAPI, false);
-        UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "Error");
+        GeneratorMetaData generatorMetaData = new GeneratorMetaData(openAPI, false);
+        UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "Error",
+                generatorMetaData);
         String oneOfUnionType = unionTypeGenerator.generateTypeDescriptorNode().toString().trim();
         Assert.assertEquals(oneOfUnionType, "Activity|Profile01");
     }
@@ -77,8 +79,9 @@ public class OneOfDataTypeTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
         Schema schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
-        GeneratorMetaData.createInstance(openAPI, true);
-        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, "Error", null);
+        GeneratorMetaData generatorMetaData = new GeneratorMetaData(openAPI, true);
+        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, "Error", null,
+                generatorMetaData);
         String oneOfUnionType = typeGenerator.generateTypeDescriptorNode().toString().trim();
         Assert.assertEquals(oneOfUnionType, "Activity|Profile?");
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.SchemaAnalysis;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Tests for the schema facts computed by the schema analysis.
+ */
+public class SchemaAnalysisTests {
+
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/schema").toAbsolutePath();
+
+    @Test(description = "Constraint facts are the same as the on demand check")
+    public void testConstraints() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/schema_analysis.yaml"), true);
+        SchemaAnalysis schemaAnalysis = new GeneratorMetaData(openAPI, false).getSchemaAnalysis();
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        for (Schema<?> schema : schemas.values()) {
+            Assert.assertEquals(schemaAnalysis.hasConstraints(schema), GeneratorUtils.hasConstraints(schema));
+        }
+        Assert.assertTrue(schemaAnalysis.hasConstraints(schemas.get("User")));
+        Assert.assertFalse(schemaAnalysis.hasConstraints(schemas.get("Tag")));
+        // Schemas which are not analysed are checked on demand
+        Assert.assertTrue(schemaAnalysis.hasConstraints(new StringSchema().maxLength(5)));
+    }
+}
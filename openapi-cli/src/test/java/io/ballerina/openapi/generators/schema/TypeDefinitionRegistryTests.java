@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests for the type definition registry shared by the generators.
+ */
+public class TypeDefinitionRegistryTests {
+
+    @Test(description = "Type definitions are kept in the insertion order and duplicated names are skipped")
+    public void testAddIfAbsent() {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        Assert.assertTrue(registry.addIfAbsent(createTypeDefinition("public type Pet record { string name; };")));
+        Assert.assertTrue(registry.addIfAbsent(createTypeDefinition("public type Tag record { string name; };")));
+        Assert.assertFalse(registry.addIfAbsent(createTypeDefinition("public type Pet record { string name; };")));
+        Assert.assertEquals(getTypeNames(registry), List.of("Pet", "Tag"));
+        Assert.assertTrue(registry.containsTypeName("Tag"));
+
+        registry.remove(1);
+        Assert.assertFalse(registry.containsTypeName("Tag"));
+        Assert.assertTrue(registry.addIfAbsent(createTypeDefinition("public type Tag record { int id; };")));
+    }
+
+    @Test(description = "Skipped type definitions which differ from the registered ones are reported as conflicts")
+    public void testConflictingTypeDefinitions() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry(new PrintStream(output, true,
+                StandardCharsets.UTF_8));
+        Assert.assertTrue(registry.addIfAbsent(createTypeDefinition("public type Pet record { string name; };")));
+        Assert.assertFalse(registry.addIfAbsent(createTypeDefinition("public type Pet record {\n" +
+                "    # Name of the pet\n" +
+                "    string name;\n" +
+                "};")));
+        Assert.assertTrue(registry.getConflictingTypeNames().isEmpty());
+        Assert.assertEquals(output.size(), 0);
+
+        Assert.assertFalse(registry.addIfAbsent(createTypeDefinition("public type Pet record { int id; };")));
+        Assert.assertFalse(registry.addIfAbsent(createTypeDefinition("public type Pet record { int id; };")));
+        Assert.assertEquals(registry.getConflictingTypeNames(), Set.of("Pet"));
+        Assert.assertEquals(getTypeNames(registry), List.of("Pet"));
+        Assert.assertEquals(output.toString(StandardCharsets.UTF_8), String.format("WARNING: the type `Pet` is " +
+                "generated more than once with different definitions. Only the first definition is generated.%n"));
+    }
+
+    @Test(description = "Type definitions are added to plain lists with the same semantics")
+    public void testAddIfAbsentToList() {
+        List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+        TypeDefinitionNode pet = createTypeDefinition("public type Pet record { string name; };");
+        Assert.assertTrue(TypeDefinitionRegistry.addIfAbsent(typeDefinitionNodes, pet));
+        Assert.assertFalse(TypeDefinitionRegistry.addIfAbsent(typeDefinitionNodes, pet));
+        Assert.assertEquals(typeDefinitionNodes.size(), 1);
+    }
+
+    private static TypeDefinitionNode createTypeDefinition(String source) {
+        return (TypeDefinitionNode) NodeParser.parseModuleMemberDeclaration(source);
+    }
+
+    private static List<String> getTypeNames(List<TypeDefinitionNode> typeDefinitionNodes) {
+        List<String> typeNames = new ArrayList<>();
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
+            typeNames.add(typeDefinitionNode.typeName().text());
+        }
+        return typeNames;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.schema.TypesModuleSharder;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for the partitioning of the generated types module into multiple files.
+ */
+public class TypesModuleSharderTests {
+
+    private static final String TYPES_MODULE = "import ballerina/constraint;\n" +
+            "import ballerina/http;\n" +
+            "\n" +
+            "public type Pet record {\n" +
+            "    @constraint:String {maxLength: 10}\n" +
+            "    string name;\n" +
+            "};\n" +
+            "\n" +
+            "public type Dog record {\n" +
+            "    *Pet;\n" +
+            "    boolean bark;\n" +
+            "};\n" +
+            "\n" +
+            "public type Cat record {\n" +
+            "    *Pet;\n" +
+            "    int lives;\n" +
+            "};\n" +
+            "\n" +
+            "# Refer https://example.com/docs\n" +
+            "public type PetResponse record {|\n" +
+            "    *http:Ok;\n" +
+            "    Pet body;\n" +
+            "|};\n" +
+            "\n" +
+            "public type Status \"available\"|\"sold\";\n" +
+            "\n" +
+            "public enum Category {\n" +
+            "    DOG, CAT\n" +
+            "}\n";
+
+    @Test(description = "Small types modules are not partitioned")
+    public void testSmallModule() {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(TYPES_MODULE));
+        Map<Integer, SyntaxTree> shards = new TypesModuleSharder(6).partition(syntaxTree);
+        Assert.assertEquals(shards.size(), 1);
+        Assert.assertSame(shards.get(TypesModuleSharder.UNPARTITIONED), syntaxTree);
+    }
+
+    @Test(description = "Every declaration is in exactly one shard and the shards import only the used modules")
+    public void testPartition() {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(TYPES_MODULE));
+        Map<Integer, SyntaxTree> shards = new TypesModuleSharder(2).partition(syntaxTree);
+        Assert.assertTrue(shards.size() > 1 && shards.size() <= 3);
+
+        List<String> declarations = new ArrayList<>();
+        for (Map.Entry<Integer, SyntaxTree> shardEntry : shards.entrySet()) {
+            // Shards are keyed by their index among the three shards of six declarations
+            Assert.assertTrue(shardEntry.getKey() >= 0 && shardEntry.getKey() < 3);
+            SyntaxTree shard = shardEntry.getValue();
+            ModulePartNode modulePartNode = shard.rootNode();
+            Set<String> imports = new HashSet<>();
+            StringBuilder members = new StringBuilder();
+            for (ImportDeclarationNode importDeclarationNode : modulePartNode.imports()) {
+                imports.add(importDeclarationNode.moduleName().get(0).text());
+            }
+            for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                declarations.add(member.toSourceCode().trim());
+                members.append(member.toSourceCode());
+            }
+            Assert.assertFalse(modulePartNode.members().isEmpty());
+            Assert.assertEquals(imports.contains("constraint"), members.toString().contains("@constraint:"));
+            Assert.assertEquals(imports.contains("http"), members.toString().contains("http:Ok"));
+        }
+
+        List<String> expectedDeclarations = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            expectedDeclarations.add(member.toSourceCode().trim());
+        }
+        Assert.assertEqualsNoOrder(declarations.toArray(), expectedDeclarations.toArray());
+    }
+
+    @Test(description = "Declarations stay in the same shard across generations")
+    public void testStablePartition() {
+        Map<Integer, SyntaxTree> shards = new TypesModuleSharder(2).partition(SyntaxTree.from(
+                TextDocuments.from(TYPES_MODULE)));
+        Map<Integer, SyntaxTree> regeneratedShards = new TypesModuleSharder(2).partition(SyntaxTree.from(
+                TextDocuments.from(TYPES_MODULE)));
+        Assert.assertEquals(regeneratedShards.keySet(), shards.keySet());
+        for (Map.Entry<Integer, SyntaxTree> shard : shards.entrySet()) {
+            Assert.assertEquals(regeneratedShards.get(shard.getKey()).toSourceCode(),
+                    shard.getValue().toSourceCode());
+        }
+    }
+
+    @Test(description = "Declarations move only to the new shard when the number of shards grows")
+    public void testConsistentHash() {
+        int movedKeys = 0;
+        for (int key = 0; key < 1000; key++) {
+            int shard = TypesModuleSharder.getConsistentHash(key, 9);
+            int newShard = TypesModuleSharder.getConsistentHash(key, 10);
+            Assert.assertTrue(shard >= 0 && shard < 9);
+            if (newShard != shard) {
+                Assert.assertEquals(newShard, 9);
+                movedKeys++;
+            }
+        }
+        // About a tenth of the keys move to the new shard
+        Assert.assertTrue(movedKeys > 50 && movedKeys < 150);
+    }
+
+    @Test(description = "Number of declarations in a shard should be positive",
+            expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidShardSize() {
+        new TypesModuleSharder(0);
+    }
+}
@@ -36,10 +36,12 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.OpenAPICache;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
 import io.ballerina.projects.DocumentConfig;
@@ -66,7 +68,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -226,7 +227,7 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
         }
 
         // generate ballerina records to represent schemas.
-        List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+        List<TypeDefinitionNode> typeDefinitionNodeList = new TypeDefinitionRegistry();
         typeDefinitionNodeList.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
         typeDefinitionNodeList.addAll(ballerinaClientGenerator
                 .getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
@@ -272,9 +273,13 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         clientMetaDataBuilder.withPlugin(true);
         Filter filter = new Filter();
+        // Normalized definitions are cached in the target directory, hence the unchanged definitions are not parsed
+        // in every build.
+        OpenAPICache openAPICache = new OpenAPICache(
+                context.currentPackage().project().targetDir().resolve(OpenAPICache.CACHE_DIRECTORY));
         if (annotations == null) {
             // normalize OpenAPI definition.
-            OpenAPI openAPIDef = normalizeOpenAPI(openAPI, false);
+            OpenAPI openAPIDef = normalizeOpenAPI(openAPI, false, openAPICache);
             clientMetaDataBuilder.withOpenAPI(openAPIDef);
             return clientMetaDataBuilder.build();
         }
@@ -334,7 +339,7 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
         }
         // normalize OpenAPI definition.
         clientMetaDataBuilder.withFilters(filter);
-        OpenAPI openAPIDef = normalizeOpenAPI(openAPI, !isResources);
+        OpenAPI openAPIDef = normalizeOpenAPI(openAPI, !isResources, filter, openAPICache);
         clientMetaDataBuilder.withOpenAPI(openAPIDef);
 
         return clientMetaDataBuilder.build();
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of parsing an OpenAPI contract with the swagger parser.
+ *
+ * @since 1.3.0
+ */
+@Name("io.ballerina.openapi.ContractParse")
+@Label("OpenAPI Contract Parse")
+@Category({"Ballerina", "OpenAPI"})
+@Description("Parsing and resolving an OpenAPI contract")
+@StackTrace(false)
+public class ContractParseEvent extends Event {
+
+    @Label("Contract")
+    @Description("Path of the OpenAPI contract")
+    private String contract;
+
+    @Label("Contract Size")
+    @Description("Size of the OpenAPI contract")
+    @DataAmount
+    private long contractSize;
+
+    @Label("Operations")
+    @Description("Number of operations of the parsed contract")
+    private int operationCount;
+
+    @Label("Schemas")
+    @Description("Number of component schemas of the parsed contract")
+    private int schemaCount;
+
+    public void setContract(String contract) {
+        this.contract = contract;
+    }
+
+    public void setContractSize(long contractSize) {
+        this.contractSize = contractSize;
+    }
+
+    public void setOperationCount(int operationCount) {
+        this.operationCount = operationCount;
+    }
+
+    public void setSchemaCount(int schemaCount) {
+        this.schemaCount = schemaCount;
+    }
+}
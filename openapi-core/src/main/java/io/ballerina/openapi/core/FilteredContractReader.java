@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reduces an OpenAPI contract to the operations selected by a {@link Filter}.
+ * <p>
+ * The contract is read as a plain JSON tree, which only indexes the paths and the components. The operations matching
+ * the filter are selected and only the components in the transitive {@code $ref} closure of those operations are
+ * kept, hence the parser resolves and flattens only the selection instead of the whole contract. The security schemes
+ * and the document level details are kept as they are.
+ *
+ * @since 1.3.0
+ */
+public class FilteredContractReader {
+
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+    private static final String SECURITY_SCHEMES = "securitySchemes";
+    private static final String TAGS = "tags";
+    private static final String OPERATION_ID = "operationId";
+    private static final String REF = "$ref";
+    private static final String MAPPING = "mapping";
+    private static final String COMPONENT_REF_PREFIX = "#/components/";
+    private static final Set<String> OPERATIONS = Set.of("get", "put", "post", "delete", "options", "head", "patch",
+            "trace");
+
+    private FilteredContractReader() {
+    }
+
+    /**
+     * Checks whether the given filter selects a subset of the operations.
+     *
+     * @param filter tags and operations filter, can be null
+     * @return true when the filter has tags or operations
+     */
+    public static boolean isFiltered(Filter filter) {
+        return filter != null && ((filter.getTags() != null && !filter.getTags().isEmpty()) ||
+                (filter.getOperations() != null && !filter.getOperations().isEmpty()));
+    }
+
+    /**
+     * Reduces the given contract to the operations selected by the filter and the components they refer.
+     *
+     * @param content content of the OpenAPI contract in YAML or JSON format
+     * @param filter  tags and operations filter
+     * @return reduced contract in JSON format, or the given content when the filter does not select operations
+     * @throws BallerinaOpenApiException when the reduced contract can not be written
+     */
+    public static String filterContract(String content, Filter filter) throws BallerinaOpenApiException {
+        if (!isFiltered(filter)) {
+            return content;
+        }
+        JsonNode contract;
+        try {
+            contract = content.trim().startsWith("{") ? Json.mapper().readTree(content) :
+                    Yaml.mapper().readTree(content);
+        } catch (JsonProcessingException e) {
+            // Invalid contracts are reported by the parser
+            return content;
+        }
+        if (!(contract instanceof ObjectNode) || !(contract.get(PATHS) instanceof ObjectNode)) {
+            return content;
+        }
+        // The document level details are shared with the given contract, only the paths and the components are copied
+        ObjectNode filteredContract = Json.mapper().createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = contract.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getKey().equals(PATHS) || field.getKey().equals(COMPONENTS)) {
+                filteredContract.putObject(field.getKey());
+            } else {
+                filteredContract.set(field.getKey(), field.getValue());
+            }
+        }
+        ObjectNode filteredPaths = (ObjectNode) filteredContract.get(PATHS);
+        Deque<JsonNode> pendingNodes = new ArrayDeque<>();
+        Iterator<Map.Entry<String, JsonNode>> paths = contract.get(PATHS).fields();
+        while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            ObjectNode pathItem = filterPathItem(path.getValue(), filter);
+            if (pathItem != null) {
+                filteredPaths.set(path.getKey(), pathItem);
+                pendingNodes.add(pathItem);
+            }
+        }
+
+        JsonNode components = contract.get(COMPONENTS);
+        if (!(components instanceof ObjectNode)) {
+            return toJson(filteredContract);
+        }
+        // Collect the referred components until the closure is complete
+        Set<String> visitedRefs = new HashSet<>();
+        Map<String, Set<String>> referredComponents = new HashMap<>();
+        while (!pendingNodes.isEmpty()) {
+            for (String ref : collectComponentRefs(pendingNodes.poll())) {
+                if (!visitedRefs.add(ref)) {
+                    continue;
+                }
+                String[] refParts = ref.substring(COMPONENT_REF_PREFIX.length()).split("/", 2);
+                if (refParts.length != 2) {
+                    continue;
+                }
+                String componentName = unescape(refParts[1]);
+                JsonNode component = components.path(refParts[0]).get(componentName);
+                if (component != null) {
+                    referredComponents.computeIfAbsent(refParts[0], key -> new HashSet<>()).add(componentName);
+                    pendingNodes.add(component);
+                }
+            }
+        }
+        // Referred components are added in the order they are defined in the contract
+        ObjectNode filteredComponents = (ObjectNode) filteredContract.get(COMPONENTS);
+        Iterator<Map.Entry<String, JsonNode>> sections = components.fields();
+        while (sections.hasNext()) {
+            Map.Entry<String, JsonNode> section = sections.next();
+            if (section.getKey().equals(SECURITY_SCHEMES) || !section.getValue().isObject()) {
+                filteredComponents.set(section.getKey(), section.getValue());
+                continue;
+            }
+            ObjectNode filteredSection = filteredComponents.putObject(section.getKey());
+            Set<String> componentNames = referredComponents.getOrDefault(section.getKey(), Set.of());
+            Iterator<Map.Entry<String, JsonNode>> sectionComponents = section.getValue().fields();
+            while (sectionComponents.hasNext()) {
+                Map.Entry<String, JsonNode> component = sectionComponents.next();
+                if (componentNames.contains(component.getKey())) {
+                    filteredSection.set(component.getKey(), component.getValue());
+                }
+            }
+        }
+        return toJson(filteredContract);
+    }
+
+    private static ObjectNode filterPathItem(JsonNode pathItem, Filter filter) {
+        if (!(pathItem instanceof ObjectNode)) {
+            return null;
+        }
+        ObjectNode filteredPathItem = ((ObjectNode) pathItem).deepCopy();
+        boolean hasOperations = false;
+        Iterator<Map.Entry<String, JsonNode>> fields = pathItem.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!OPERATIONS.contains(field.getKey())) {
+                continue;
+            }
+            if (isSelected(field.getValue(), filter)) {
+                hasOperations = true;
+            } else {
+                filteredPathItem.remove(field.getKey());
+            }
+        }
+        return hasOperations ? filteredPathItem : null;
+    }
+
+    /**
+     * Selects the operations the same way the generators filter them, operation IDs are matched both as they are
+     * given and as they are normalized.
+     */
+    private static boolean isSelected(JsonNode operation, Filter filter) {
+        if (filter.getTags() != null && operation.get(TAGS) != null) {
+            for (JsonNode tag : operation.get(TAGS)) {
+                if (filter.getTags().contains(tag.asText())) {
+                    return true;
+                }
+            }
+        }
+        JsonNode operationId = operation.get(OPERATION_ID);
+        if (filter.getOperations() != null && operationId != null && operationId.isTextual()) {
+            String id = operationId.asText().trim();
+            return filter.getOperations().contains(id) ||
+                    filter.getOperations().contains(GeneratorUtils.getValidName(id, false));
+        }
+        return false;
+    }
+
+    private static Set<String> collectComponentRefs(JsonNode node) {
+        Set<String> refs = new HashSet<>();
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.add(node);
+        while (!nodes.isEmpty()) {
+            JsonNode current = nodes.poll();
+            if (current.isArray()) {
+                current.forEach(nodes::add);
+                continue;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (field.getKey().equals(REF) && value.isTextual()) {
+                    addComponentRef(value.asText(), refs);
+                } else if (field.getKey().equals(MAPPING) && value.isObject()) {
+                    // Discriminator mappings refer the schemas by the reference string
+                    value.forEach(mapping -> addComponentRef(mapping.asText(), refs));
+                } else if (value.isContainerNode()) {
+                    nodes.add(value);
+                }
+            }
+        }
+        return refs;
+    }
+
+    private static void addComponentRef(String ref, Set<String> refs) {
+        if (ref.startsWith(COMPONENT_REF_PREFIX)) {
+            refs.add(ref);
+        }
+    }
+
+    /**
+     * Unescapes a JSON pointer token, ex: {@code a~1b} to {@code a/b}.
+     */
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static String toJson(JsonNode contract) throws BallerinaOpenApiException {
+        try {
+            return Json.mapper().writeValueAsString(contract);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaOpenApiException("OpenAPI definition has errors: " + e.getOriginalMessage());
+        }
+    }
+}
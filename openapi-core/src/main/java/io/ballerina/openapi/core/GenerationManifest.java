@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Fingerprints of a code generation, written next to the generated sources.
+ * <p>
+ * The manifest records a fingerprint of the generation options along with the tool version, a fingerprint of the whole
+ * contract and a fingerprint of each generated file. A later generation with the same options and contract is up to
+ * date as long as the generated files are not modified, hence it can be skipped without parsing the contract.
+ *
+ * @since 1.3.0
+ */
+public class GenerationManifest {
+
+    public static final String MANIFEST_FILE_NAME = ".openapi-manifest.json";
+    private static final String MANIFEST_FORMAT_VERSION = "1";
+    private static final String VERSION = "version";
+    private static final String OPTIONS = "options";
+    private static final String CONTRACT = "contract";
+    private static final String FILES = "files";
+
+    private final String options;
+    private final String contract;
+    private final Map<String, String> files = new TreeMap<>();
+
+    private GenerationManifest(String options, String contract) {
+        this.options = options;
+        this.contract = contract;
+    }
+
+    /**
+     * Creates the manifest of a generation.
+     *
+     * @param contractContent content of the OpenAPI contract in YAML or JSON format
+     * @param options         generation options which affect the generated sources
+     * @return manifest without the generated files
+     */
+    public static GenerationManifest create(byte[] contractContent, String options) {
+        String optionsFingerprint = fingerprint(String.format("format=%s;tool=%s;%s", MANIFEST_FORMAT_VERSION,
+                OpenAPICache.getToolVersion(), options).getBytes(StandardCharsets.UTF_8));
+        return new GenerationManifest(optionsFingerprint, fingerprint(contractContent));
+    }
+
+    /**
+     * Reads the manifest written in the given directory.
+     *
+     * @param directory directory of the generated sources
+     * @return manifest of the previous generation, or empty when there is no valid manifest
+     */
+    public static Optional<GenerationManifest> read(Path directory) {
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode manifestNode = Json.mapper().readTree(manifestPath.toFile());
+            if (!MANIFEST_FORMAT_VERSION.equals(manifestNode.path(VERSION).asText())) {
+                return Optional.empty();
+            }
+            GenerationManifest manifest = new GenerationManifest(manifestNode.path(OPTIONS).asText(),
+                    manifestNode.path(CONTRACT).asText());
+            manifest.files.putAll(readFingerprints(manifestNode.path(FILES)));
+            return Optional.of(manifest);
+        } catch (IOException | RuntimeException e) {
+            // An unreadable manifest only makes the generation a full generation
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the manifest to the given directory.
+     *
+     * @param directory directory of the generated sources
+     * @throws IOException when the manifest can not be written
+     */
+    public void write(Path directory) throws IOException {
+        ObjectNode manifestNode = Json.mapper().createObjectNode();
+        manifestNode.put(VERSION, MANIFEST_FORMAT_VERSION);
+        manifestNode.put(OPTIONS, options);
+        manifestNode.put(CONTRACT, contract);
+        writeFingerprints(manifestNode.putObject(FILES), files);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        Path tempPath = directory.resolve(MANIFEST_FILE_NAME + ".tmp");
+        Files.write(tempPath, Json.pretty().writeValueAsBytes(manifestNode));
+        Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Checks whether the sources generated by the given previous generation are the same as the sources of this
+     * generation. The previous generation is up to date when it used the same options and the same contract, and its
+     * files are not modified or removed since.
+     *
+     * @param previous  manifest of the previous generation
+     * @param directory directory of the generated sources
+     * @return true when the generation can be skipped
+     */
+    public boolean isUpToDate(GenerationManifest previous, Path directory) {
+        if (!options.equals(previous.options) || !contract.equals(previous.contract) || previous.files.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, String> file : previous.files.entrySet()) {
+            Path filePath = directory.resolve(file.getKey());
+            try {
+                if (!Files.isRegularFile(filePath) || !file.getValue().equals(fingerprint(filePath))) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a file written by this generation.
+     *
+     * @param path        path of the file relative to the directory of the generated sources
+     * @param fingerprint fingerprint of the content of the file
+     */
+    public void addFile(String path, String fingerprint) {
+        files.put(path, fingerprint);
+    }
+
+    public Map<String, String> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+
+    public static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String fingerprint(byte[] content) {
+        return toHex(createMessageDigest().digest(content));
+    }
+
+    public static String fingerprint(Path filePath) throws IOException {
+        MessageDigest messageDigest = createMessageDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, count);
+            }
+        }
+        return toHex(messageDigest.digest());
+    }
+
+    /**
+     * Fingerprints the local files referred by the given contract, along with their paths relative to the contract.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return fingerprints of the referred files, or an empty string when the contract does not refer any file
+     * @throws IOException when a referred file can not be read
+     */
+    public static String fingerprintReferredFiles(Path contractPath) throws IOException {
+        StringBuilder referredFiles = new StringBuilder();
+        Path normalizedPath = contractPath.toAbsolutePath().normalize();
+        for (Path referredFile : GeneratorUtils.getReferredFiles(normalizedPath)) {
+            if (!referredFile.equals(normalizedPath)) {
+                referredFiles.append("ref=").append(normalizedPath.getParent().relativize(referredFile)).append(':')
+                        .append(fingerprint(referredFile)).append(';');
+            }
+        }
+        return referredFiles.toString();
+    }
+
+    public static String toHex(byte[] digest) {
+        StringBuilder hex = new StringBuilder();
+        for (byte digestByte : digest) {
+            hex.append(String.format("%02x", digestByte));
+        }
+        return hex.toString();
+    }
+
+    private static Map<String, String> readFingerprints(JsonNode fingerprintsNode) {
+        Map<String, String> fingerprints = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = fingerprintsNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            fingerprints.put(field.getKey(), field.getValue().asText());
+        }
+        return fingerprints;
+    }
+
+    private static void writeFingerprints(ObjectNode fingerprintsNode, Map<String, String> fingerprints) {
+        for (Map.Entry<String, String> fingerprint : fingerprints.entrySet()) {
+            fingerprintsNode.put(fingerprint.getKey(), fingerprint.getValue());
+        }
+    }
+}
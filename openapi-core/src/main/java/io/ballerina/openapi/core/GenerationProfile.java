@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.openapi.core.GeneratorConstants.LINE_SEPARATOR;
+
+/**
+ * Profile of the phases of a code generation, such as parsing, type generation and formatting.
+ * <p>
+ * Each phase records its wall time, along with the CPU time and the allocated bytes of the generating thread, using
+ * the {@link ThreadMXBean} counters. The phases can be nested, in which case the usage of the inner phase is not
+ * counted in the outer phase. The work forked to a fork join pool by a phase is included in its wall time, but not in
+ * its CPU time and allocated bytes. The profile also records the counts of the generation, such as the number of
+ * operations and the number of bytes written.
+ * <p>
+ * A profile is used by a single generating thread. The {@link #disabled()} profile records nothing, hence the
+ * generators use it when the profile is not requested.
+ *
+ * @since 1.3.0
+ */
+public class GenerationProfile {
+
+    public static final String PARSING = "Parsing";
+    public static final String NORMALIZATION = "Normalization";
+    public static final String SERVICE_GENERATION = "Service generation";
+    public static final String CLIENT_GENERATION = "Client generation";
+    public static final String TYPE_GENERATION = "Type generation";
+    public static final String UNUSED_TYPE_REMOVAL = "Unused type removal";
+    public static final String FORMATTING = "Formatting";
+    public static final String WRITING = "Writing";
+
+    public static final String OPERATIONS = "operations";
+    public static final String SCHEMAS = "schemas";
+    public static final String GENERATED_MEMBERS = "generatedMembers";
+    public static final String FILES_WRITTEN = "filesWritten";
+    public static final String BYTES_WRITTEN = "bytesWritten";
+
+    private static final GenerationProfile DISABLED = new GenerationProfile(false);
+    private static final Phase DISABLED_PHASE = new Phase(DISABLED, null);
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final boolean enabled;
+    private final ThreadMXBean threadMXBean;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+    private final Map<String, PhaseUsage> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+    private final Deque<Phase> activePhases = new ArrayDeque<>();
+
+    public GenerationProfile() {
+        this(true);
+    }
+
+    private GenerationProfile(boolean enabled) {
+        this.enabled = enabled;
+        this.threadMXBean = enabled ? ManagementFactory.getThreadMXBean() : null;
+        this.cpuTimeSupported = enabled && threadMXBean.isCurrentThreadCpuTimeSupported() &&
+                threadMXBean.isThreadCpuTimeEnabled();
+        this.allocatedBytesSupported = enabled && threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported() &&
+                ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the profile which records nothing.
+     */
+    public static GenerationProfile disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts the given phase, which is recorded once the returned phase is closed. A phase started more than once
+     * records the sum of its usages.
+     *
+     * @param name name of the phase
+     * @return - phase to close once the phase completes
+     */
+    public Phase start(String name) {
+        if (!enabled) {
+            return DISABLED_PHASE;
+        }
+        phases.computeIfAbsent(name, phaseName -> new PhaseUsage());
+        Phase phase = new Phase(this, name);
+        activePhases.push(phase);
+        return phase;
+    }
+
+    /**
+     * Adds the given value to the given count.
+     */
+    public void count(String name, long value) {
+        if (enabled) {
+            counts.merge(name, value, Long::sum);
+        }
+    }
+
+    public Map<String, PhaseUsage> getPhases() {
+        return Collections.unmodifiableMap(phases);
+    }
+
+    public Map<String, Long> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the phases and the counts as a table, with the phases in the order they were first started.
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        String rowFormat = "%-20s %12s %12s %16s" + LINE_SEPARATOR;
+        table.append(String.format(rowFormat, "Phase", "Wall (ms)", "CPU (ms)", "Allocated (KB)"));
+        PhaseUsage total = new PhaseUsage();
+        for (Map.Entry<String, PhaseUsage> phase : phases.entrySet()) {
+            appendRow(table, rowFormat, phase.getKey(), phase.getValue());
+            total.add(phase.getValue());
+        }
+        appendRow(table, rowFormat, "Total", total);
+        if (!counts.isEmpty()) {
+            table.append(LINE_SEPARATOR);
+            for (Map.Entry<String, Long> count : counts.entrySet()) {
+                table.append(String.format("%-20s %12d" + LINE_SEPARATOR, count.getKey(), count.getValue()));
+            }
+        }
+        return table.toString();
+    }
+
+    /**
+     * Returns the phases and the counts as JSON, along with the given tool version and contract, so that the profiles
+     * of the tool versions can be compared.
+     *
+     * @param toolVersion version of the tool
+     * @param contract    path of the contract the sources were generated for
+     * @return - profile in JSON
+     * @throws JsonProcessingException when the profile can not be written
+     */
+    public String toJson(String toolVersion, String contract) throws JsonProcessingException {
+        ObjectNode profileNode = Json.mapper().createObjectNode();
+        profileNode.put("toolVersion", toolVersion);
+        profileNode.put("contract", contract);
+        ObjectNode phasesNode = profileNode.putObject("phases");
+        for (Map.Entry<String, PhaseUsage> phase : phases.entrySet()) {
+            ObjectNode phaseNode = phasesNode.putObject(phase.getKey());
+            phaseNode.put("wallTimeNanos", phase.getValue().getWallTime());
+            phaseNode.put("cpuTimeNanos", phase.getValue().getCpuTime());
+            phaseNode.put("allocatedBytes", phase.getValue().getAllocatedBytes());
+        }
+        ObjectNode countsNode = profileNode.putObject("counts");
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            countsNode.put(count.getKey(), count.getValue());
+        }
+        return Json.pretty().writeValueAsString(profileNode);
+    }
+
+    private static void appendRow(StringBuilder table, String rowFormat, String name, PhaseUsage usage) {
+        table.append(String.format(rowFormat, name, usage.getWallTime() / NANOS_PER_MILLI,
+                usage.getCpuTime() / NANOS_PER_MILLI, usage.getAllocatedBytes() / 1024));
+    }
+
+    private long getCpuTime() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long getAllocatedBytes() {
+        return allocatedBytesSupported ? ((com.sun.management.ThreadMXBean) threadMXBean)
+                .getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    private void complete(Phase phase, PhaseUsage usage) {
+        activePhases.remove(phase);
+        // The usage of a nested phase is only counted in the nested phase
+        Phase outerPhase = activePhases.peek();
+        if (outerPhase != null) {
+            outerPhase.nestedUsage.add(usage);
+        }
+        PhaseUsage selfUsage = new PhaseUsage();
+        selfUsage.add(usage);
+        selfUsage.subtract(phase.nestedUsage);
+        phases.get(phase.name).add(selfUsage);
+    }
+
+    /**
+     * A started phase of the profile, which is recorded when it is closed.
+     */
+    public static class Phase implements AutoCloseable {
+        private final GenerationProfile profile;
+        private final String name;
+        private final long startWallTime;
+        private final long startCpuTime;
+        private final long startAllocatedBytes;
+        private final PhaseUsage nestedUsage = new PhaseUsage();
+
+        private Phase(GenerationProfile profile, String name) {
+            this.profile = profile;
+            this.name = name;
+            this.startWallTime = profile.enabled ? System.nanoTime() : 0;
+            this.startCpuTime = profile.getCpuTime();
+            this.startAllocatedBytes = profile.getAllocatedBytes();
+        }
+
+        @Override
+        public void close() {
+            if (!profile.enabled) {
+                return;
+            }
+            PhaseUsage usage = new PhaseUsage();
+            usage.wallTime = System.nanoTime() - startWallTime;
+            usage.cpuTime = profile.getCpuTime() - startCpuTime;
+            usage.allocatedBytes = profile.getAllocatedBytes() - startAllocatedBytes;
+            profile.complete(this, usage);
+        }
+    }
+
+    /**
+     * Wall time, CPU time and allocated bytes of a phase.
+     */
+    public static class PhaseUsage {
+        private long wallTime;
+        private long cpuTime;
+        private long allocatedBytes;
+
+        public long getWallTime() {
+            return wallTime;
+        }
+
+        public long getCpuTime() {
+            return cpuTime;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        private void add(PhaseUsage usage) {
+            wallTime += usage.wallTime;
+            cpuTime += usage.cpuTime;
+            allocatedBytes += usage.allocatedBytes;
+        }
+
+        private void subtract(PhaseUsage usage) {
+            wallTime -= usage.wallTime;
+            cpuTime -= usage.cpuTime;
+            allocatedBytes -= usage.allocatedBytes;
+        }
+    }
+}
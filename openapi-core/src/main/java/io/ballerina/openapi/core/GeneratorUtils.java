@@ -18,13 +18,10 @@
 
 package io.ballerina.openapi.core;
 
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -51,16 +48,11 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
-import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeReferenceGraph;
+import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.ProjectKind;
-import io.ballerina.projects.directory.ProjectLoader;
-import io.ballerina.tools.diagnostics.Location;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -74,25 +66,29 @@ import io.swagger.v3.oas.models.servers.ServerVariables;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.FileUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -125,27 +121,20 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.openapi.core.GeneratorConstants.ANY_TYPE;
 import static io.ballerina.openapi.core.GeneratorConstants.APPLICATION_PDF;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
-import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.CLOSE_CURLY_BRACE;
 import static io.ballerina.openapi.core.GeneratorConstants.DOUBLE_LINE_SEPARATOR;
 import static io.ballerina.openapi.core.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.core.GeneratorConstants.GET;
 import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
-import static io.ballerina.openapi.core.GeneratorConstants.IDENTIFIER;
 import static io.ballerina.openapi.core.GeneratorConstants.IMAGE_PNG;
 import static io.ballerina.openapi.core.GeneratorConstants.JSON_EXTENSION;
 import static io.ballerina.openapi.core.GeneratorConstants.LINE_SEPARATOR;
 import static io.ballerina.openapi.core.GeneratorConstants.OPEN_CURLY_BRACE;
-import static io.ballerina.openapi.core.GeneratorConstants.SERVICE_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.SLASH;
 import static io.ballerina.openapi.core.GeneratorConstants.SPECIAL_CHARACTERS_REGEX;
 import static io.ballerina.openapi.core.GeneratorConstants.SQUARE_BRACKETS;
 import static io.ballerina.openapi.core.GeneratorConstants.STRING;
 import static io.ballerina.openapi.core.GeneratorConstants.STYLE;
-import static io.ballerina.openapi.core.GeneratorConstants.TYPE_FILE_NAME;
-import static io.ballerina.openapi.core.GeneratorConstants.TYPE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE;
 import static io.ballerina.openapi.core.GeneratorConstants.YAML_EXTENSION;
 import static io.ballerina.openapi.core.GeneratorConstants.YML_EXTENSION;
@@ -160,7 +149,7 @@ public class GeneratorUtils {
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
     public static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
     public static final MinutiaeList SINGLE_END_OF_LINE_MINUTIAE = getEndOfLineMinutiae();
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    private static final Pattern SPECIAL_CHARACTERS_PATTERN = Pattern.compile(SPECIAL_CHARACTERS_REGEX);
 
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
@@ -239,8 +228,7 @@ public class GeneratorUtils {
             throws BallerinaOpenApiException {
         // check whether path parameter segment has special character
         String[] split = pathNode.split(CLOSE_CURLY_BRACE, 2);
-        Pattern pattern = Pattern.compile(SPECIAL_CHARACTERS_REGEX);
-        Matcher matcher = pattern.matcher(split[1]);
+        Matcher matcher = SPECIAL_CHARACTERS_PATTERN.matcher(split[1]);
         boolean hasSpecialCharacter = matcher.find();
 
         for (Parameter parameter : operation.getParameters()) {
@@ -299,14 +287,7 @@ public class GeneratorUtils {
      * @return - escaped string
      */
     public static String escapeIdentifier(String identifier) {
-
-        if (identifier.matches("\\b[0-9]*\\b")) {
-            return "'" + identifier;
-        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.contains(identifier)) {
-            identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-            return "'" + identifier;
-        }
-        return identifier;
+        return IdentifierSanitizer.escapeIdentifier(identifier);
     }
 
     /**
@@ -316,27 +297,7 @@ public class GeneratorUtils {
      * @return string with new generated name
      */
     public static String getValidName(String identifier, boolean isSchema) {
-        //For the flatten enable we need to remove first Part of valid name check
-        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
-            StringBuilder validName = new StringBuilder();
-            for (String part : split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
-                                part.substring(1).toLowerCase(Locale.ENGLISH);
-                    }
-                    validName.append(part);
-                }
-            }
-            identifier = validName.toString();
-        }
-        if (isSchema) {
-            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
-        } else {
-            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
-        }
+        return IdentifierSanitizer.getValidName(identifier, isSchema);
     }
 
     /**
@@ -347,7 +308,7 @@ public class GeneratorUtils {
      */
     public static boolean isValidSchemaName(String recordName) {
 
-        return !recordName.matches("\\b[0-9]*\\b");
+        return !IdentifierSanitizer.isNumeric(recordName);
     }
 
     /**
@@ -379,7 +340,16 @@ public class GeneratorUtils {
      */
     public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath) throws
             IOException, BallerinaOpenApiException {
+        return getOpenAPIFromOpenAPIV3Parser(definitionPath, null);
+    }
 
+    /**
+     * Checks that the given OpenAPI contract exists and is a YAML or JSON file.
+     *
+     * @param definitionPath path of the OpenAPI contract
+     * @throws BallerinaOpenApiException when the contract does not exist or is not a YAML or JSON file
+     */
+    public static void validateContractPath(Path definitionPath) throws BallerinaOpenApiException {
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(definitionPath.toString()));
@@ -389,11 +359,25 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(YML_EXTENSION))) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
-        String openAPIFileContent = Files.readString(definitionPath);
+    }
+
+    /**
+     * Util for take OpenApi spec from given yaml file. When a filter is given only the selected operations and the
+     * components they refer are parsed.
+     */
+    public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath, Filter filter) throws
+            IOException, BallerinaOpenApiException {
+
+        ContractParseEvent event = new ContractParseEvent();
+        event.begin();
+        validateContractPath(definitionPath);
+        String openAPIFileContent = FilteredContractReader.filterContract(Files.readString(definitionPath), filter);
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions);
+        // Relative references are resolved against the contract location rather than the working directory
+        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions,
+                definitionPath.toAbsolutePath().toString());
         if (!parseResult.getMessages().isEmpty()) {
             if (parseResult.getMessages().size() == 1 && parseResult.getMessages().get(0).
                     contains(UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE)) {
@@ -405,7 +389,39 @@ public class GeneratorUtils {
             }
             throw new BallerinaOpenApiException(errorMessage.toString());
         }
-        return parseResult.getOpenAPI();
+        OpenAPI openAPI = parseResult.getOpenAPI();
+        if (event.shouldCommit()) {
+            event.setContract(definitionPath.toString());
+            event.setContractSize(Files.size(definitionPath));
+            event.setOperationCount(countOperations(openAPI));
+            event.setSchemaCount(countSchemas(openAPI));
+            event.commit();
+        }
+        return openAPI;
+    }
+
+    /**
+     * Returns the number of operations of the given OpenAPI specification.
+     */
+    public static int countOperations(OpenAPI openAPI) {
+        if (openAPI == null || openAPI.getPaths() == null) {
+            return 0;
+        }
+        int operationCount = 0;
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            operationCount += pathItem.readOperations().size();
+        }
+        return operationCount;
+    }
+
+    /**
+     * Returns the number of component schemas of the given OpenAPI specification.
+     */
+    public static int countSchemas(OpenAPI openAPI) {
+        if (openAPI == null || openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return 0;
+        }
+        return openAPI.getComponents().getSchemas().size();
     }
 
     /**
@@ -569,10 +585,9 @@ public class GeneratorUtils {
     public static boolean isComplexURL(String path) {
 
         String[] subPathSegment = path.split(SLASH);
-        Pattern pattern = Pattern.compile(SPECIAL_CHARACTERS_REGEX);
         for (String subPath : subPathSegment) {
             if (subPath.contains(OPEN_CURLY_BRACE) &&
-                    pattern.matcher(subPath.split(CLOSE_CURLY_BRACE, 2)[1]).find()) {
+                    SPECIAL_CHARACTERS_PATTERN.matcher(subPath.split(CLOSE_CURLY_BRACE, 2)[1]).find()) {
                 return true;
             }
         }
@@ -590,11 +605,10 @@ public class GeneratorUtils {
     public static List<StatementNode> generateBodyStatementForComplexUrl(String path) {
 
         String[] subPathSegment = path.split(SLASH);
-        Pattern pattern = Pattern.compile(SPECIAL_CHARACTERS_REGEX);
         List<StatementNode> bodyStatements = new ArrayList<>();
         for (String subPath : subPathSegment) {
             if (subPath.contains(OPEN_CURLY_BRACE) &&
-                    pattern.matcher(subPath.split(CLOSE_CURLY_BRACE, 2)[1]).find()) {
+                    SPECIAL_CHARACTERS_PATTERN.matcher(subPath.split(CLOSE_CURLY_BRACE, 2)[1]).find()) {
                 String pathParam = subPath;
                 pathParam = pathParam.substring(pathParam.indexOf(OPEN_CURLY_BRACE) + 1);
                 pathParam = pathParam.substring(0, pathParam.indexOf(CLOSE_CURLY_BRACE));
@@ -666,6 +680,84 @@ public class GeneratorUtils {
                 propertyValue.getExclusiveMaximum() != null;
     }
 
+    /**
+     * Normalized OpenAPI specification with adding proper naming to schema. The normalized specification is loaded
+     * from the given cache when the same contract has been normalized before.
+     *
+     * @param openAPIPath - openAPI file path
+     * @param cache       - cache of the normalized specifications, or null to always parse the contract
+     * @return - openAPI specification
+     * @throws IOException
+     * @throws BallerinaOpenApiException
+     */
+    public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient, OpenAPICache cache)
+            throws IOException, BallerinaOpenApiException {
+        return normalizeOpenAPI(openAPIPath, isClient, null, cache);
+    }
+
+    /**
+     * Normalized OpenAPI specification with adding proper naming to schema. When a filter is given the specification
+     * only has the selected operations and the components they refer. The normalized specification is loaded from
+     * the given cache when the same contract has been normalized before with the same filter.
+     *
+     * @param openAPIPath - openAPI file path
+     * @param filter      - tags and operations to generate, or null to normalize the whole specification
+     * @param cache       - cache of the normalized specifications, or null to always parse the contract
+     * @return - openAPI specification
+     * @throws IOException
+     * @throws BallerinaOpenApiException
+     */
+    public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient, Filter filter, OpenAPICache cache)
+            throws IOException, BallerinaOpenApiException {
+        return normalizeOpenAPI(openAPIPath, isClient, filter, cache, GenerationProfile.disabled());
+    }
+
+    /**
+     * Normalized OpenAPI specification as {@link #normalizeOpenAPI(Path, boolean, Filter, OpenAPICache)}, recording
+     * the parsing and the normalization of the specification in the given profile. Loading the specification from the
+     * cache is recorded as parsing.
+     *
+     * @param openAPIPath - openAPI file path
+     * @param filter      - tags and operations to generate, or null to normalize the whole specification
+     * @param cache       - cache of the normalized specifications, or null to always parse the contract
+     * @param profile     - profile of the generation
+     * @return - openAPI specification
+     * @throws IOException
+     * @throws BallerinaOpenApiException
+     */
+    public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient, Filter filter, OpenAPICache cache,
+                                           GenerationProfile profile)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI;
+        String key = null;
+        try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.PARSING)) {
+            if (cache != null && Files.isRegularFile(openAPIPath)) {
+                key = OpenAPICache.getKey(openAPIPath, isClient, filter);
+                Optional<OpenAPI> cachedOpenAPI = cache.get(key);
+                if (cachedOpenAPI.isPresent()) {
+                    countContents(cachedOpenAPI.get(), profile);
+                    return cachedOpenAPI.get();
+                }
+            }
+            openAPI = getOpenAPIFromOpenAPIV3Parser(openAPIPath, filter);
+        }
+        try (GenerationProfile.Phase ignored = profile.start(GenerationProfile.NORMALIZATION)) {
+            openAPI = normalizeOpenAPI(openAPI, isClient);
+        }
+        if (key != null) {
+            cache.put(key, openAPI);
+        }
+        countContents(openAPI, profile);
+        return openAPI;
+    }
+
+    private static void countContents(OpenAPI openAPI, GenerationProfile profile) {
+        if (profile.isEnabled()) {
+            profile.count(GenerationProfile.OPERATIONS, countOperations(openAPI));
+            profile.count(GenerationProfile.SCHEMAS, countSchemas(openAPI));
+        }
+    }
+
     /**
      * Normalized OpenAPI specification with adding proper naming to schema.
      *
@@ -676,7 +768,10 @@ public class GeneratorUtils {
      */
     public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient) throws IOException,
             BallerinaOpenApiException {
-        OpenAPI openAPI = getOpenAPIFromOpenAPIV3Parser(openAPIPath);
+        return normalizeOpenAPI(getOpenAPIFromOpenAPIV3Parser(openAPIPath), isClient);
+    }
+
+    private static OpenAPI normalizeOpenAPI(OpenAPI openAPI, boolean isClient) throws BallerinaOpenApiException {
         io.swagger.v3.oas.models.Paths openAPIPaths = openAPI.getPaths();
         if (isClient) {
             validateOperationIds(openAPIPaths.entrySet());
@@ -758,112 +853,147 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Remove the type definitions and enums which are not used by the generated client or service.
+     * The usages are resolved through a {@link TypeReferenceGraph} built from the generated syntax trees, hence
+     * neither a temporary project nor a compilation is required.
+     *
+     * @param schemaSyntaxTree - syntax tree of the generated types
+     * @param clientContent    - formatted content of the generated client
+     * @param schemaContent    - formatted content of the generated types
+     * @param serviceContent   - formatted content of the generated service, null if the service is not generated
+     * @return - formatted content of the types after removing the unused entities
+     * @throws FormatterException - if the modified types syntax tree fails to format
+     */
     public static String removeUnusedEntities(SyntaxTree schemaSyntaxTree, String clientContent, String schemaContent,
-                                              String serviceContent) throws IOException, FormatterException {
-        Map<String, String> tempSourceFiles = new HashMap<>();
-        tempSourceFiles.put(CLIENT_FILE_NAME, clientContent);
-        tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-        if (serviceContent != null) {
-            tempSourceFiles.put(SERVICE_FILE_NAME, schemaContent);
-        }
-        List<String> unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        while (unusedTypeDefinitionNameList.size() > 0) {
-            ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
-            NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-            List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
-            for (ModuleMemberDeclarationNode node : members) {
-                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(TYPE_NAME)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                } else if (node.kind().equals(SyntaxKind.ENUM_DECLARATION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(IDENTIFIER)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                }
-            }
-            NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll
-                    (unusedTypeDefinitionNodeList);
-            ModulePartNode modiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
-                    modifiedMembers, modulePartNode.eofToken());
-            schemaSyntaxTree = schemaSyntaxTree.modifyWith(modiedModulePartNode);
-            schemaContent = Formatter.format(schemaSyntaxTree).toString();
-            tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-            unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        }
-        return schemaContent;
-    }
-
-    private static List<String> getUnusedTypeDefinitionNameList(Map<String, String> srcFiles) throws IOException {
-        List<String> unusedTypeDefinitionNameList = new ArrayList<>();
-        Path tmpDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
-        writeFilesTemp(srcFiles, tmpDir);
-        if (Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) && Files.exists(tmpDir.resolve(TYPE_FILE_NAME)) &&
-                Files.exists(tmpDir.resolve(BALLERINA_TOML))) {
-            SemanticModel semanticModel = getSemanticModel(tmpDir.resolve(CLIENT_FILE_NAME));
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            for (Symbol symbol : symbols) {
-                if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION) || symbol.kind().equals(SymbolKind.ENUM)) {
-                    List<Location> references = semanticModel.references(symbol);
-                    if (references.size() == 1) {
-                        unusedTypeDefinitionNameList.add(symbol.getName().get());
-                    }
-                }
+                                              String serviceContent) throws FormatterException {
+        TypeReferenceGraph typeReferenceGraph = new TypeReferenceGraph(schemaContent);
+        typeReferenceGraph.addRoots(clientContent);
+        typeReferenceGraph.addRoots(serviceContent);
+        Set<String> unusedTypeDefinitionNames = typeReferenceGraph.getUnusedTypeDefinitionNames();
+        if (unusedTypeDefinitionNames.isEmpty()) {
+            return schemaContent;
+        }
+        ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
+        for (ModuleMemberDeclarationNode node : members) {
+            String declarationName = TypeReferenceGraph.getDeclarationName(node);
+            if (declarationName != null && unusedTypeDefinitionNames.contains(declarationName)) {
+                unusedTypeDefinitionNodeList.add(node);
             }
         }
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                FileUtils.deleteDirectory(tmpDir.toFile());
-            } catch (IOException ex) {
-                LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
+        NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll(unusedTypeDefinitionNodeList);
+        ModulePartNode modifiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
+                modifiedMembers, modulePartNode.eofToken());
+        return Formatter.format(schemaSyntaxTree.modifyWith(modifiedModulePartNode)).toString();
+    }
+
+    /**
+     * Runs the given generation tasks on the fork join pool and returns their results in the order of the tasks.
+     * When tasks fail, the failure of the first task in order is thrown, which is the same failure a sequential
+     * generation would have reported.
+     *
+     * @param forkJoinPool - pool to run the tasks on
+     * @param tasks        - generation tasks
+     * @return - results of the tasks in the order of the given tasks
+     * @throws BallerinaOpenApiException - when a task fails or the generation is interrupted
+     */
+    public static <T> List<T> invokeAll(ForkJoinPool forkJoinPool, List<Callable<T>> tasks)
+            throws BallerinaOpenApiException {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Future<T> future : forkJoinPool.invokeAll(tasks)) {
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the result of the given generation task. The unchecked failures of the task are rethrown as they are,
+     * and the checked failures other than {@link BallerinaOpenApiException} are wrapped as the cause of one.
+     *
+     * @param future - generation task
+     * @return - result of the task
+     * @throws BallerinaOpenApiException - when the task fails or the generation is interrupted
+     */
+    public static <T> T getResult(Future<T> future) throws BallerinaOpenApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaOpenApiException("Code generation was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
             }
-        }));
-        return unusedTypeDefinitionNameList;
+            throw new BallerinaOpenApiException(cause.getMessage(), cause);
+        }
     }
 
-    private static void writeFilesTemp(Map<String, String> srcFiles, Path tmpDir) throws IOException {
-        srcFiles.put(BALLERINA_TOML, BALLERINA_TOML_CONTENT);
-        PrintWriter writer = null;
-        for (Map.Entry<String, String> entry : srcFiles.entrySet()) {
-            String key = entry.getKey();
-            Path filePath = tmpDir.resolve(key);
+    /**
+     * Returns the given contract and the local files it refers through `$ref`, including the files referred by the
+     * referred files. References to the same file and the remote references are not included.
+     *
+     * @param contractPath - path of the OpenAPI contract
+     * @return - absolute normalized paths of the contract and the referred files
+     */
+    public static Set<Path> getReferredFiles(Path contractPath) {
+        Set<Path> referredFiles = new LinkedHashSet<>();
+        Deque<Path> pendingFiles = new ArrayDeque<>();
+        pendingFiles.add(contractPath.toAbsolutePath().normalize());
+        while (!pendingFiles.isEmpty()) {
+            Path filePath = pendingFiles.poll();
+            if (!referredFiles.add(filePath)) {
+                continue;
+            }
+            JsonNode contractNode;
             try {
-                writer = new PrintWriter(filePath.toString(), "UTF-8");
-                writer.print(entry.getValue());
-            } finally {
-                if (writer != null) {
-                    writer.close();
+                String content = Files.readString(filePath);
+                contractNode = content.trim().startsWith("{") ? Json.mapper().readTree(content) :
+                        Yaml.mapper().readTree(content);
+            } catch (IOException e) {
+                // Files which can not be read or parsed do not refer any other file
+                continue;
+            }
+            List<String> references = new ArrayList<>();
+            collectReferences(contractNode, references);
+            for (String reference : references) {
+                String referredFile = reference.split("#", 2)[0];
+                if (referredFile.isBlank() || referredFile.contains("://")) {
+                    continue;
+                }
+                try {
+                    Path referredPath = filePath.resolveSibling(referredFile).normalize();
+                    if (Files.isRegularFile(referredPath)) {
+                        pendingFiles.add(referredPath);
+                    }
+                } catch (InvalidPathException e) {
+                    // Invalid references are reported by the parser
                 }
             }
         }
+        return referredFiles;
     }
 
-    private static SemanticModel getSemanticModel(Path clientPath) throws ProjectException {
-        // Load project instance for single ballerina file
-        try {
-            Project project = ProjectLoader.loadProject(clientPath);
-            Package packageName = project.currentPackage();
-            DocumentId docId;
-
-            if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
-                docId = project.documentId(clientPath);
-            } else {
-                // Take module instance for traversing the syntax tree
-                Module currentModule = packageName.getDefaultModule();
-                Iterator<DocumentId> documentIterator = currentModule.documentIds().iterator();
-                docId = documentIterator.next();
+    private static void collectReferences(JsonNode node, List<String> references) {
+        if (node == null) {
+            return;
+        }
+        if (node.isObject()) {
+            JsonNode referenceNode = node.get("$ref");
+            if (referenceNode != null && referenceNode.isTextual()) {
+                references.add(referenceNode.asText());
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode childNode : node) {
+                collectReferences(childNode, references);
             }
-            return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
-        } catch (ProjectException e) {
-            throw new ProjectException(e.getMessage());
         }
     }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Converts the names given in an OpenAPI contract to Ballerina identifiers.
+ * <p>
+ * The same schema, property, parameter and operation names are sanitized many times during a generation, hence the
+ * sanitized names are interned by the raw name. The caches are bounded, names beyond the limit are sanitized without
+ * caching them.
+ *
+ * @since 1.3.0
+ */
+public final class IdentifierSanitizer {
+
+    private static final int MAX_CACHE_SIZE = 16384;
+    private static final Pattern NUMERIC_PATTERN = Pattern.compile("\\b[0-9]*\\b");
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b");
+    private static final Pattern ESCAPE_PATTERN = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN);
+    private static final Set<String> KEYWORDS = new HashSet<>(SyntaxInfo.keywords());
+
+    private static final Map<String, String> ESCAPED_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, String> SCHEMA_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+
+    private IdentifierSanitizer() {
+    }
+
+    /**
+     * Escapes the special characters and the keywords used as identifiers, ex: {@code type} to {@code 'type}.
+     *
+     * @param identifier identifier or method name
+     * @return escaped identifier
+     */
+    public static String escapeIdentifier(String identifier) {
+        return getCached(ESCAPED_NAMES, identifier, IdentifierSanitizer::escape);
+    }
+
+    /**
+     * Generates a valid Ballerina name by removing the special characters.
+     *
+     * @param identifier function name, record name or operation ID
+     * @param isSchema   whether the name is a type name, type names start with an upper case letter
+     * @return valid Ballerina name
+     */
+    public static String getValidName(String identifier, boolean isSchema) {
+        if (isSchema) {
+            return getCached(SCHEMA_NAMES, identifier, name -> sanitize(name, true));
+        }
+        return getCached(NAMES, identifier, name -> sanitize(name, false));
+    }
+
+    /**
+     * Checks whether the given name consists only of digits.
+     */
+    public static boolean isNumeric(String name) {
+        return NUMERIC_PATTERN.matcher(name).matches();
+    }
+
+    private static String getCached(Map<String, String> cache, String name, Function<String, String> sanitizer) {
+        String sanitizedName = cache.get(name);
+        if (sanitizedName != null) {
+            return sanitizedName;
+        }
+        sanitizedName = sanitizer.apply(name);
+        if (cache.size() < MAX_CACHE_SIZE) {
+            cache.putIfAbsent(name, sanitizedName);
+        }
+        return sanitizedName;
+    }
+
+    private static String escape(String identifier) {
+        if (isNumeric(identifier)) {
+            return "'" + identifier;
+        } else if (!IDENTIFIER_PATTERN.matcher(identifier).matches() || KEYWORDS.contains(identifier)) {
+            return "'" + ESCAPE_PATTERN.matcher(identifier).replaceAll("\\\\$1");
+        }
+        return identifier;
+    }
+
+    private static String sanitize(String identifier, boolean isSchema) {
+        //For the flatten enable we need to remove first Part of valid name check
+        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
+        if (!isNumeric(identifier)) {
+            String[] split = ESCAPE_PATTERN.split(identifier);
+            StringBuilder validName = new StringBuilder();
+            for (String part : split) {
+                if (!part.isBlank()) {
+                    if (split.length > 1) {
+                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                                part.substring(1).toLowerCase(Locale.ENGLISH);
+                    }
+                    validName.append(part);
+                }
+            }
+            identifier = validName.toString();
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        }
+        return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+    }
+}
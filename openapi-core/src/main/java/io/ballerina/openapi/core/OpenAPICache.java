@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.projects.util.RepoUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On disk cache of the normalized OpenAPI models.
+ * <p>
+ * The snapshots are content addressed, the key is a hash of the OpenAPI contract and the local files it refers
+ * along with the parse options and the tool version, hence a changed contract or a tool upgrade never hits a stale
+ * snapshot. The snapshots are stored as gzip compressed JSON and the least recently used snapshots are evicted once
+ * the cache grows beyond its size limit.
+ * The cache is best effort, a snapshot which can not be read or written is treated as a cache miss.
+ *
+ * @since 1.3.0
+ */
+public class OpenAPICache {
+
+    public static final long DEFAULT_MAX_SIZE = 512L * 1024 * 1024;
+    public static final String CACHE_DIRECTORY = "openapi-cache";
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String SNAPSHOT_EXTENSION = ".json.gz";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String TOOL_VERSION = getToolVersion();
+
+    private final Path cacheDirectory;
+    private final long maxSize;
+
+    public OpenAPICache(Path cacheDirectory) {
+        this(cacheDirectory, DEFAULT_MAX_SIZE);
+    }
+
+    public OpenAPICache(Path cacheDirectory, long maxSize) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache directory under the Ballerina home directory, ex: {@code ~/.ballerina/openapi-cache}.
+     */
+    public static Path getDefaultCacheDirectory() {
+        return RepoUtils.createAndGetHomeReposPath().resolve(CACHE_DIRECTORY);
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Generates the cache key of the given OpenAPI contract.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @param isClient     whether the contract is normalized for the client generation
+     * @return cache key
+     * @throws IOException when the contract can not be read
+     */
+    public static String getKey(Path contractPath, boolean isClient) throws IOException {
+        return getKey(contractPath, isClient, null);
+    }
+
+    /**
+     * Generates the cache key of the given OpenAPI contract reduced to the operations selected by the filter. The
+     * local files referred by the contract are a part of the key, as the normalized model includes their content.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @param isClient     whether the contract is normalized for the client generation
+     * @param filter       tags and operations filter, or null when the whole contract is normalized
+     * @return cache key
+     * @throws IOException when the contract can not be read
+     */
+    public static String getKey(Path contractPath, boolean isClient, Filter filter) throws IOException {
+        MessageDigest messageDigest = GenerationManifest.createMessageDigest();
+        String options = String.format("format=%s;tool=%s;resolve=true;flatten=true;client=%s;",
+                CACHE_FORMAT_VERSION, TOOL_VERSION, isClient);
+        if (FilteredContractReader.isFiltered(filter)) {
+            options += String.format("tags=%s;operations=%s;", getSortedValues(filter.getTags()),
+                    getSortedValues(filter.getOperations()));
+        }
+        options += GenerationManifest.fingerprintReferredFiles(contractPath);
+        messageDigest.update(options.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update(Files.readAllBytes(contractPath));
+        return GenerationManifest.toHex(messageDigest.digest());
+    }
+
+    /**
+     * Loads the normalized OpenAPI model cached for the given key.
+     *
+     * @param key cache key of the OpenAPI contract
+     * @return cached OpenAPI model, or empty when the model is not cached
+     */
+    public Optional<OpenAPI> get(String key) {
+        Path snapshot = getSnapshotPath(key);
+        if (!Files.isRegularFile(snapshot)) {
+            return Optional.empty();
+        }
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(snapshot))) {
+            OpenAPI openAPI = Json.mapper().readValue(inputStream, OpenAPI.class);
+            // Normalized component schemas are kept in a hash map, whose iteration order decides the order of the
+            // generated types. The snapshot has the schemas in the order of a cache miss. Putting them one by one into
+            // a map of the default capacity grows it as the cache miss did, which restores the same order. A presized
+            // copy could have a larger capacity and a different order.
+            if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+                Map<String, Schema> schemas = new HashMap<>();
+                for (Map.Entry<String, Schema> schema : openAPI.getComponents().getSchemas().entrySet()) {
+                    schemas.put(schema.getKey(), schema.getValue());
+                }
+                openAPI.getComponents().setSchemas(schemas);
+            }
+            // Mark the snapshot as recently used
+            Files.setLastModifiedTime(snapshot, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(openAPI);
+        } catch (IOException | RuntimeException e) {
+            deleteSnapshot(snapshot);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given normalized OpenAPI model and evicts the least recently used snapshots when the cache exceeds
+     * its size limit.
+     *
+     * @param key     cache key of the OpenAPI contract
+     * @param openAPI normalized OpenAPI model
+     */
+    public void put(String key, OpenAPI openAPI) {
+        Path snapshot = getSnapshotPath(key);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            tempFile = Files.createTempFile(cacheDirectory, key, TEMP_FILE_EXTENSION);
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+                Json.mapper().writeValue(outputStream, openAPI);
+            }
+            // Concurrent generations may write the same snapshot, the move makes the complete snapshot visible at once
+            Files.move(tempFile, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict(snapshot);
+        } catch (IOException | RuntimeException e) {
+            if (tempFile != null) {
+                deleteSnapshot(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Deletes all the cached snapshots.
+     *
+     * @throws IOException when the cache directory can not be read
+     */
+    public void clear() throws IOException {
+        for (Path snapshot : getSnapshots()) {
+            deleteSnapshot(snapshot);
+        }
+    }
+
+    private void evict(Path latestSnapshot) throws IOException {
+        List<Path> snapshots = getSnapshots();
+        Map<Path, FileTime> accessTimes = new HashMap<>();
+        long size = 0;
+        for (Path snapshot : snapshots) {
+            accessTimes.put(snapshot, Files.getLastModifiedTime(snapshot));
+            size += Files.size(snapshot);
+        }
+        if (size <= maxSize) {
+            return;
+        }
+        snapshots.sort(Comparator.comparing(accessTimes::get));
+        for (Path snapshot : snapshots) {
+            if (size <= maxSize) {
+                break;
+            }
+            // The snapshot which was just written is kept even when it is larger than the limit by itself
+            if (snapshot.equals(latestSnapshot)) {
+                continue;
+            }
+            size -= Files.size(snapshot);
+            deleteSnapshot(snapshot);
+        }
+    }
+
+    private List<Path> getSnapshots() throws IOException {
+        List<Path> snapshots = new ArrayList<>();
+        if (!Files.isDirectory(cacheDirectory)) {
+            return snapshots;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDirectory, "*" + SNAPSHOT_EXTENSION)) {
+            for (Path snapshot : stream) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    private Path getSnapshotPath(String key) {
+        return cacheDirectory.resolve(key + SNAPSHOT_EXTENSION);
+    }
+
+    private static List<String> getSortedValues(List<String> values) {
+        List<String> sortedValues = values == null ? new ArrayList<>() : new ArrayList<>(values);
+        Collections.sort(sortedValues);
+        return sortedValues;
+    }
+
+    /**
+     * Returns the version of the tool. The snapshots and the generated sources of a tool version are not used by
+     * the other versions.
+     */
+    public static String getToolVersion() {
+        String version = OpenAPICache.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        // Development builds do not have a versioned manifest, the build time of the classes is used instead
+        try {
+            Path codeSource = Paths.get(OpenAPICache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            return codeSource + "@" + Files.getLastModifiedTime(codeSource).toMillis();
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return "unknown";
+        }
+    }
+
+    private static void deleteSnapshot(Path snapshot) {
+        try {
+            Files.deleteIfExists(snapshot);
+        } catch (IOException e) {
+            // Snapshot is in use by another generation, it is removed in a later eviction
+        }
+    }
+}
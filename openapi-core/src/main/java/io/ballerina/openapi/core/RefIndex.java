@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the {@code $ref} values of a normalized OpenAPI definition.
+ * <p>
+ * A reference is split, sanitized and resolved against the components only the first time it is looked up, the
+ * following lookups of the same reference are a single hash lookup. An index is created per normalized definition and
+ * shared by the generators of that definition.
+ *
+ * @since 1.3.0
+ */
+public final class RefIndex {
+
+    private static final String COMPONENTS = "components";
+
+    private final OpenAPI openAPI;
+    private final Map<String, Reference> references = new ConcurrentHashMap<>();
+
+    public RefIndex(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Returns the details of the given reference.
+     *
+     * @param ref {@code $ref} value, ex: {@code #/components/schemas/Pet}
+     * @return indexed reference
+     * @throws BallerinaOpenApiException when the reference is not a local reference
+     */
+    public Reference get(String ref) throws BallerinaOpenApiException {
+        Reference reference = references.get(ref);
+        if (reference == null) {
+            reference = createReference(ref);
+            Reference indexedReference = references.putIfAbsent(ref, reference);
+            if (indexedReference != null) {
+                reference = indexedReference;
+            }
+        }
+        return reference;
+    }
+
+    /**
+     * Returns the sanitized Ballerina type name of the given reference, same as
+     * {@code getValidName(extractReferenceType(ref), true)}.
+     */
+    public String getTypeName(String ref) throws BallerinaOpenApiException {
+        return get(ref).getTypeName();
+    }
+
+    /**
+     * Returns the component schema of the given reference, or null when the schema is not defined.
+     */
+    public Schema<?> getSchema(String ref) throws BallerinaOpenApiException {
+        return get(ref).getSchema();
+    }
+
+    private Reference createReference(String ref) throws BallerinaOpenApiException {
+        String name = GeneratorUtils.extractReferenceType(ref);
+        String typeName = GeneratorUtils.getValidName(name, true);
+        String[] refParts = ref.split("/");
+        String kind = refParts.length > 3 && refParts[1].equals(COMPONENTS) ? refParts[2] : null;
+        Components components = openAPI.getComponents();
+        Schema<?> schema = null;
+        RequestBody requestBody = null;
+        if (components != null) {
+            // Component schemas are keyed by the sanitized names once the definition is normalized
+            schema = components.getSchemas() != null ? components.getSchemas().get(typeName) : null;
+            requestBody = components.getRequestBodies() != null ? components.getRequestBodies().get(name) : null;
+        }
+        return new Reference(kind, name, typeName, schema, requestBody);
+    }
+
+    /**
+     * Details of an indexed reference.
+     */
+    public static final class Reference {
+
+        private final String kind;
+        private final String name;
+        private final String typeName;
+        private final Schema<?> schema;
+        private final RequestBody requestBody;
+
+        private Reference(String kind, String name, String typeName, Schema<?> schema, RequestBody requestBody) {
+            this.kind = kind;
+            this.name = name;
+            this.typeName = typeName;
+            this.schema = schema;
+            this.requestBody = requestBody;
+        }
+
+        /**
+         * Returns the component kind of the reference, ex: {@code schemas}, or null when the reference does not refer
+         * a component.
+         */
+        public String getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the name of the referred component as it is given in the reference.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the sanitized Ballerina type name of the referred component.
+         */
+        public String getTypeName() {
+            return typeName;
+        }
+
+        /**
+         * Returns the component schema with the referred name, or null when the schema is not defined.
+         */
+        public Schema<?> getSchema() {
+            return schema;
+        }
+
+        /**
+         * Returns the component request body with the referred name, or null when the request body is not defined.
+         */
+        public RequestBody getRequestBody() {
+            return requestBody;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+
+/**
+ * Formats the generated syntax trees.
+ * <p>
+ * The generated files do not depend on each other, hence {@link #formatAll(List)} formats them concurrently when a
+ * fork join pool is given. Syntax trees with a large number of module members (ex: types.bal of a large definition)
+ * are formatted in chunks of members, which are stitched together with a blank line in between, the same way the
+ * formatter separates the module level declarations of the generated sources.
+ *
+ * @since 1.3.0
+ */
+public class SourceFormatter {
+
+    public static final int DEFAULT_CHUNK_THRESHOLD = 1024;
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    private static final String MEMBER_SEPARATOR = "\n\n";
+
+    private final ForkJoinPool forkJoinPool;
+    private final int chunkThreshold;
+    private final int chunkSize;
+
+    /**
+     * Creates a formatter which formats the syntax trees on the given pool.
+     *
+     * @param forkJoinPool pool to format on, or null to format sequentially
+     */
+    public SourceFormatter(ForkJoinPool forkJoinPool) {
+        this(forkJoinPool, DEFAULT_CHUNK_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a formatter which formats the syntax trees on the given pool.
+     *
+     * @param forkJoinPool   pool to format on, or null to format sequentially
+     * @param chunkThreshold minimum number of module members of a syntax tree to format it in chunks
+     * @param chunkSize      number of module members in a chunk
+     */
+    public SourceFormatter(ForkJoinPool forkJoinPool, int chunkThreshold, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size should be a positive number: " + chunkSize);
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.chunkThreshold = chunkThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Formats the given syntax trees.
+     *
+     * @param syntaxTrees syntax trees to format
+     * @return formatted sources in the order of the given syntax trees
+     * @throws FormatterException when a syntax tree fails to format
+     */
+    public List<String> formatAll(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            tasks.add(() -> format(syntaxTree));
+        }
+        return invokeAll(tasks);
+    }
+
+    /**
+     * Formats the given syntax tree. The module members are formatted in chunks when the syntax tree is large enough
+     * and a fork join pool is available.
+     *
+     * @param syntaxTree syntax tree to format
+     * @return formatted source
+     * @throws FormatterException when the syntax tree fails to format
+     */
+    public String format(SyntaxTree syntaxTree) throws FormatterException {
+        if (!isChunked(syntaxTree)) {
+            return Formatter.format(syntaxTree).toString();
+        }
+        return String.join(MEMBER_SEPARATOR, invokeAll(createChunkTasks(syntaxTree))) + "\n";
+    }
+
+    /**
+     * Formats the given syntax tree and writes the formatted source to the given writer, without building the
+     * formatted source of the whole tree as a string. When the tree is formatted in chunks, each chunk is written as
+     * soon as it and the earlier chunks are formatted, and only a window of twice the parallelism of the pool is
+     * formatted ahead of the writer, hence only the chunks of the window are held in memory.
+     *
+     * @param syntaxTree syntax tree to format
+     * @param writer     writer to write the formatted source to
+     * @throws FormatterException when the syntax tree fails to format
+     * @throws IOException        when writing the formatted source fails
+     */
+    public void format(SyntaxTree syntaxTree, Writer writer) throws FormatterException, IOException {
+        if (!isChunked(syntaxTree)) {
+            ModulePartNode formattedNode = Formatter.format(syntaxTree).rootNode();
+            for (ImportDeclarationNode importDeclarationNode : formattedNode.imports()) {
+                writer.write(importDeclarationNode.toSourceCode());
+            }
+            for (ModuleMemberDeclarationNode member : formattedNode.members()) {
+                writer.write(member.toSourceCode());
+            }
+            writer.write(formattedNode.eofToken().toSourceCode());
+            return;
+        }
+        List<Callable<String>> tasks = createChunkTasks(syntaxTree);
+        int window = Math.max(1, forkJoinPool.getParallelism() * 2);
+        Deque<Future<String>> formattingChunks = new ArrayDeque<>(window);
+        int submitted = 0;
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                while (submitted < tasks.size() && submitted < i + window) {
+                    formattingChunks.add(forkJoinPool.submit(tasks.get(submitted++)));
+                }
+                if (i > 0) {
+                    writer.write(MEMBER_SEPARATOR);
+                }
+                writer.write(getChunk(formattingChunks.remove()));
+            }
+        } finally {
+            // The chunks ahead of a failure are not written
+            for (Future<String> formattingChunk : formattingChunks) {
+                formattingChunk.cancel(true);
+            }
+        }
+        writer.write("\n");
+    }
+
+    private boolean isChunked(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        int memberCount = modulePartNode.members().size();
+        return forkJoinPool != null && memberCount >= chunkThreshold && memberCount > chunkSize;
+    }
+
+    private List<Callable<String>> createChunkTasks(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int start = 0; start < members.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, members.size());
+            List<ModuleMemberDeclarationNode> chunk = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                chunk.add(members.get(i));
+            }
+            // Imports are kept with the first chunk and the trailing content of the file with the last chunk.
+            NodeList<ImportDeclarationNode> imports = start == 0 ? modulePartNode.imports() : createEmptyNodeList();
+            Token eofToken = end == members.size() ? modulePartNode.eofToken() : createToken(EOF_TOKEN);
+            SyntaxTree chunkSyntaxTree = syntaxTree.modifyWith(createModulePartNode(imports, createNodeList(chunk),
+                    eofToken));
+            tasks.add(() -> Formatter.format(chunkSyntaxTree).toString().stripTrailing());
+        }
+        return tasks;
+    }
+
+    private List<String> invokeAll(List<Callable<String>> tasks) throws FormatterException {
+        if (forkJoinPool == null) {
+            List<String> results = new ArrayList<>(tasks.size());
+            for (Callable<String> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+        try {
+            return GeneratorUtils.invokeAll(forkJoinPool, tasks);
+        } catch (BallerinaOpenApiException e) {
+            throw toFormatterException(e);
+        }
+    }
+
+    private static String getChunk(Future<String> formattingChunk) throws FormatterException {
+        try {
+            return GeneratorUtils.getResult(formattingChunk);
+        } catch (BallerinaOpenApiException e) {
+            throw toFormatterException(e);
+        }
+    }
+
+    /**
+     * Unwraps the failure of a formatting task, which the generation helpers wrap as the cause.
+     */
+    private static FormatterException toFormatterException(BallerinaOpenApiException e) {
+        if (e.getCause() instanceof FormatterException) {
+            return (FormatterException) e.getCause();
+        }
+        return new FormatterException(e.getMessage());
+    }
+
+    private static String call(Callable<String> task) throws FormatterException {
+        try {
+            return task.call();
+        } catch (FormatterException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FormatterException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of formatting a generated Ballerina source, which is written as it is formatted.
+ *
+ * @since 1.3.0
+ */
+@Name("io.ballerina.openapi.SourceFormatting")
+@Label("OpenAPI Source Formatting")
+@Category({"Ballerina", "OpenAPI"})
+@Description("Formatting and writing a generated Ballerina source")
+@StackTrace(false)
+public class SourceFormattingEvent extends Event {
+
+    @Label("File")
+    @Description("Path of the generated source")
+    private String file;
+
+    @Label("Members")
+    @Description("Number of module members of the source")
+    private int memberCount;
+
+    @Label("Source Size")
+    @Description("Size of the formatted source")
+    @DataAmount
+    private long sourceSize;
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public void setSourceSize(long sourceSize) {
+        this.sourceSize = sourceSize;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of generating the syntax tree of the types, the client, the utils or the service of an OpenAPI
+ * contract.
+ *
+ * @since 1.3.0
+ */
+@Name("io.ballerina.openapi.SourceGeneration")
+@Label("OpenAPI Source Generation")
+@Category({"Ballerina", "OpenAPI"})
+@Description("Generating the syntax tree of a Ballerina source from an OpenAPI contract")
+@StackTrace(false)
+public class SourceGenerationEvent extends Event {
+
+    @Label("Contract")
+    @Description("Path of the OpenAPI contract")
+    private String contract;
+
+    @Label("Kind")
+    @Description("Kind of the generated source, such as the types or the client")
+    private String kind;
+
+    @Label("Operations")
+    @Description("Number of operations of the contract")
+    private int operationCount;
+
+    @Label("Generated Members")
+    @Description("Number of module members of the generated source")
+    private int generatedMembers;
+
+    public void setContract(String contract) {
+        this.contract = contract;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public void setOperationCount(int operationCount) {
+        this.operationCount = operationCount;
+    }
+
+    public void setGeneratedMembers(int generatedMembers) {
+        this.generatedMembers = generatedMembers;
+    }
+}
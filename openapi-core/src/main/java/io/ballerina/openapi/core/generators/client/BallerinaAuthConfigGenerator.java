@@ -64,6 +64,7 @@ import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 
@@ -210,7 +211,7 @@ public class BallerinaAuthConfigGenerator {
     private String refreshTokenUrl;
     private final Set<String> authTypes = new LinkedHashSet<>();
 
-    private List<TypeDefinitionNode> authRelatedTypeDefinitionNodes = new ArrayList<>();
+    private List<TypeDefinitionNode> authRelatedTypeDefinitionNodes = new TypeDefinitionRegistry();
 
     public BallerinaAuthConfigGenerator(boolean isAPIKey, boolean isHttpOROAuth) {
         this.apiKey = isAPIKey;
@@ -276,7 +277,7 @@ public class BallerinaAuthConfigGenerator {
      */
     public void addAuthRelatedRecords(OpenAPI openAPI) throws
             BallerinaOpenApiException {
-        List<TypeDefinitionNode> nodes = new ArrayList<>();
+        List<TypeDefinitionNode> nodes = new TypeDefinitionRegistry();
         if (openAPI.getComponents() != null) {
             // set auth types
             if (openAPI.getComponents().getSecuritySchemes() != null) {
@@ -284,10 +285,16 @@ public class BallerinaAuthConfigGenerator {
                 setAuthTypes(securitySchemeMap);
             }
 
-            // generate related records
-            TypeDefinitionNode connectionConfigRecord = generateConnectionConfigRecord();
-            TypeDefinitionNode clientHttp1SettingsRecord = getClientHttp1SettingsRecord();
-            TypeDefinitionNode customProxyConfigRecord = getCustomProxyRecord();
+            // generate related records, the records which do not depend on the definition are shared through the
+            // template cache and the others are cached by the values they are generated from
+            String authFieldTypeName = isHttpOROAuth() ? getAuthFieldTypeName() : "";
+            TypeDefinitionNode connectionConfigRecord = ClientTemplateCache.getRecord(CONNECTION_CONFIG + ":" +
+                    isHttpOROAuth() + ":" + isApiKey() + ":" + authFieldTypeName,
+                    this::generateConnectionConfigRecord);
+            TypeDefinitionNode clientHttp1SettingsRecord = ClientTemplateCache.getRecord(CLIENT_HTTP1_SETTINGS,
+                    this::getClientHttp1SettingsRecord);
+            TypeDefinitionNode customProxyConfigRecord = ClientTemplateCache.getRecord("ProxyConfig",
+                    this::getCustomProxyRecord);
             nodes.addAll(Arrays.asList(connectionConfigRecord, clientHttp1SettingsRecord, customProxyConfigRecord));
 
             if (isApiKey()) {
@@ -296,17 +303,20 @@ public class BallerinaAuthConfigGenerator {
 
             // Add custom `OAuth2ClientCredentialsGrantConfig` record with default tokenUrl if `tokenUrl` is available
             if (clientCredGrantTokenUrl != null) {
-                nodes.add(getOAuth2ClientCredsGrantConfigRecord());
+                nodes.add(ClientTemplateCache.getRecord(AuthConfigTypes.CUSTOM_CLIENT_CREDENTIAL.getValue() + ":" +
+                        clientCredGrantTokenUrl, this::getOAuth2ClientCredsGrantConfigRecord));
             }
 
             // Add custom `OAuth2PasswordGrantConfig` record with default tokenUrl if `tokenUrl` is available
             if (passwordGrantTokenUrl != null) {
-                nodes.add(getOAuth2PasswordGrantConfigRecord());
+                nodes.add(ClientTemplateCache.getRecord(AuthConfigTypes.CUSTOM_PASSWORD.getValue() + ":" +
+                        passwordGrantTokenUrl, this::getOAuth2PasswordGrantConfigRecord));
             }
 
             // Add custom `OAuth2RefreshTokenGrantConfig` record with default refreshUrl if `refreshUrl` is available
             if (refreshTokenUrl != null) {
-                nodes.add(getOAuth2RefreshTokenGrantConfigRecord());
+                nodes.add(ClientTemplateCache.getRecord(AuthConfigTypes.CUSTOM_REFRESH_TOKEN.getValue() + ":" +
+                        refreshTokenUrl, this::getOAuth2RefreshTokenGrantConfigRecord));
             }
         }
         this.authRelatedTypeDefinitionNodes = nodes;
@@ -26,6 +26,7 @@ import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -51,9 +52,12 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.model.ClientGrouping;
+import io.ballerina.openapi.core.generators.client.model.FunctionSignature;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
@@ -67,11 +71,14 @@ import io.swagger.v3.oas.models.servers.ServerVariables;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -84,13 +91,17 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExp
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createImplicitNewExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationLineNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createObjectFieldNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createParenthesizedArgList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
@@ -99,6 +110,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
@@ -106,6 +118,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.NEW_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
@@ -117,6 +130,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURN_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_API_KEY_DESC;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP;
+import static io.ballerina.openapi.core.GeneratorConstants.OPEN_CURLY_BRACE;
 import static io.ballerina.openapi.core.GeneratorConstants.SELF;
 import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_INIT_DESCRIPTION;
 
@@ -127,6 +141,8 @@ import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_INIT_DESC
  */
 public class BallerinaClientGenerator {
 
+    private static final String DEFAULT_GROUP_NAME = "default";
+
     private final Filter filters;
     private List<ImportDeclarationNode> imports;
     private List<TypeDefinitionNode> typeDefinitionNodeList;
@@ -138,6 +154,8 @@ public class BallerinaClientGenerator {
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final ClientGrouping clientGrouping;
+    private ForkJoinPool forkJoinPool;
 
     /**
      * Returns a list of type definition nodes.
@@ -183,15 +201,16 @@ public class BallerinaClientGenerator {
 
         this.filters = oasClientConfig.getFilters();
         this.imports = new ArrayList<>();
-        this.typeDefinitionNodeList = new ArrayList<>();
+        this.typeDefinitionNodeList = new TypeDefinitionRegistry();
         this.openAPI = oasClientConfig.getOpenAPI();
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI,
-                oasClientConfig.isNullable(), new LinkedList<>());
+                oasClientConfig.isNullable(), new TypeDefinitionRegistry());
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
         this.remoteFunctionNameList = new ArrayList<>();
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
+        this.clientGrouping = oasClientConfig.getClientGrouping();
     }
 
     /**
@@ -211,7 +230,11 @@ public class BallerinaClientGenerator {
         ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI);
 
         // Add class definition node to module member nodes
-        nodes.add(getClassDefinitionNode());
+        if (clientGrouping == ClientGrouping.NONE) {
+            nodes.add(getClassDefinitionNode());
+        } else {
+            nodes.addAll(getGroupedClassDefinitionNodes());
+        }
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
         ModulePartNode modulePartNode =
@@ -226,6 +249,17 @@ public class BallerinaClientGenerator {
         return ballerinaUtilGenerator;
     }
 
+    /**
+     * Enables parallel generation of the client functions using the given pool. Each operation is generated with its
+     * own imports, type definitions and util flags, which are merged in the order of the operations once all the
+     * functions are generated. Hence, the generated client is identical to the one generated sequentially.
+     *
+     * @param forkJoinPool pool to generate the client functions on, or null to generate sequentially
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
     /**
      * Generate Class definition Node with below code structure.
      * <pre>
@@ -253,17 +287,187 @@ public class BallerinaClientGenerator {
         // Add init function to class definition node
         memberNodeList.add(createInitFunction());
         // Generate remote function Nodes
-        memberNodeList.addAll(createRemoteFunctions(openAPI.getPaths(), filters));
+        memberNodeList.addAll(createRemoteFunctions(getClientOperations(openAPI.getPaths(), filters)));
         // Generate the class combining members
-        MetadataNode metadataNode = getClassMetadataNode();
-        IdentifierToken className = createIdentifierToken(GeneratorConstants.CLIENT_CLASS);
+        return createClientClassDefinitionNode(getClassMetadataNode(), GeneratorConstants.CLIENT_CLASS,
+                memberNodeList);
+    }
+
+    /**
+     * Generate a client class for each group of operations, along with the `Client` class which initializes the HTTP
+     * client and the auth configuration, and shares them with the client classes of the groups.
+     * <pre>
+     *     public isolated client class Client {
+     *         final http:Client clientEp;
+     *         public isolated function init(ConnectionConfig config =  {}, string serviceUrl = "/url")
+     *         returns error? {
+     *             http:Client httpEp = check new (serviceUrl, clientConfig);
+     *             self.clientEp = httpEp;
+     *         }
+     *         public isolated function petsClient() returns PetsClient {
+     *             return new (self.clientEp);
+     *         }
+     *     }
+     *     public isolated client class PetsClient {
+     *         final http:Client clientEp;
+     *         public isolated function init(http:Client clientEp) {
+     *             self.clientEp = clientEp;
+     *         }
+     *         // Remote functions of the `pets` operations
+     *     }
+     * </pre>
+     */
+    private List<ClassDefinitionNode> getGroupedClassDefinitionNodes() throws BallerinaOpenApiException {
+        List<Node> memberNodeList = new ArrayList<>(createClassInstanceVariables());
+        memberNodeList.add(createInitFunction());
+        // The functions are generated in the order of the operations, same as a single client class
+        List<ClientOperation> clientOperations = getClientOperations(openAPI.getPaths(), filters);
+        List<FunctionDefinitionNode> functionDefinitionNodes = createRemoteFunctions(clientOperations);
+        // Groups of which the names give the same class name are merged
+        Map<String, String> groupNames = new LinkedHashMap<>();
+        Map<String, List<Node>> groupMembers = new LinkedHashMap<>();
+        for (int i = 0; i < clientOperations.size(); i++) {
+            String groupName = getGroupName(clientOperations.get(i));
+            String className = getGroupClassName(groupName);
+            groupNames.putIfAbsent(className, groupName);
+            groupMembers.computeIfAbsent(className, key -> new ArrayList<>()).add(functionDefinitionNodes.get(i));
+        }
+
+        List<ClassDefinitionNode> classDefinitionNodes = new ArrayList<>();
+        for (Map.Entry<String, List<Node>> group : groupMembers.entrySet()) {
+            String groupName = groupNames.get(group.getKey());
+            memberNodeList.add(createGroupAccessorFunction(group.getKey(), groupName));
+            List<Node> groupMemberNodeList = new ArrayList<>(createClassInstanceVariables());
+            groupMemberNodeList.add(createGroupInitFunction());
+            groupMemberNodeList.addAll(group.getValue());
+            MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(
+                    DocCommentsGenerator.createAPIDescriptionDoc("Client of the `" + groupName + "` operations.",
+                            false))), createEmptyNodeList());
+            classDefinitionNodes.add(createClientClassDefinitionNode(metadataNode, group.getKey(),
+                    groupMemberNodeList));
+        }
+        classDefinitionNodes.add(0, createClientClassDefinitionNode(getClassMetadataNode(),
+                GeneratorConstants.CLIENT_CLASS, memberNodeList));
+        return classDefinitionNodes;
+    }
+
+    private static ClassDefinitionNode createClientClassDefinitionNode(MetadataNode metadataNode, String className,
+                                                                       List<Node> memberNodeList) {
         NodeList<Token> classTypeQualifiers = createNodeList(
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
-                createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
+                createToken(CLASS_KEYWORD), createIdentifierToken(className), createToken(OPEN_BRACE_TOKEN),
                 createNodeList(memberNodeList), createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Returns the name of the group of the given operation, which is the first tag of the operation when grouping by
+     * tags, otherwise the first segment of the path which is not a path parameter.
+     */
+    private String getGroupName(ClientOperation clientOperation) {
+        List<String> tags = clientOperation.operation.getValue().getTags();
+        if (clientGrouping == ClientGrouping.TAG && tags != null && !tags.isEmpty() && isValidGroupName(tags.get(0))) {
+            return tags.get(0).trim();
+        }
+        for (String segment : clientOperation.path.split(GeneratorConstants.SLASH)) {
+            if (!segment.startsWith(OPEN_CURLY_BRACE) && isValidGroupName(segment)) {
+                return segment;
+            }
+        }
+        return DEFAULT_GROUP_NAME;
+    }
+
+    private static boolean isValidGroupName(String groupName) {
+        return groupName.chars().anyMatch(Character::isLetterOrDigit);
+    }
+
+    private static String getGroupClassName(String groupName) {
+        return GeneratorUtils.escapeIdentifier(GeneratorUtils.getValidName(groupName, true) +
+                GeneratorConstants.CLIENT_CLASS);
+    }
+
+    /**
+     * Generate the function of the `Client` class which creates the client of a group.
+     * <pre>
+     *     public isolated function petsClient() returns PetsClient {
+     *         return new (self.clientEp);
+     *     }
+     * </pre>
+     */
+    private FunctionDefinitionNode createGroupAccessorFunction(String className, String groupName) {
+        List<Node> arguments = new ArrayList<>();
+        for (ObjectFieldNode fieldNode : createClassInstanceVariables()) {
+            if (!arguments.isEmpty()) {
+                arguments.add(createToken(COMMA_TOKEN));
+            }
+            arguments.add(createPositionalArgumentNode(createSelfFieldAccessNode(fieldNode.fieldName().text())));
+        }
+        ImplicitNewExpressionNode newExpressionNode = createImplicitNewExpressionNode(createToken(NEW_KEYWORD),
+                createParenthesizedArgList(createToken(OPEN_PAREN_TOKEN), createSeparatedNodeList(arguments),
+                        createToken(CLOSE_PAREN_TOKEN)));
+        ReturnStatementNode returnStatementNode = createReturnStatementNode(createToken(RETURN_KEYWORD),
+                newExpressionNode, createToken(SEMICOLON_TOKEN));
+        FunctionBodyNode functionBodyNode = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(returnStatementNode), createToken(CLOSE_BRACE_TOKEN), null);
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(className)));
+        FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(), createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+
+        String unescapedClassName = className.startsWith("'") ? className.substring(1) : className;
+        String functionName = GeneratorUtils.escapeIdentifier(unescapedClassName.substring(0, 1)
+                .toLowerCase(Locale.ENGLISH) + unescapedClassName.substring(1));
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(
+                DocCommentsGenerator.createAPIDescriptionDoc("Gets the client of the `" + groupName +
+                        "` operations.", false))), createEmptyNodeList());
+        NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                createIdentifierToken(functionName), createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Generate the init function of the client of a group, which takes the HTTP client and the API keys of the
+     * `Client` class.
+     * <pre>
+     *     public isolated function init(http:Client clientEp) {
+     *         self.clientEp = clientEp;
+     *     }
+     * </pre>
+     */
+    private FunctionDefinitionNode createGroupInitFunction() {
+        List<Node> parameters = new ArrayList<>();
+        List<StatementNode> assignmentNodes = new ArrayList<>();
+        List<Node> docs = new ArrayList<>(DocCommentsGenerator.createAPIDescriptionDoc(
+                "Gets invoked by the `Client` to share its connection.", true));
+        for (ObjectFieldNode fieldNode : createClassInstanceVariables()) {
+            String fieldName = fieldNode.fieldName().text();
+            if (!parameters.isEmpty()) {
+                parameters.add(createToken(COMMA_TOKEN));
+            }
+            parameters.add(createRequiredParameterNode(createEmptyNodeList(), fieldNode.typeName(),
+                    createIdentifierToken(fieldName)));
+            assignmentNodes.add(createAssignmentStatementNode(createSelfFieldAccessNode(fieldName),
+                    createToken(EQUAL_TOKEN), createSimpleNameReferenceNode(createIdentifierToken(fieldName)),
+                    createToken(SEMICOLON_TOKEN)));
+            docs.add(DocCommentsGenerator.createAPIParamDoc(fieldName, "The `" + fieldName + "` of the `Client`"));
+        }
+        FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(parameters), createToken(CLOSE_PAREN_TOKEN), null);
+        FunctionBodyNode functionBodyNode = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(assignmentNodes), createToken(CLOSE_BRACE_TOKEN), null);
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)),
+                createEmptyNodeList());
+        NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                createIdentifierToken("init"), createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    private static FieldAccessExpressionNode createSelfFieldAccessNode(String fieldName) {
+        return createFieldAccessExpressionNode(createSimpleNameReferenceNode(createIdentifierToken(SELF)),
+                createToken(DOT_TOKEN), createSimpleNameReferenceNode(createIdentifierToken(fieldName)));
+    }
+
     /**
      * Generate metadata node of the class including documentation and display annotation. Content of the documentation
      * will be taken from the `description` section inside the `info` section in OpenAPI definition.
@@ -458,19 +662,17 @@ public class BallerinaClientGenerator {
     }
 
     /**
-     * Generate remote functions for OpenAPI operations.
+     * Select the OpenAPI operations to generate the remote functions for.
      *
      * @param paths  openAPI Paths
      * @param filter user given tags and operations
-     * @return FunctionDefinitionNodes list
-     * @throws BallerinaOpenApiException - throws when creating remote functions fails
+     * @return selected operations in the order of the paths
      */
-    private List<FunctionDefinitionNode> createRemoteFunctions(Paths paths, Filter filter)
-            throws BallerinaOpenApiException {
+    private List<ClientOperation> getClientOperations(Paths paths, Filter filter) {
 
         List<String> filterTags = filter.getTags();
         List<String> filterOperations = filter.getOperations();
-        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        List<ClientOperation> clientOperations = new ArrayList<>();
         Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
         for (Map.Entry<String, PathItem> path : pathsItems) {
             if (!path.getValue().readOperationsMap().isEmpty()) {
@@ -490,24 +692,105 @@ public class BallerinaClientGenerator {
                             if (GeneratorUtils.hasTags(operationTags, filterTags) ||
                                     ((operationId != null) && filterOperations.contains(operationId.trim()))) {
                                 // Generate remote function
-                                FunctionDefinitionNode functionDefinitionNode =
-                                        getClientMethodFunctionDefinitionNode(
-                                                functionLevelAnnotationNodes, path.getKey(), operation);
-                                functionDefinitionNodeList.add(functionDefinitionNode);
+                                clientOperations.add(new ClientOperation(functionLevelAnnotationNodes,
+                                        path.getKey(), operation));
                             }
                         }
                     } else {
                         // Generate remote function
-                        FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
-                                functionLevelAnnotationNodes, path.getKey(), operation);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
+                        clientOperations.add(new ClientOperation(functionLevelAnnotationNodes, path.getKey(),
+                                operation));
                     }
                 }
             }
         }
+        return clientOperations;
+    }
+
+    /**
+     * Generate remote functions for OpenAPI operations.
+     *
+     * @param clientOperations selected operations
+     * @return FunctionDefinitionNodes list in the order of the operations
+     * @throws BallerinaOpenApiException - throws when creating remote functions fails
+     */
+    private List<FunctionDefinitionNode> createRemoteFunctions(List<ClientOperation> clientOperations)
+            throws BallerinaOpenApiException {
+        // Inline responses are registered in the order of the operations, hence the operations with structurally
+        // identical inline responses share the type of the first operation in both sequential and parallel generation
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(openAPI,
+                ballerinaSchemaGenerator, typeDefinitionNodeList);
+        for (ClientOperation clientOperation : clientOperations) {
+            functionReturnType.registerInlineResponseType(clientOperation.operation.getValue());
+        }
+        if (forkJoinPool != null && clientOperations.size() > 1) {
+            return createRemoteFunctionsInParallel(clientOperations);
+        }
+        OperationContext operationContext = new OperationContext(imports, typeDefinitionNodeList,
+                ballerinaSchemaGenerator, ballerinaUtilGenerator, remoteFunctionNameList);
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        for (ClientOperation clientOperation : clientOperations) {
+            functionDefinitionNodeList.add(getClientMethodFunctionDefinitionNode(clientOperation.annotationNodes,
+                    clientOperation.path, clientOperation.operation, operationContext));
+        }
         return functionDefinitionNodeList;
     }
 
+    /**
+     * Generate the client functions of the given operations on the fork join pool. Each operation is generated with
+     * a copy of the current imports and type definitions, and the additions of the operations are merged in the order
+     * of the operations by skipping the modules and type names which are already available, the same way a sequential
+     * generation skips them.
+     */
+    private List<FunctionDefinitionNode> createRemoteFunctionsInParallel(List<ClientOperation> clientOperations)
+            throws BallerinaOpenApiException {
+        List<ImportDeclarationNode> initialImports = new ArrayList<>(imports);
+        List<TypeDefinitionNode> initialTypeDefinitionNodes = new ArrayList<>(typeDefinitionNodeList);
+        List<Callable<OperationContext>> tasks = new ArrayList<>();
+        for (ClientOperation clientOperation : clientOperations) {
+            tasks.add(() -> {
+                OperationContext operationContext = new OperationContext(new ArrayList<>(initialImports),
+                        new TypeDefinitionRegistry(initialTypeDefinitionNodes),
+                        new BallerinaTypesGenerator(ballerinaSchemaGenerator.getGeneratorMetaData(),
+                                new TypeDefinitionRegistry()),
+                        new BallerinaUtilGenerator(), new ArrayList<>());
+                operationContext.functionDefinitionNode = getClientMethodFunctionDefinitionNode(
+                        clientOperation.annotationNodes, clientOperation.path, clientOperation.operation,
+                        operationContext);
+                return operationContext;
+            });
+        }
+        Set<String> importedModules = new HashSet<>();
+        for (ImportDeclarationNode importDeclarationNode : imports) {
+            importedModules.add(getModuleName(importDeclarationNode));
+        }
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        for (OperationContext operationContext : GeneratorUtils.invokeAll(forkJoinPool, tasks)) {
+            for (ImportDeclarationNode importDeclarationNode : operationContext.imports.subList(
+                    initialImports.size(), operationContext.imports.size())) {
+                if (importedModules.add(getModuleName(importDeclarationNode))) {
+                    imports.add(importDeclarationNode);
+                }
+            }
+            for (TypeDefinitionNode typeDefinitionNode : operationContext.typeDefinitionNodeList.subList(
+                    initialTypeDefinitionNodes.size(), operationContext.typeDefinitionNodeList.size())) {
+                TypeDefinitionRegistry.addIfAbsent(typeDefinitionNodeList, typeDefinitionNode);
+            }
+            ballerinaUtilGenerator.addFoundFlags(operationContext.ballerinaUtilGenerator);
+            remoteFunctionNameList.addAll(operationContext.remoteFunctionNameList);
+            functionDefinitionNodeList.add(operationContext.functionDefinitionNode);
+        }
+        return functionDefinitionNodeList;
+    }
+
+    private static String getModuleName(ImportDeclarationNode importDeclarationNode) {
+        StringBuilder moduleName = new StringBuilder();
+        for (IdentifierToken identifierToken : importDeclarationNode.moduleName()) {
+            moduleName.append(identifierToken.toString().trim());
+        }
+        return moduleName.toString();
+    }
+
     /**
      * Generate function definition node.
      * <pre>
@@ -527,7 +810,8 @@ public class BallerinaClientGenerator {
     private FunctionDefinitionNode getClientMethodFunctionDefinitionNode(List<AnnotationNode> annotationNodes,
                                                                          String path,
                                                                          Map.Entry<PathItem.HttpMethod, Operation>
-                                                                                 operation)
+                                                                                 operation,
+                                                                         OperationContext operationContext)
             throws BallerinaOpenApiException {
         // Create api doc for function
         List<Node> remoteFunctionDocs = new ArrayList<>();
@@ -555,14 +839,12 @@ public class BallerinaClientGenerator {
                         operation.getKey().name().toLowerCase(Locale.ENGLISH) :
                         operation.getValue().getOperationId());
 
-        remoteFunctionNameList.add(operation.getValue().getOperationId());
+        operationContext.remoteFunctionNameList.add(operation.getValue().getOperationId());
 
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                ballerinaSchemaGenerator, typeDefinitionNodeList, resourceMode);
-        FunctionSignatureNode functionSignatureNode =
-                functionSignatureGenerator.getFunctionSignatureNode(operation.getValue(),
-                        remoteFunctionDocs);
-        typeDefinitionNodeList = functionSignatureGenerator.getTypeDefinitionNodeList();
+                operationContext.ballerinaSchemaGenerator, operationContext.typeDefinitionNodeList, resourceMode);
+        FunctionSignature functionSignature = functionSignatureGenerator.generateFunctionSignature(
+                operation.getValue(), remoteFunctionDocs);
         // Create `Deprecated` annotation if an operation has mentioned as `deprecated:true`
         if (operation.getValue().getDeprecated() != null && operation.getValue().getDeprecated()) {
             DocCommentsGenerator.extractDeprecatedAnnotation(operation.getValue().getExtensions(),
@@ -573,10 +855,12 @@ public class BallerinaClientGenerator {
                 createNodeList(remoteFunctionDocs)), createNodeList(annotationNodes));
 
         // Create Function Body
-        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
-                openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
-        FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
-        imports = functionBodyGenerator.getImports();
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(operationContext.imports,
+                operationContext.typeDefinitionNodeList, openAPI, operationContext.ballerinaSchemaGenerator,
+                ballerinaAuthConfigGenerator, operationContext.ballerinaUtilGenerator, resourceMode);
+        // The body binds the response to the return type created for the signature
+        FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation,
+                functionSignature.getReturnType());
 
         //Generate relative path
         NodeList<Node> relativeResourcePath = resourceMode ?
@@ -584,7 +868,7 @@ public class BallerinaClientGenerator {
                 createEmptyNodeList();
         return createFunctionDefinitionNode(null,
                 metadataNode, qualifierList, functionKeyWord, functionName, relativeResourcePath,
-                functionSignatureNode, functionBodyNode);
+                functionSignature.getSignatureNode(), functionBodyNode);
     }
 
     /**
@@ -647,4 +931,44 @@ public class BallerinaClientGenerator {
     public void setApiKeyNameList(List<String> apiKeyNameList) {
         this.apiKeyNameList = apiKeyNameList;
     }
+
+    /**
+     * OpenAPI operation selected for the client function generation.
+     */
+    private static class ClientOperation {
+
+        private final List<AnnotationNode> annotationNodes;
+        private final String path;
+        private final Map.Entry<PathItem.HttpMethod, Operation> operation;
+
+        ClientOperation(List<AnnotationNode> annotationNodes, String path,
+                        Map.Entry<PathItem.HttpMethod, Operation> operation) {
+            this.annotationNodes = annotationNodes;
+            this.path = path;
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * Holds the state which is updated while generating client functions.
+     */
+    private static class OperationContext {
+
+        private final List<ImportDeclarationNode> imports;
+        private final List<TypeDefinitionNode> typeDefinitionNodeList;
+        private final BallerinaTypesGenerator ballerinaSchemaGenerator;
+        private final BallerinaUtilGenerator ballerinaUtilGenerator;
+        private final List<String> remoteFunctionNameList;
+        private FunctionDefinitionNode functionDefinitionNode;
+
+        OperationContext(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
+                         BallerinaTypesGenerator ballerinaSchemaGenerator,
+                         BallerinaUtilGenerator ballerinaUtilGenerator, List<String> remoteFunctionNameList) {
+            this.imports = imports;
+            this.typeDefinitionNodeList = typeDefinitionNodeList;
+            this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
+            this.ballerinaUtilGenerator = ballerinaUtilGenerator;
+            this.remoteFunctionNameList = remoteFunctionNameList;
+        }
+    }
 }
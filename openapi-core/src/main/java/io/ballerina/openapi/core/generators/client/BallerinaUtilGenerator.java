@@ -18,10 +18,10 @@
 package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -34,34 +34,21 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -125,7 +112,6 @@ public class BallerinaUtilGenerator {
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -185,6 +171,19 @@ public class BallerinaUtilGenerator {
         this.requestBodyMultipartFormDatafound = flag;
     }
 
+    /**
+     * Set the flags found by another util generator, which was used to generate a part of the same client.
+     *
+     * @param ballerinaUtilGenerator util generator whose found flags are added to this generator
+     */
+    public void addFoundFlags(BallerinaUtilGenerator ballerinaUtilGenerator) {
+        this.headersFound |= ballerinaUtilGenerator.headersFound;
+        this.pathParametersFound |= ballerinaUtilGenerator.pathParametersFound;
+        this.queryParamsFound |= ballerinaUtilGenerator.queryParamsFound;
+        this.requestBodyEncodingFound |= ballerinaUtilGenerator.requestBodyEncodingFound;
+        this.requestBodyMultipartFormDatafound |= ballerinaUtilGenerator.requestBodyMultipartFormDatafound;
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -218,24 +217,11 @@ public class BallerinaUtilGenerator {
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
+        // Util functions are added in the order they are defined in the template
+        for (Map.Entry<String, FunctionDefinitionNode> utilFunction :
+                ClientTemplateCache.getUtilFunctions().entrySet()) {
+            if (functionNameList.contains(utilFunction.getKey())) {
+                memberDeclarationNodes.add(utilFunction.getValue());
             }
         }
 
@@ -411,32 +397,4 @@ public class BallerinaUtilGenerator {
                 null, createNodeList(createToken(FINAL_KEYWORD)), bindingPatternNode,
                 createToken(EQUAL_TOKEN), expressionNode, createToken(SEMICOLON_TOKEN));
     }
-
-    /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
-     *
-     * @return Path to utils_openapi.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
-     */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
-        }
-        return path;
-    }
 }
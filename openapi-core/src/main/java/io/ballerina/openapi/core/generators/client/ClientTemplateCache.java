@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.tools.text.TextDocuments;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process wide cache of the templates used by the client generation.
+ * <p>
+ * Syntax tree nodes are immutable, hence the util functions parsed from the {@code utils_openapi.bal} template and
+ * the generated boilerplate records are shared between all the client generations of the process instead of being
+ * re-created for every client.
+ *
+ * @since 1.3.0
+ */
+public final class ClientTemplateCache {
+
+    private static final String UTIL_TEMPLATE = "templates/utils_openapi.bal";
+    private static final int MAX_RECORD_TEMPLATES = 256;
+    private static final Map<String, TypeDefinitionNode> RECORD_TEMPLATES = new ConcurrentHashMap<>();
+    private static volatile Map<String, FunctionDefinitionNode> utilFunctions;
+
+    private ClientTemplateCache() {
+    }
+
+    /**
+     * Returns the functions of the util template indexed by the function name, in the order they are defined in the
+     * template. The template is parsed from the classpath on the first call only.
+     *
+     * @return unmodifiable map of the util template functions
+     * @throws IOException when the util template is not available in the classpath
+     */
+    public static Map<String, FunctionDefinitionNode> getUtilFunctions() throws IOException {
+        Map<String, FunctionDefinitionNode> functions = utilFunctions;
+        if (functions == null) {
+            synchronized (ClientTemplateCache.class) {
+                functions = utilFunctions;
+                if (functions == null) {
+                    functions = loadUtilFunctions();
+                    utilFunctions = functions;
+                }
+            }
+        }
+        return functions;
+    }
+
+    /**
+     * Returns the record generated for the given key, generating it when it is not cached yet. The key should
+     * capture every input the generated record depends on.
+     *
+     * @param key       key of the record, ex: record name along with the values it is generated from
+     * @param generator generates the record when it is not cached
+     * @return cached or generated record
+     */
+    static TypeDefinitionNode getRecord(String key, Supplier<TypeDefinitionNode> generator) {
+        TypeDefinitionNode record = RECORD_TEMPLATES.get(key);
+        if (record != null) {
+            return record;
+        }
+        record = generator.get();
+        // Records generated with user given values (ex: token URLs) are not cached once the cache is full.
+        if (RECORD_TEMPLATES.size() < MAX_RECORD_TEMPLATES) {
+            TypeDefinitionNode cachedRecord = RECORD_TEMPLATES.putIfAbsent(key, record);
+            return cachedRecord == null ? record : cachedRecord;
+        }
+        return record;
+    }
+
+    private static Map<String, FunctionDefinitionNode> loadUtilFunctions() throws IOException {
+        String content;
+        try (InputStream inputStream = ClientTemplateCache.class.getClassLoader().getResourceAsStream(
+                UTIL_TEMPLATE)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the util template in the classpath: " + UTIL_TEMPLATE);
+            }
+            content = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+        ModulePartNode modulePartNode = SyntaxTree.from(TextDocuments.from(content)).rootNode();
+        Map<String, FunctionDefinitionNode> functions = new LinkedHashMap<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.FUNCTION_DEFINITION) {
+                FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) member;
+                functions.put(functionDefinitionNode.functionName().text(), functionDefinitionNode);
+            }
+        }
+        return Collections.unmodifiableMap(functions);
+    }
+}
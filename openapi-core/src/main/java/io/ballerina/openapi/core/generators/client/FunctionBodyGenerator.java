@@ -42,8 +42,10 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.RefIndex;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.mime.MimeType;
+import io.ballerina.openapi.core.generators.client.model.ReturnType;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -109,7 +111,6 @@ import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER_VALUES;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_HEADERS;
-import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
 import static io.ballerina.openapi.core.GeneratorConstants.PATCH;
 import static io.ballerina.openapi.core.GeneratorConstants.POST;
 import static io.ballerina.openapi.core.GeneratorConstants.PUT;
@@ -121,7 +122,6 @@ import static io.ballerina.openapi.core.GeneratorConstants.SELF;
 import static io.ballerina.openapi.core.GeneratorUtils.generateBodyStatementForComplexUrl;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 import static io.ballerina.openapi.core.GeneratorUtils.isComplexURL;
-import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.extractReferenceType;
 
 /**
  * This Util class uses for generating remote function body  {@link FunctionBodyNode}.
@@ -130,6 +130,8 @@ import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtil
  */
 public class FunctionBodyGenerator {
 
+    private static final Pattern PATH_PARAMETER_PATTERN = Pattern.compile("\\{[^}]*}");
+
     private List<ImportDeclarationNode> imports;
     private boolean isHeader;
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
@@ -138,6 +140,7 @@ public class FunctionBodyGenerator {
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final RefIndex refIndex;
 
     public List<ImportDeclarationNode> getImports() {
         return imports;
@@ -160,6 +163,7 @@ public class FunctionBodyGenerator {
         this.ballerinaUtilGenerator = ballerinaUtilGenerator;
         this.ballerinaAuthConfigGenerator = ballerinaAuthConfigGenerator;
         this.resourceMode = resourceMode;
+        this.refIndex = ballerinaSchemaGenerator.getGeneratorMetaData().getRefIndex();
     }
 
     /**
@@ -172,10 +176,24 @@ public class FunctionBodyGenerator {
      */
     public FunctionBodyNode getFunctionBodyNode(String path, Map.Entry<PathItem.HttpMethod, Operation> operation)
             throws BallerinaOpenApiException {
-
-        NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
                 openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+        return getFunctionBodyNode(path, operation, functionReturnType.createReturnType(operation.getValue(), true));
+    }
+
+    /**
+     * Generate function body node for the remote function with the return type created for its signature.
+     *
+     * @param path       - remote function path
+     * @param operation  - opneapi operation
+     * @param returnType - return type of the remote function
+     * @return - {@link FunctionBodyNode}
+     * @throws BallerinaOpenApiException - throws exception if generating FunctionBodyNode fails.
+     */
+    public FunctionBodyNode getFunctionBodyNode(String path, Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                ReturnType returnType) throws BallerinaOpenApiException {
+
+        NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         isHeader = false;
         // Create statements
         List<StatementNode> statementsList = new ArrayList<>();
@@ -193,14 +211,13 @@ public class FunctionBodyGenerator {
 
         String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
         // This return type for target data type binding.
-        String rType = functionReturnType.getReturnType(operation.getValue(), true);
-        String returnType = returnTypeForTargetTypeField(rType);
+        String targetType = returnType.getTargetType();
         // Statement Generator for requestBody
         if (operation.getValue().getRequestBody() != null) {
             RequestBody requestBody = operation.getValue().getRequestBody();
-            handleRequestBodyInOperation(statementsList, method, returnType, requestBody);
+            handleRequestBodyInOperation(statementsList, method, targetType, requestBody);
         } else {
-            createCommonFunctionBodyStatements(statementsList, method, returnType);
+            createCommonFunctionBodyStatements(statementsList, method, targetType);
         }
         //Create statements
         NodeList<StatementNode> statements = createNodeList(statementsList);
@@ -435,8 +452,7 @@ public class FunctionBodyGenerator {
         for (Parameter parameter : queryParameters) {
             Schema paramSchema = parameter.getSchema();
             if (paramSchema.get$ref() != null) {
-                paramSchema = openAPI.getComponents().getSchemas().get(
-                        getValidName(extractReferenceType(paramSchema.get$ref()), true));
+                paramSchema = refIndex.getSchema(paramSchema.get$ref());
             }
             if (paramSchema != null && (paramSchema.getProperties() != null ||
                     (paramSchema.getType() != null && paramSchema.getType().equals("array")) ||
@@ -501,8 +517,7 @@ public class FunctionBodyGenerator {
                 break;
             }
         } else if (requestBody.get$ref() != null) {
-            RequestBody requestBodySchema =
-                    openAPI.getComponents().getRequestBodies().get(extractReferenceType(requestBody.get$ref()));
+            RequestBody requestBodySchema = refIndex.get(requestBody.get$ref()).getRequestBody();
             Content rbContent = requestBodySchema.getContent();
             Set<Map.Entry<String, MediaType>> entries = rbContent.entrySet();
             Iterator<Map.Entry<String, MediaType>> iterator = entries.iterator();
@@ -606,8 +621,7 @@ public class FunctionBodyGenerator {
 
         if (path.contains("{")) {
             String refinedPath = path;
-            Pattern p = Pattern.compile("\\{[^}]*}");
-            Matcher m = p.matcher(path);
+            Matcher m = PATH_PARAMETER_PATTERN.matcher(path);
             while (m.find()) {
                 String pathVariable = path.substring(m.start(), m.end());
                 if (pathVariable.startsWith("{") && pathVariable.endsWith("}")) {
@@ -698,20 +712,6 @@ public class FunctionBodyGenerator {
         mimeType.setPayload(statementsList, mediaTypeEntry);
     }
 
-    /**
-     * This util function for getting type to the targetType data binding.
-     *
-     * @param rType - Given Data type
-     * @return - return type
-     */
-    private String returnTypeForTargetTypeField(String rType) {
-
-        String returnType;
-        int index = rType.lastIndexOf("|");
-        returnType = rType.substring(0, index);
-        return (rType.contains(NILLABLE) ? returnType + NILLABLE : returnType);
-    }
-
     /**
      * Generate map variable for query parameters and headers.
      */
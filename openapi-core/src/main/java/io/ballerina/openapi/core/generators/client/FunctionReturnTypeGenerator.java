@@ -21,9 +21,13 @@ package io.ballerina.openapi.core.generators.client;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.RefIndex;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.model.ReturnType;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.InlineTypeIndex;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -38,7 +42,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,13 +51,9 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdenti
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
-import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_RETURN;
-import static io.ballerina.openapi.core.GeneratorConstants.ERROR;
-import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
 import static io.ballerina.openapi.core.GeneratorUtils.convertOpenAPITypeToBallerina;
-import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 import static io.ballerina.openapi.core.GeneratorUtils.isValidSchemaName;
 
@@ -64,20 +63,51 @@ import static io.ballerina.openapi.core.GeneratorUtils.isValidSchemaName;
  * @since 1.3.0
  */
 public class FunctionReturnTypeGenerator {
-    private OpenAPI openAPI;
     private BallerinaTypesGenerator ballerinaSchemaGenerator;
-    private List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+    private List<TypeDefinitionNode> typeDefinitionNodeList = new TypeDefinitionRegistry();
+    private RefIndex refIndex;
+    private InlineTypeIndex inlineTypeIndex;
 
     public FunctionReturnTypeGenerator() {
-
+        this.refIndex = new RefIndex(new OpenAPI());
+        this.inlineTypeIndex = new InlineTypeIndex();
     }
 
     public FunctionReturnTypeGenerator(OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
                                        List<TypeDefinitionNode> typeDefinitionNodeList) {
 
-        this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
         this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.refIndex = ballerinaSchemaGenerator.getGeneratorMetaData().getRefIndex();
+        this.inlineTypeIndex = ballerinaSchemaGenerator.getGeneratorMetaData().getInlineTypeIndex();
+    }
+
+    /**
+     * Registers the inline record type of the given operation response. Structurally identical inline responses of
+     * the later operations reuse the type of the operation registered first, hence the operations are registered in
+     * their generation order before generating any of them.
+     *
+     * @param operation swagger operation
+     */
+    public void registerInlineResponseType(Operation operation) {
+        if (operation.getResponses() == null || operation.getOperationId() == null) {
+            return;
+        }
+        for (Map.Entry<String, ApiResponse> entry : operation.getResponses().entrySet()) {
+            Content content = entry.getValue().getContent();
+            if (!entry.getKey().startsWith("2") || content == null || content.isEmpty()) {
+                continue;
+            }
+            Schema<?> schema = content.values().iterator().next().getSchema();
+            if ((schema instanceof ObjectSchema || schema instanceof MapSchema) && schema.get$ref() == null &&
+                    schema.getProperties() != null && !schema.getProperties().isEmpty()) {
+                // Only the first inline response is registered, since every inline response of an operation
+                // has the same type name
+                inlineTypeIndex.register(schema, getResponseDescription(operation),
+                        getValidName(operation.getOperationId(), true) + "Response");
+                return;
+            }
+        }
     }
 
     /**
@@ -88,6 +118,17 @@ public class FunctionReturnTypeGenerator {
      * @throws BallerinaOpenApiException - throws exception if creating return type fails.
      */
     public String getReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
+        return createReturnType(operation, isSignature).toString();
+    }
+
+    /**
+     * Create the return type of the remote function. The types of the responses are generated while creating it.
+     *
+     * @param operation swagger operation.
+     * @return {@link ReturnType} of the operation.
+     * @throws BallerinaOpenApiException - throws exception if creating return type fails.
+     */
+    public ReturnType createReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
         //TODO: Handle multiple media-type
         Set<String> returnTypes = new HashSet<>();
         boolean noContentResponseFound = false;
@@ -119,16 +160,9 @@ public class FunctionReturnTypeGenerator {
             }
         }
         if (returnTypes.size() > 0) {
-            StringBuilder finalReturnType = new StringBuilder();
-            finalReturnType.append(String.join(PIPE_TOKEN.stringValue(), returnTypes));
-            finalReturnType.append(PIPE_TOKEN.stringValue());
-            finalReturnType.append(ERROR);
-            if (noContentResponseFound) {
-                finalReturnType.append(NILLABLE);
-            }
-            return finalReturnType.toString();
+            return new ReturnType(new ArrayList<>(returnTypes), noContentResponseFound);
         } else {
-            return DEFAULT_RETURN;
+            return new ReturnType(List.of(HTTP_RESPONSE), false);
         }
     }
 
@@ -149,8 +183,9 @@ public class FunctionReturnTypeGenerator {
             MapSchema mapSchema = (MapSchema) schema;
             type = handleResponseWithMapSchema(operation, media, mapSchema);
         } else if (schema.get$ref() != null) {
-            type = getValidName(extractReferenceType(schema.get$ref()), true);
-            Schema componentSchema = openAPI.getComponents().getSchemas().get(type);
+            RefIndex.Reference reference = refIndex.get(schema.get$ref());
+            type = reference.getTypeName();
+            Schema componentSchema = reference.getSchema();
             if (!isValidSchemaName(type)) {
                 String operationId = operation.getOperationId();
                 type = Character.toUpperCase(operationId.charAt(0)) + operationId.substring(1) +
@@ -162,7 +197,7 @@ public class FunctionReturnTypeGenerator {
                 }
                 TypeDefinitionNode typeDefinitionNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                         (componentSchema, type, responseDocs);
-                updateTypeDefinitionNodeList(type, typeDefinitionNode);
+                updateTypeDefinitionNodeList(typeDefinitionNode);
             }
         } else if (schema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) schema;
@@ -186,7 +221,7 @@ public class FunctionReturnTypeGenerator {
 
         String type;
         if (arraySchema.getItems().get$ref() != null) {
-            String name = getValidName(extractReferenceType(arraySchema.getItems().get$ref()), true);
+            String name = refIndex.getTypeName(arraySchema.getItems().get$ref());
             type = name + "[]";
             String typeName = name + "Arr";
             TypeDefinitionNode typeDefNode = createTypeDefinitionNode(null, null,
@@ -195,7 +230,7 @@ public class FunctionReturnTypeGenerator {
                     createSimpleNameReferenceNode(createIdentifierToken(type)),
                     createToken(SEMICOLON_TOKEN));
             // Check already typeDescriptor has same name
-            updateTypeDefinitionNodeList(typeName, typeDefNode);
+            updateTypeDefinitionNodeList(typeDefNode);
             if (!isSignature) {
                 type = typeName;
             }
@@ -243,7 +278,7 @@ public class FunctionReturnTypeGenerator {
             String typeName = "OneOf" + getValidName(operation.getOperationId().trim(), true) + "Response";
             TypeDefinitionNode typeDefNode = ballerinaSchemaGenerator.getTypeDefinitionNode(
                     composedSchema, typeName, new ArrayList<>());
-            updateTypeDefinitionNodeList(typeName, typeDefNode);
+            updateTypeDefinitionNodeList(typeDefNode);
             type = typeDefNode.typeDescriptor().toString();
             if (!isSignature) {
                 type = typeName;
@@ -253,7 +288,7 @@ public class FunctionReturnTypeGenerator {
                     "Response";
             TypeDefinitionNode allOfTypeDefinitionNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                     (composedSchema, recordName, new ArrayList<>());
-            updateTypeDefinitionNodeList(recordName, allOfTypeDefinitionNode);
+            updateTypeDefinitionNodeList(allOfTypeDefinitionNode);
             type = recordName;
         }
         return type;
@@ -271,20 +306,24 @@ public class FunctionReturnTypeGenerator {
         String type = getValidName(operation.getOperationId(), true) + "Response";
 
         if (ref != null) {
-            type = extractReferenceType(ref.trim());
+            type = refIndex.get(ref.trim()).getName();
         } else if (properties != null) {
+            String description = getResponseDescription(operation);
+            String registeredType = inlineTypeIndex.getTypeName(objectSchema, description);
             if (properties.isEmpty()) {
                 type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim());
+            } else if (registeredType != null && !registeredType.equals(type)) {
+                // Same structure as the inline response of an earlier operation
+                type = registeredType;
             } else {
                 List<Node> returnTypeDocs = new ArrayList<>();
-                String description = operation.getResponses().entrySet().iterator().next().getValue().getDescription();
                 if (description != null) {
                     returnTypeDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                             description, false));
                 }
                 TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                         (objectSchema, type, returnTypeDocs);
-                updateTypeDefinitionNodeList(type, recordNode);
+                updateTypeDefinitionNodeList(recordNode);
             }
         } else {
             type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim());
@@ -303,20 +342,24 @@ public class FunctionReturnTypeGenerator {
         String type = getValidName(operation.getOperationId(), true) + "Response";
 
         if (ref != null) {
-            type = extractReferenceType(ref.trim());
+            type = refIndex.get(ref.trim()).getName();
         } else if (properties != null) {
+            String description = getResponseDescription(operation);
+            String registeredType = inlineTypeIndex.getTypeName(mapSchema, description);
             if (properties.isEmpty()) {
                 type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim());
+            } else if (registeredType != null && !registeredType.equals(type)) {
+                // Same structure as the inline response of an earlier operation
+                type = registeredType;
             } else {
                 List<Node> schemaDocs = new ArrayList<>();
-                String description = operation.getResponses().entrySet().iterator().next().getValue().getDescription();
                 if (description != null) {
                     schemaDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                             description, false));
                 }
                 TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                         (mapSchema, type, schemaDocs);
-                updateTypeDefinitionNodeList(type, recordNode);
+                updateTypeDefinitionNodeList(recordNode);
             }
         } else {
             type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim());
@@ -338,7 +381,7 @@ public class FunctionReturnTypeGenerator {
                 createIdentifierToken(typeName),
                 createSimpleNameReferenceNode(createIdentifierToken(type)),
                 createToken(SEMICOLON_TOKEN));
-        updateTypeDefinitionNodeList(typeName, typeDefNode);
+        updateTypeDefinitionNodeList(typeDefNode);
         if (!isSignature) {
             return typeName;
         } else {
@@ -346,25 +389,19 @@ public class FunctionReturnTypeGenerator {
         }
     }
 
+    /**
+     * Returns the description of the first response, which documents the inline response record.
+     */
+    private static String getResponseDescription(Operation operation) {
+        return operation.getResponses().entrySet().iterator().next().getValue().getDescription();
+    }
+
     /**
      * This util function for update the typeDefinition node after check it duplicates.
      *
-     * @param typeName    - Given Node name
      * @param typeDefNode - Generated Node
      */
-    public void updateTypeDefinitionNodeList(String typeName, TypeDefinitionNode typeDefNode) {
-        boolean isExit = false;
-        if (!typeDefinitionNodeList.isEmpty()) {
-            for (TypeDefinitionNode typeNode : typeDefinitionNodeList) {
-                if (typeNode.typeName().toString().trim().equals(typeName)) {
-                    isExit = true;
-                }
-            }
-            if (!isExit) {
-                typeDefinitionNodeList.add(typeDefNode);
-            }
-        } else {
-            typeDefinitionNodeList.add(typeDefNode);
-        }
+    public void updateTypeDefinitionNodeList(TypeDefinitionNode typeDefNode) {
+        TypeDefinitionRegistry.addIfAbsent(typeDefinitionNodeList, typeDefNode);
     }
 }
@@ -37,7 +37,10 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.RefIndex;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.model.FunctionSignature;
+import io.ballerina.openapi.core.generators.client.model.ReturnType;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -101,7 +104,6 @@ import static io.ballerina.openapi.core.GeneratorConstants.VENDOR_SPECIFIC_TYPE;
 import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_DEPRECATED_REASON;
 import static io.ballerina.openapi.core.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.core.GeneratorUtils.escapeIdentifier;
-import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 
 /**
@@ -118,6 +120,7 @@ public class FunctionSignatureGenerator {
     private boolean deprecatedParamFound = false;
 
     private boolean isResource;
+    private final RefIndex refIndex;
 
     public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
         return typeDefinitionNodeList;
@@ -129,6 +132,7 @@ public class FunctionSignatureGenerator {
 
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
+        this.refIndex = ballerinaSchemaGenerator.getGeneratorMetaData().getRefIndex();
         this.typeDefinitionNodeList = typeDefinitionNodeList;
         this.functionReturnType = new FunctionReturnTypeGenerator
                 (openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
@@ -145,6 +149,20 @@ public class FunctionSignatureGenerator {
      */
     public FunctionSignatureNode getFunctionSignatureNode(Operation operation, List<Node> remoteFunctionDoc)
             throws BallerinaOpenApiException {
+        return generateFunctionSignature(operation, remoteFunctionDoc).getSignatureNode();
+    }
+
+    /**
+     * Generates the function signature of the given operation along with its return type, which the function body
+     * binds the response to.
+     *
+     * @param operation         - openapi operation
+     * @param remoteFunctionDoc - documentation lines of the function, which the parameter docs are added to
+     * @return - function signature along with its return type
+     * @throws BallerinaOpenApiException - throws exception when node creation fails.
+     */
+    public FunctionSignature generateFunctionSignature(Operation operation, List<Node> remoteFunctionDoc)
+            throws BallerinaOpenApiException {
         // Store the parameters for method.
         List<Node> parameterList = new ArrayList<>();
         functionReturnType = new FunctionReturnTypeGenerator
@@ -156,7 +174,7 @@ public class FunctionSignatureGenerator {
         }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(parameterList);
         //Create Return type - function with response
-        String returnType = functionReturnType.getReturnType(operation, true);
+        ReturnType returnType = functionReturnType.createReturnType(operation, true);
         ApiResponses responses = operation.getResponses();
         Collection<ApiResponse> values = responses.values();
         Iterator<ApiResponse> iteratorRes = values.iterator();
@@ -169,10 +187,9 @@ public class FunctionSignatureGenerator {
 
         // Return Type
         ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(createToken(RETURNS_KEYWORD),
-                createEmptyNodeList(), createBuiltinSimpleNameReferenceNode(null,
-                        createIdentifierToken(returnType)));
-        return createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN), parameters, createToken(CLOSE_PAREN_TOKEN),
-                returnTypeDescriptorNode);
+                createEmptyNodeList(), returnType.toTypeDescriptorNode());
+        return new FunctionSignature(createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN), parameters,
+                createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode), returnType);
     }
 
     /**
@@ -237,8 +254,7 @@ public class FunctionSignatureGenerator {
                 setRequestBodyParameters(operation.getOperationId(), requestBody, remoteFunctionDoc, parameterList,
                         defaultable);
             } else if (requestBody.get$ref() != null) {
-                String requestBodyName = extractReferenceType(requestBody.get$ref());
-                RequestBody requestBodySchema = openAPI.getComponents().getRequestBodies().get(requestBodyName.trim());
+                RequestBody requestBodySchema = refIndex.get(requestBody.get$ref()).getRequestBody();
                 setRequestBodyParameters(operation.getOperationId(), requestBodySchema, remoteFunctionDoc,
                         parameterList, defaultable);
             }
@@ -294,7 +310,7 @@ public class FunctionSignatureGenerator {
         Schema parameterSchema = parameter.getSchema();
         String paramType = "";
         if (parameterSchema.get$ref() != null) {
-            paramType = getValidName(extractReferenceType(parameterSchema.get$ref()), true);
+            paramType = refIndex.getTypeName(parameterSchema.get$ref());
         } else {
             paramType = convertOpenAPITypeToBallerina(parameterSchema.getType().trim());
             if (parameterSchema.getType().equals(NUMBER)) {
@@ -315,8 +331,7 @@ public class FunctionSignatureGenerator {
                                 parameter.getName());
                     }
                 } else if (arraySchema.getItems().get$ref() != null) {
-                    paramType = getValidName(extractReferenceType(
-                            arraySchema.getItems().get$ref().trim()), true) + SQUARE_BRACKETS;
+                    paramType = refIndex.getTypeName(arraySchema.getItems().get$ref().trim()) + SQUARE_BRACKETS;
                 } else {
                     throw new BallerinaOpenApiException("Please define the array item type of the parameter : " +
                             parameter.getName());
@@ -369,8 +384,9 @@ public class FunctionSignatureGenerator {
         String type = "";
         Schema parameterSchema = parameter.getSchema();
         if (parameterSchema.get$ref() != null) {
-            type = getValidName(extractReferenceType(parameterSchema.get$ref()), true);
-            Schema schema = openAPI.getComponents().getSchemas().get(type.trim());
+            RefIndex.Reference reference = refIndex.get(parameterSchema.get$ref());
+            type = reference.getTypeName();
+            Schema schema = reference.getSchema();
             if (schema instanceof ObjectSchema) {
                 throw new BallerinaOpenApiException("Ballerina does not support object type path parameters.");
             }
@@ -432,7 +448,7 @@ public class FunctionSignatureGenerator {
             if (schema instanceof ArraySchema) {
                 ArraySchema arraySchema = (ArraySchema) schema;
                 if (arraySchema.getItems().get$ref() != null) {
-                    type = extractReferenceType(arraySchema.getItems().get$ref()) + SQUARE_BRACKETS;
+                    type = refIndex.get(arraySchema.getItems().get$ref()).getName() + SQUARE_BRACKETS;
                 } else {
                     type = convertOpenAPITypeToBallerina(arraySchema.getItems().getType().trim()) + SQUARE_BRACKETS;
                 }
@@ -460,7 +476,8 @@ public class FunctionSignatureGenerator {
                 if (schema instanceof ArraySchema) {
                     ArraySchema arraySchema = (ArraySchema) schema;
                     if (arraySchema.getItems().get$ref() != null) {
-                        type = extractReferenceType(arraySchema.getItems().get$ref()) + SQUARE_BRACKETS + NILLABLE;
+                        type = refIndex.get(arraySchema.getItems().get$ref()).getName() + SQUARE_BRACKETS
+                                + NILLABLE;
                     } else {
                         type = convertOpenAPITypeToBallerina(arraySchema.getItems().getType().trim()) + SQUARE_BRACKETS
                                 + NILLABLE;
@@ -495,7 +512,7 @@ public class FunctionSignatureGenerator {
                 if (next.getKey().equals(ANY_TYPE) || next.getKey().contains(VENDOR_SPECIFIC_TYPE)) {
                     paramType = SyntaxKind.BYTE_KEYWORD.stringValue() + SQUARE_BRACKETS;
                 } else if (schema.get$ref() != null) {
-                    paramType = getValidName(extractReferenceType(schema.get$ref().trim()), true);
+                    paramType = refIndex.getTypeName(schema.get$ref().trim());
                 } else if (schema.getType() != null && !schema.getType().equals(ARRAY) && !schema.getType().equals(
                         OBJECT)) {
                     String typeOfPayload = schema.getType().trim();
@@ -568,13 +585,13 @@ public class FunctionSignatureGenerator {
         if (arrayItems.getType() != null) {
             paramType = convertOpenAPITypeToBallerina(arrayItems.getType()) + SQUARE_BRACKETS;
         } else if (arrayItems.get$ref() != null) {
-            paramType = getValidName(extractReferenceType(arrayItems.get$ref()), true) + SQUARE_BRACKETS;
+            paramType = refIndex.getTypeName(arrayItems.get$ref()) + SQUARE_BRACKETS;
         } else if (arrayItems instanceof ComposedSchema) {
             paramType = "CompoundArrayItem" + getValidName(operationId, true) + "Request";
             // TODO - Add API doc by checking requestBody
             TypeDefinitionNode arrayTypeNode =
                     ballerinaSchemaGenerator.getTypeDefinitionNode(arraySchema, paramType, new ArrayList<>());
-            functionReturnType.updateTypeDefinitionNodeList(paramType, arrayTypeNode);
+            functionReturnType.updateTypeDefinitionNodeList(arrayTypeNode);
         } else {
             paramType = GeneratorUtils.getBallerinaMediaType(next.getKey().trim()) + SQUARE_BRACKETS;
         }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.model;
+
+/**
+ * Enum to select how the client functions are grouped into client classes.
+ *
+ * @since 1.3.0
+ */
+public enum ClientGrouping {
+    /**
+     * Generates all the client functions in a single `Client` class.
+     */
+    NONE("none"),
+    /**
+     * Groups the client functions by the first tag of the operations. Untagged operations are grouped by the first
+     * segment of their paths.
+     */
+    TAG("tag"),
+    /**
+     * Groups the client functions by the first segment of the operation paths.
+     */
+    PATH("path");
+
+    private final String name;
+
+    ClientGrouping(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
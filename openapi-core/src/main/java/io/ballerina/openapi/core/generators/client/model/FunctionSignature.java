@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.model;
+
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+
+/**
+ * Function signature of a client function along with its return type, which the function body binds the response
+ * to.
+ *
+ * @since 1.3.0
+ */
+public class FunctionSignature {
+
+    private final FunctionSignatureNode signatureNode;
+    private final ReturnType returnType;
+
+    public FunctionSignature(FunctionSignatureNode signatureNode, ReturnType returnType) {
+        this.signatureNode = signatureNode;
+        this.returnType = returnType;
+    }
+
+    public FunctionSignatureNode getSignatureNode() {
+        return signatureNode;
+    }
+
+    public ReturnType getReturnType() {
+        return returnType;
+    }
+}
@@ -32,6 +32,7 @@ public class OASClientConfig {
     private final boolean resourceMode;
     private final boolean isPlugin;
     private final String license;
+    private final ClientGrouping clientGrouping;
 
 
     private OASClientConfig(Builder clientConfigBuilder) {
@@ -41,6 +42,7 @@ public class OASClientConfig {
         this.isPlugin = clientConfigBuilder.isPlugin;
         this.resourceMode = clientConfigBuilder.resourceMode;
         this.license = clientConfigBuilder.license;
+        this.clientGrouping = clientConfigBuilder.clientGrouping;
     }
 
     public OpenAPI getOpenAPI() {
@@ -67,6 +69,10 @@ public class OASClientConfig {
         return license;
     }
 
+    public ClientGrouping getClientGrouping() {
+        return clientGrouping;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -76,6 +82,7 @@ public class OASClientConfig {
         private boolean nullable = false;
         private boolean resourceMode = true;
         private boolean isPlugin = false;
+        private ClientGrouping clientGrouping = ClientGrouping.NONE;
 
         private String license = "// AUTO-GENERATED FILE. DO NOT MODIFY.\n\n" +
                 "// This file is auto-generated by the Ballerina OpenAPI tool.\n";
@@ -111,6 +118,11 @@ public class OASClientConfig {
             return this;
         }
 
+        public Builder withClientGrouping(ClientGrouping clientGrouping) {
+            this.clientGrouping = clientGrouping;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
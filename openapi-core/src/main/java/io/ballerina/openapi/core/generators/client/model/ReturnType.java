@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.model;
+
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+
+import java.util.Collections;
+import java.util.List;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.openapi.core.GeneratorConstants.ERROR;
+import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
+
+/**
+ * Return type of a client function, built once from the operation responses.
+ * <p>
+ * The return type is the union of the response types, followed by {@code error}, which is nilable when the operation
+ * has a response without content. The response types are kept as the Ballerina source of each type (ex:
+ * {@code http:Response} or {@code Pet[]}), as the response type generators produce them. The function signature joins
+ * them in a union type descriptor node and the function body uses them as the target type of the client call, hence
+ * the return type is neither generated twice nor cut out of the signature.
+ * <pre>
+ *     returns Pet|Error|error?
+ * </pre>
+ *
+ * @since 1.3.0
+ */
+public class ReturnType {
+
+    private final List<String> responseTypes;
+    private final boolean nilable;
+
+    public ReturnType(List<String> responseTypes, boolean nilable) {
+        this.responseTypes = Collections.unmodifiableList(responseTypes);
+        this.nilable = nilable;
+    }
+
+    public List<String> getResponseTypes() {
+        return responseTypes;
+    }
+
+    public boolean isNilable() {
+        return nilable;
+    }
+
+    /**
+     * Returns the target type of the client call, which is the union of the response types.
+     */
+    public String getTargetType() {
+        String targetType = String.join(PIPE_TOKEN.stringValue(), responseTypes);
+        return isNilableType() ? targetType + NILLABLE : targetType;
+    }
+
+    /**
+     * Lowers the return type to a union type descriptor node. Each response type is a name reference holding the
+     * source of the type, which is not broken down further.
+     */
+    public TypeDescriptorNode toTypeDescriptorNode() {
+        TypeDescriptorNode errorType = createSimpleNameReferenceNode(createIdentifierToken(ERROR));
+        if (nilable) {
+            errorType = createOptionalTypeDescriptorNode(errorType, createToken(QUESTION_MARK_TOKEN));
+        }
+        TypeDescriptorNode typeDescriptorNode = null;
+        for (String responseType : responseTypes) {
+            TypeDescriptorNode memberType = createSimpleNameReferenceNode(createIdentifierToken(responseType));
+            typeDescriptorNode = typeDescriptorNode == null ? memberType :
+                    createUnionTypeDescriptorNode(typeDescriptorNode, createToken(PIPE_TOKEN), memberType);
+        }
+        return typeDescriptorNode == null ? errorType :
+                createUnionTypeDescriptorNode(typeDescriptorNode, createToken(PIPE_TOKEN), errorType);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder returnType = new StringBuilder();
+        for (String responseType : responseTypes) {
+            returnType.append(responseType).append(PIPE_TOKEN.stringValue());
+        }
+        returnType.append(ERROR);
+        if (nilable) {
+            returnType.append(NILLABLE);
+        }
+        return returnType.toString();
+    }
+
+    private boolean isNilableType() {
+        if (nilable) {
+            return true;
+        }
+        // A response type can be nilable as well, ex: the type descriptor of a oneOf response
+        for (String responseType : responseTypes) {
+            if (responseType.contains(NILLABLE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -49,9 +49,10 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -66,8 +67,10 @@ import static io.ballerina.openapi.core.GeneratorConstants.CONNECTION_CONFIG;
  */
 public class BallerinaTypesGenerator {
 
+    private final GeneratorMetaData generatorMetaData;
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
     private boolean hasConstraints;
+    private ForkJoinPool forkJoinPool;
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -79,7 +82,20 @@ public class BallerinaTypesGenerator {
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable,
                                    List<TypeDefinitionNode> typeDefinitionNodeList) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
+        this(new GeneratorMetaData(openAPI, isNullable), typeDefinitionNodeList);
+    }
+
+    /**
+     * This public constructor is used to generate record and other relevant data type for the given generation
+     * metadata. The metadata is owned by a single code generation, hence generators created with different metadata
+     * instances do not interfere with each other.
+     *
+     * @param generatorMetaData      metadata of the current code generation
+     * @param typeDefinitionNodeList list of types generated by earlier generations
+     */
+    public BallerinaTypesGenerator(GeneratorMetaData generatorMetaData,
+                                   List<TypeDefinitionNode> typeDefinitionNodeList) {
+        this.generatorMetaData = generatorMetaData;
         this.typeDefinitionNodeList = typeDefinitionNodeList;
         this.hasConstraints = false;
     }
@@ -92,7 +108,7 @@ public class BallerinaTypesGenerator {
      * @param isNullable nullable value
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        this(openAPI, isNullable, new LinkedList<>());
+        this(openAPI, isNullable, new TypeDefinitionRegistry());
     }
 
     /**
@@ -102,24 +118,45 @@ public class BallerinaTypesGenerator {
      * @param openAPI OAS definition
      */
     public BallerinaTypesGenerator(OpenAPI openAPI) {
-        this(openAPI, false, new LinkedList<>());
+        this(openAPI, false, new TypeDefinitionRegistry());
+    }
+
+    /**
+     * Returns the metadata of the code generation this generator belongs to.
+     */
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
+    /**
+     * Enables parallel generation of the component schemas using the given pool. Each schema is converted in
+     * isolation and the resulting type definitions are merged in the declaration order of the schemas, hence the
+     * generated syntax tree is identical to the one generated sequentially.
+     *
+     * @param forkJoinPool pool to run the schema conversions on, or null to generate sequentially
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
     }
 
     /**
      * Generate syntaxTree for component schema.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
-        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        OpenAPI openAPI = generatorMetaData.getOpenAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
         if (openAPI.getComponents() != null) {
             // Create typeDefinitionNode
             Components components = openAPI.getComponents();
             Map<String, Schema> schemas = components.getSchemas();
-            if (schemas != null) {
+            if (schemas != null && forkJoinPool != null && schemas.size() > 1) {
+                typeDefinitionNodeListForSchema.addAll(generateTypeDefinitionNodesInParallel(schemas));
+            } else if (schemas != null) {
+                SchemaAnalysis schemaAnalysis = generatorMetaData.getSchemaAnalysis();
                 for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
                     String schemaKey = schema.getKey().trim();
                     if (!hasConstraints) {
-                        hasConstraints = GeneratorUtils.hasConstraints(schema.getValue());
+                        hasConstraints = schemaAnalysis.hasConstraints(schema.getValue());
                     }
                     if (GeneratorUtils.isValidSchemaName(schemaKey)) {
                         List<Node> schemaDoc = new ArrayList<>();
@@ -149,7 +186,7 @@ public class BallerinaTypesGenerator {
         if (!typeDefinitionNodeList.isEmpty()) {
             importsForTypeDefinitions(imports);
         }
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
+        boolean nullable = generatorMetaData.isNullable();
         if (hasConstraints && !nullable) {
             //import for constraint
             ImportDeclarationNode importForConstraint = GeneratorUtils.getImportDeclarationNode(
@@ -206,19 +243,71 @@ public class BallerinaTypesGenerator {
      */
     public TypeDefinitionNode getTypeDefinitionNode(Schema schema, String typeName, List<Node> schemaDocs)
             throws BallerinaOpenApiException {
+        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
+                typeName.trim(), true), null, generatorMetaData);
+        TypeDefinitionNode typeDefinitionNode = generateTypeDefinitionNode(typeGenerator, schema, typeName,
+                schemaDocs);
+        addDependentTypeDefinitionNodes(typeGenerator);
+        return typeDefinitionNode;
+    }
+
+    /**
+     * Generates the type definitions of the given component schemas on the fork join pool. The conversions do not
+     * touch the shared type definition list, instead the nested type definitions of each schema are merged once all
+     * the conversions are completed, following the declaration order of the schemas.
+     */
+    private List<TypeDefinitionNode> generateTypeDefinitionNodesInParallel(Map<String, Schema> schemas)
+            throws BallerinaOpenApiException {
+        // Analyses the schemas before forking, hence the conversions only read the analysis
+        generatorMetaData.getSchemaAnalysis();
+        List<Callable<SchemaConversion>> conversions = new ArrayList<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            conversions.add(() -> convertSchema(schema.getKey().trim(), schema.getValue()));
+        }
+        List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+        for (SchemaConversion conversion : GeneratorUtils.invokeAll(forkJoinPool, conversions)) {
+            if (!hasConstraints) {
+                hasConstraints = conversion.hasConstraints;
+            }
+            if (conversion.typeGenerator != null) {
+                addDependentTypeDefinitionNodes(conversion.typeGenerator);
+                typeDefinitionNodes.add(conversion.typeDefinitionNode);
+            }
+        }
+        return typeDefinitionNodes;
+    }
+
+    private SchemaConversion convertSchema(String schemaKey, Schema schema) throws BallerinaOpenApiException {
+        boolean hasSchemaConstraints = generatorMetaData.getSchemaAnalysis().hasConstraints(schema);
+        if (!GeneratorUtils.isValidSchemaName(schemaKey)) {
+            return new SchemaConversion(hasSchemaConstraints, null, null);
+        }
+        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
+                schemaKey, true), null, generatorMetaData);
+        TypeDefinitionNode typeDefinitionNode = generateTypeDefinitionNode(typeGenerator, schema, schemaKey,
+                new ArrayList<>());
+        return new SchemaConversion(hasSchemaConstraints, typeGenerator, typeDefinitionNode);
+    }
+
+    private TypeDefinitionNode generateTypeDefinitionNode(TypeGenerator typeGenerator, Schema schema,
+                                                          String typeName, List<Node> schemaDocs)
+            throws BallerinaOpenApiException {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
                 typeName.trim(), true));
-        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
-                typeName.trim(), true), null);
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
         AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(schema);
         if (constraintNode != null) {
             typeAnnotations.add(constraintNode);
         }
-        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations);
-        TypeDefinitionNode typeDefinitionNode =
-                typeGenerator.generateTypeDefinitionNode(typeNameToken, schemaDocs, typeAnnotations);
+        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations, generatorMetaData.getRefIndex());
+        return typeGenerator.generateTypeDefinitionNode(typeNameToken, schemaDocs, typeAnnotations);
+    }
 
+    /**
+     * Adds the nested type definitions created while generating a type (ex: constraint items, inline records) to
+     * the type definition list.
+     */
+    private void addDependentTypeDefinitionNodes(TypeGenerator typeGenerator) {
         if (typeGenerator instanceof ArrayTypeGenerator &&
                 ((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint() != null) {
             typeDefinitionNodeList.add(((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint());
@@ -232,7 +321,6 @@ public class BallerinaTypesGenerator {
                 !((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList().isEmpty()) {
             removeDuplicateNode(((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList());
         }
-        return typeDefinitionNode;
     }
 
     /**
@@ -241,16 +329,23 @@ public class BallerinaTypesGenerator {
     private void removeDuplicateNode(List<TypeDefinitionNode> newConstraintNode) {
 
         for (TypeDefinitionNode newNode : newConstraintNode) {
-            boolean isExist = false;
-            for (TypeDefinitionNode oldNode : typeDefinitionNodeList) {
-                if (newNode.typeName().text().equals(oldNode.typeName().text())) {
-                    isExist = true;
-                    break;
-                }
-            }
-            if (!isExist) {
-                typeDefinitionNodeList.add(newNode);
-            }
+            TypeDefinitionRegistry.addIfAbsent(typeDefinitionNodeList, newNode);
+        }
+    }
+
+    /**
+     * Result of converting a single component schema in isolation.
+     */
+    private static class SchemaConversion {
+
+        private final boolean hasConstraints;
+        private final TypeGenerator typeGenerator;
+        private final TypeDefinitionNode typeDefinitionNode;
+
+        SchemaConversion(boolean hasConstraints, TypeGenerator typeGenerator, TypeDefinitionNode typeDefinitionNode) {
+            this.hasConstraints = hasConstraints;
+            this.typeGenerator = typeGenerator;
+            this.typeDefinitionNode = typeDefinitionNode;
         }
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the types generated for inline schemas, keyed by the structure of the schemas.
+ * <p>
+ * The structural key of a schema is its canonical JSON form along with the documentation of the generated type, hence
+ * two inline schemas with the same key generate identical type definitions. The first type name registered for a
+ * structure is kept and the later occurrences of the same structure refer that type instead of generating a new one.
+ *
+ * @since 1.3.0
+ */
+public class InlineTypeIndex {
+
+    private final Map<String, String> typeNames = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the type name generated for the given inline schema.
+     *
+     * @param schema      inline schema
+     * @param description description used to document the generated type, can be null
+     * @param typeName    name of the type generated for the schema
+     * @return the type name registered first for the structure of the schema
+     */
+    public String register(Schema<?> schema, String description, String typeName) {
+        String structuralKey = getStructuralKey(schema, description);
+        if (structuralKey == null) {
+            return typeName;
+        }
+        String registeredTypeName = typeNames.putIfAbsent(structuralKey, typeName);
+        return registeredTypeName != null ? registeredTypeName : typeName;
+    }
+
+    /**
+     * Returns the type name registered for the structure of the given inline schema.
+     *
+     * @param schema      inline schema
+     * @param description description used to document the generated type, can be null
+     * @return registered type name, or null when the structure is not registered
+     */
+    public String getTypeName(Schema<?> schema, String description) {
+        if (typeNames.isEmpty()) {
+            return null;
+        }
+        String structuralKey = getStructuralKey(schema, description);
+        return structuralKey != null ? typeNames.get(structuralKey) : null;
+    }
+
+    private static String getStructuralKey(Schema<?> schema, String description) {
+        try {
+            // Properties are serialized in their declared order, which is also the order of the generated fields
+            return Json.mapper().writeValueAsString(schema) + "\n" + description;
+        } catch (JsonProcessingException e) {
+            // Schemas which can not be serialized are not deduplicated
+            return null;
+        }
+    }
+}
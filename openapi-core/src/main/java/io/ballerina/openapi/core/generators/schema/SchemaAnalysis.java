@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memoized constraint check of the schemas of an OpenAPI definition, computed by a single walk over the component
+ * schemas.
+ * <p>
+ * Every component schema and the inline schemas nested in it (properties, array items and composed schema members)
+ * are visited once. Whether each visited schema has constraints is memoized, hence the generators do not walk the
+ * same subtree again for every type which refers it. No other fact of the schemas is analysed. The analysis is read only once it is created, hence it can be
+ * shared by the parallel generators.
+ *
+ * @since 1.3.0
+ */
+public class SchemaAnalysis {
+
+    private final Map<Schema<?>, Boolean> constraints = new IdentityHashMap<>();
+
+    /**
+     * Analyses the component schemas of the given definition.
+     *
+     * @param openAPI normalized OpenAPI definition
+     */
+    public SchemaAnalysis(OpenAPI openAPI) {
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return;
+        }
+        for (Schema<?> schema : openAPI.getComponents().getSchemas().values()) {
+            visit(schema);
+        }
+    }
+
+    /**
+     * Checks whether the given schema has constraints, same as {@link GeneratorUtils#hasConstraints(Schema)}. Schemas
+     * which are not a part of the component schemas are checked on demand.
+     */
+    public boolean hasConstraints(Schema<?> schema) {
+        Boolean hasConstraints = constraints.get(schema);
+        return hasConstraints != null ? hasConstraints : GeneratorUtils.hasConstraints(schema);
+    }
+
+    /**
+     * Visits the given schema and the inline schemas nested in it, following the same structure as
+     * {@link GeneratorUtils#hasConstraints(Schema)}.
+     */
+    private boolean visit(Schema<?> schema) {
+        if (schema == null) {
+            return false;
+        }
+        Boolean memoized = constraints.get(schema);
+        if (memoized != null) {
+            return memoized;
+        }
+        // Marks the schema as visited before walking the nested schemas, in case the schema graph has cycles
+        constraints.put(schema, false);
+        boolean nestedConstraints = false;
+        if (schema.getProperties() != null) {
+            for (Schema<?> property : schema.getProperties().values()) {
+                nestedConstraints = visit(property) || nestedConstraints;
+            }
+        }
+        if (schema instanceof ComposedSchema && schema.getProperties() == null) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            // Only the first available member list is considered for the constraints
+            List<Schema> members = composedSchema.getAllOf() != null ? composedSchema.getAllOf() :
+                    composedSchema.getOneOf() != null ? composedSchema.getOneOf() : composedSchema.getAnyOf();
+            if (members != null) {
+                for (Schema<?> member : members) {
+                    nestedConstraints = visit(member) || nestedConstraints;
+                }
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            Schema<?> items = ((ArraySchema) schema).getItems();
+            visit(items);
+            if (schema.getProperties() == null && items != null) {
+                nestedConstraints = nestedConstraints || isConstraintExists(items);
+            }
+        }
+        boolean hasConstraints = nestedConstraints || isConstraintExists(schema);
+        constraints.put(schema, hasConstraints);
+        return hasConstraints;
+    }
+
+    private static boolean isConstraintExists(Schema<?> schema) {
+        return schema.getMaximum() != null ||
+                schema.getMinimum() != null ||
+                schema.getMaxLength() != null ||
+                schema.getMinLength() != null ||
+                schema.getMaxItems() != null ||
+                schema.getMinItems() != null ||
+                schema.getExclusiveMinimum() != null ||
+                schema.getExclusiveMaximum() != null;
+    }
+}
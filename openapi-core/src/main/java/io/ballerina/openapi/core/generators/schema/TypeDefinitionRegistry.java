@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.io.PrintStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Insertion ordered list of type definitions indexed by the type name.
+ * <p>
+ * The registry is a {@link List}, hence it can be passed wherever the generators expect the list of generated type
+ * definitions, and the definitions are emitted in the order they are added. In addition, the type names are indexed so
+ * that the generators can skip an already generated type with a hash lookup instead of scanning the list. A type that
+ * is skipped while its definition differs from the registered one is reported as a conflict, as only the registered
+ * definition is generated.
+ *
+ * @since 1.3.0
+ */
+public class TypeDefinitionRegistry extends AbstractList<TypeDefinitionNode> implements RandomAccess {
+
+    private final List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+    private final Map<String, Integer> typeNameCounts = new HashMap<>();
+    private final Map<String, TypeDefinitionNode> registeredNodes = new HashMap<>();
+    private final Set<String> conflictingTypeNames = new LinkedHashSet<>();
+    private final PrintStream outStream;
+
+    public TypeDefinitionRegistry() {
+        this(System.err);
+    }
+
+    public TypeDefinitionRegistry(PrintStream outStream) {
+        this.outStream = outStream;
+    }
+
+    public TypeDefinitionRegistry(Collection<? extends TypeDefinitionNode> typeDefinitionNodes) {
+        this(System.err);
+        addAll(typeDefinitionNodes);
+    }
+
+    /**
+     * Adds the given type definition to the given list unless a type with the same name is already in the list. The
+     * lookup is a hash lookup when the list is a registry, otherwise the list is scanned.
+     *
+     * @param typeDefinitionNodes list of the generated type definitions
+     * @param typeDefinitionNode  type definition to add
+     * @return true when the type definition is added
+     */
+    public static boolean addIfAbsent(List<TypeDefinitionNode> typeDefinitionNodes,
+                                      TypeDefinitionNode typeDefinitionNode) {
+        if (typeDefinitionNodes instanceof TypeDefinitionRegistry) {
+            return ((TypeDefinitionRegistry) typeDefinitionNodes).addIfAbsent(typeDefinitionNode);
+        }
+        String typeName = getTypeName(typeDefinitionNode);
+        for (TypeDefinitionNode existingNode : typeDefinitionNodes) {
+            if (getTypeName(existingNode).equals(typeName)) {
+                return false;
+            }
+        }
+        return typeDefinitionNodes.add(typeDefinitionNode);
+    }
+
+    /**
+     * Adds the given type definition unless a type with the same name is already registered. A skipped type definition
+     * which differs from the registered one is reported as a conflict.
+     *
+     * @param typeDefinitionNode type definition to add
+     * @return true when the type definition is added
+     */
+    public boolean addIfAbsent(TypeDefinitionNode typeDefinitionNode) {
+        String typeName = getTypeName(typeDefinitionNode);
+        TypeDefinitionNode registeredNode = registeredNodes.get(typeName);
+        if (registeredNode == null) {
+            return add(typeDefinitionNode);
+        }
+        // The definitions are compared only for the skipped types, which are few compared to the added types
+        if (registeredNode != typeDefinitionNode && !getTypeSource(registeredNode)
+                .equals(getTypeSource(typeDefinitionNode)) && conflictingTypeNames.add(typeName)) {
+            outStream.printf("WARNING: the type `%s` is generated more than once with different definitions. " +
+                    "Only the first definition is generated.%n", typeName);
+        }
+        return false;
+    }
+
+    public boolean containsTypeName(String typeName) {
+        return typeNameCounts.containsKey(typeName);
+    }
+
+    /**
+     * Returns the names of the types which were skipped while their definitions differ from the registered ones.
+     */
+    public Set<String> getConflictingTypeNames() {
+        return Collections.unmodifiableSet(conflictingTypeNames);
+    }
+
+    @Override
+    public TypeDefinitionNode get(int index) {
+        return typeDefinitionNodes.get(index);
+    }
+
+    @Override
+    public int size() {
+        return typeDefinitionNodes.size();
+    }
+
+    @Override
+    public void add(int index, TypeDefinitionNode typeDefinitionNode) {
+        typeDefinitionNodes.add(index, typeDefinitionNode);
+        index(typeDefinitionNode);
+        modCount++;
+    }
+
+    @Override
+    public TypeDefinitionNode set(int index, TypeDefinitionNode typeDefinitionNode) {
+        TypeDefinitionNode previousNode = typeDefinitionNodes.set(index, typeDefinitionNode);
+        unindex(previousNode);
+        index(typeDefinitionNode);
+        return previousNode;
+    }
+
+    @Override
+    public TypeDefinitionNode remove(int index) {
+        TypeDefinitionNode removedNode = typeDefinitionNodes.remove(index);
+        unindex(removedNode);
+        modCount++;
+        return removedNode;
+    }
+
+    private void index(TypeDefinitionNode typeDefinitionNode) {
+        String typeName = getTypeName(typeDefinitionNode);
+        typeNameCounts.merge(typeName, 1, Integer::sum);
+        registeredNodes.putIfAbsent(typeName, typeDefinitionNode);
+    }
+
+    private void unindex(TypeDefinitionNode typeDefinitionNode) {
+        String typeName = getTypeName(typeDefinitionNode);
+        if (typeNameCounts.merge(typeName, -1, Integer::sum) <= 0) {
+            typeNameCounts.remove(typeName);
+            registeredNodes.remove(typeName);
+        } else if (registeredNodes.get(typeName) == typeDefinitionNode) {
+            registeredNodes.remove(typeName);
+            for (TypeDefinitionNode node : typeDefinitionNodes) {
+                if (getTypeName(node).equals(typeName)) {
+                    registeredNodes.put(typeName, node);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the source of the type descriptor of the given type definition without the documentation lines and the
+     * whitespace, hence only the types of the definitions are compared.
+     */
+    private static String getTypeSource(TypeDefinitionNode typeDefinitionNode) {
+        return typeDefinitionNode.typeDescriptor().toSourceCode().replaceAll("(?m)^\\s*#.*$", "")
+                .replaceAll("\\s+", "");
+    }
+
+    private static String getTypeName(TypeDefinitionNode typeDefinitionNode) {
+        return typeDefinitionNode.typeName().text();
+    }
+}
@@ -35,7 +35,7 @@ import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorConstants;
-import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.RefIndex;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.AllOfRecordTypeGenerator;
@@ -47,7 +47,6 @@ import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.Refer
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
-import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.IntegerSchema;
@@ -91,30 +90,33 @@ public class TypeGeneratorUtils {
     /**
      * Get SchemaType object relevant to the schema given.
      *
-     * @param schemaValue Schema object
-     * @param typeName    parameter name
+     * @param schemaValue       Schema object
+     * @param typeName          parameter name
+     * @param parentName        name of the parent type, if any
+     * @param generatorMetaData metadata of the current code generation
      * @return Relevant SchemaType object
      */
-    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName, String parentName) {
+    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName, String parentName,
+                                                 GeneratorMetaData generatorMetaData) {
 
         if (schemaValue.get$ref() != null) {
-            return new ReferencedTypeGenerator(schemaValue, typeName);
+            return new ReferencedTypeGenerator(schemaValue, typeName, generatorMetaData);
         } else if (schemaValue instanceof ComposedSchema) {
             ComposedSchema composedSchema = (ComposedSchema) schemaValue;
             if (composedSchema.getAllOf() != null) {
-                return new AllOfRecordTypeGenerator(schemaValue, typeName);
+                return new AllOfRecordTypeGenerator(schemaValue, typeName, generatorMetaData);
             } else {
-                return new UnionTypeGenerator(schemaValue, typeName);
+                return new UnionTypeGenerator(schemaValue, typeName, generatorMetaData);
             }
         } else if ((schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT)) ||
                 schemaValue instanceof ObjectSchema || schemaValue.getProperties() != null) {
-            return new RecordTypeGenerator(schemaValue, typeName);
+            return new RecordTypeGenerator(schemaValue, typeName, generatorMetaData);
         } else if (schemaValue instanceof ArraySchema) {
-            return new ArrayTypeGenerator(schemaValue, typeName, parentName);
+            return new ArrayTypeGenerator(schemaValue, typeName, parentName, generatorMetaData);
         } else if (schemaValue.getType() != null && primitiveTypeList.contains(schemaValue.getType())) {
-            return new PrimitiveTypeGenerator(schemaValue, typeName);
+            return new PrimitiveTypeGenerator(schemaValue, typeName, generatorMetaData);
         } else { // when schemaValue.type == null
-            return new AnyDataTypeGenerator(schemaValue, typeName);
+            return new AnyDataTypeGenerator(schemaValue, typeName, generatorMetaData);
         }
     }
 
@@ -129,11 +131,12 @@ public class TypeGeneratorUtils {
      *
      * @param schema           Schema of the property
      * @param originalTypeDesc Type name
+     * @param nullable         Whether the nullable option is enabled for the current code generation
      * @return Final type of the field
      */
-    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc) {
+    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc,
+                                                     boolean nullable) {
         TypeDescriptorNode nillableType = originalTypeDesc;
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
         if (schema.getNullable() != null) {
             if (schema.getNullable()) {
                 nillableType = createOptionalTypeDescriptorNode(originalTypeDesc, createToken(QUESTION_MARK_TOKEN));
@@ -150,10 +153,11 @@ public class TypeGeneratorUtils {
                                              Schema<?> fieldSchema,
                                              NodeList<Node> schemaDocNodes,
                                              IdentifierToken fieldName,
-                                             TypeDescriptorNode fieldTypeName) {
+                                             TypeDescriptorNode fieldTypeName,
+                                             boolean nullable) {
 
         updateRecordFieldList(required, recordFieldList, field, fieldSchema, schemaDocNodes, fieldName,
-                fieldTypeName, System.err);
+                fieldTypeName, nullable, System.err);
     }
 
     public static void updateRecordFieldList(List<String> required,
@@ -163,6 +167,7 @@ public class TypeGeneratorUtils {
                                              NodeList<Node> schemaDocNodes,
                                              IdentifierToken fieldName,
                                              TypeDescriptorNode fieldTypeName,
+                                             boolean nullable,
                                              PrintStream outStream) {
 
         MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(schemaDocNodes);
@@ -173,7 +178,6 @@ public class TypeGeneratorUtils {
                 constraintNode != null && fieldSchema.getNullable() != null && fieldSchema.getNullable() ||
                         (fieldSchema instanceof ComposedSchema && (((ComposedSchema) fieldSchema).getOneOf() != null ||
                                 ((ComposedSchema) fieldSchema).getAnyOf() != null));
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
         if (nullable) {
             constraintNode = null;
         } else if (isConstraintSupport) {
@@ -429,25 +433,21 @@ public class TypeGeneratorUtils {
     /**
      * Creates API documentation for record fields.
      *
-     * @param field Schema of the field to generate
+     * @param field    Schema of the field to generate
+     * @param refIndex index used to resolve the referenced schemas
      * @return Documentation node list
      */
-    public static List<Node> getFieldApiDocs(Schema<?> field) {
+    public static List<Node> getFieldApiDocs(Schema<?> field, RefIndex refIndex) {
 
         List<Node> schemaDoc = new ArrayList<>();
         if (field.getDescription() != null) {
             schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                     field.getDescription(), false));
         } else if (field.get$ref() != null) {
-            String[] split = field.get$ref().trim().split("/");
-            String componentName = GeneratorUtils.getValidName(split[split.length - 1], true);
-            OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
-            if (openAPI.getComponents().getSchemas().get(componentName) != null) {
-                Schema<?> schema = openAPI.getComponents().getSchemas().get(componentName);
-                if (schema.getDescription() != null) {
-                    schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
-                            schema.getDescription(), false));
-                }
+            Schema<?> schema = getReferredSchema(field.get$ref().trim(), refIndex);
+            if (schema != null && schema.getDescription() != null) {
+                schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
+                        schema.getDescription(), false));
             }
         }
         return schemaDoc;
@@ -459,18 +459,17 @@ public class TypeGeneratorUtils {
      * @param documentation   Documentation node list
      * @param schemaValue     OpenAPI schema
      * @param typeAnnotations Annotation list of the record
+     * @param refIndex        index used to resolve the referenced schemas
      */
     public static void getRecordDocs(List<Node> documentation, Schema schemaValue,
-                                     List<AnnotationNode> typeAnnotations) throws BallerinaOpenApiException {
+                                     List<AnnotationNode> typeAnnotations, RefIndex refIndex)
+            throws BallerinaOpenApiException {
 
         if (schemaValue.getDescription() != null) {
             documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                     schemaValue.getDescription(), false));
         } else if (schemaValue.get$ref() != null) {
-            String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(
-                    schemaValue.get$ref()), true);
-            Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().
-                    getComponents().getSchemas().get(typeName);
+            Schema<?> refSchema = refIndex.getSchema(schemaValue.get$ref());
             if (refSchema.getDescription() != null) {
                 documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                         refSchema.getDescription(), false));
@@ -481,4 +480,19 @@ public class TypeGeneratorUtils {
                     documentation, typeAnnotations);
         }
     }
+
+    /**
+     * Resolves the schema of a record field reference. Field documentation is optional, hence the references which
+     * are not local references are ignored instead of failing the generation.
+     */
+    private static Schema<?> getReferredSchema(String ref, RefIndex refIndex) {
+        if (!ref.startsWith("#") || !ref.contains("/")) {
+            return null;
+        }
+        try {
+            return refIndex.getSchema(ref);
+        } catch (BallerinaOpenApiException e) {
+            return null;
+        }
+    }
 }
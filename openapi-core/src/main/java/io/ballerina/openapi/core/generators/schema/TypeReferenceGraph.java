@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeTestExpressionNode;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a reference graph between the type definitions and enums of a generated types module and resolves the
+ * declarations that are never used by the rest of the generated sources.
+ * <p>
+ * A declaration is considered unused when nothing other than its own definition refers to it. Removing such a
+ * declaration may leave further declarations unused, hence the removal is propagated through the graph in the same
+ * way the earlier compile-and-retry loop used to behave: declarations that are part of a reference cycle (including
+ * self references) are retained.
+ *
+ * @since 1.3.0
+ */
+public class TypeReferenceGraph {
+
+    private final Map<String, Set<String>> references = new LinkedHashMap<>();
+    private final Set<String> rootReferences = new HashSet<>();
+
+    /**
+     * Creates the reference graph for the given types module content.
+     *
+     * @param schemaContent formatted content of the types module
+     */
+    public TypeReferenceGraph(String schemaContent) {
+        ModulePartNode modulePartNode = parse(schemaContent).rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            String name = getDeclarationName(member);
+            if (name == null) {
+                // Other module level declarations are never removed, so they act as roots.
+                rootReferences.addAll(collectReferences(member));
+            } else {
+                references.computeIfAbsent(name, key -> new LinkedHashSet<>()).addAll(collectReferences(member));
+            }
+        }
+    }
+
+    /**
+     * Adds the references made by the given source content (ex: client or service module) as roots of the graph.
+     *
+     * @param sourceContent Ballerina source content which refers to the generated types
+     */
+    public void addRoots(String sourceContent) {
+        if (sourceContent == null) {
+            return;
+        }
+        rootReferences.addAll(collectReferences(parse(sourceContent).rootNode()));
+    }
+
+    /**
+     * Resolves the names of the type definitions and enums which are not referred by any root or retained
+     * declaration. This is a single pass over the graph, hence it runs in O(V + E).
+     *
+     * @return set of unused declaration names
+     */
+    public Set<String> getUnusedTypeDefinitionNames() {
+        Map<String, Integer> inDegree = new HashMap<>();
+        for (String name : references.keySet()) {
+            inDegree.put(name, 0);
+        }
+        for (Set<String> targets : references.values()) {
+            for (String target : targets) {
+                inDegree.computeIfPresent(target, (key, count) -> count + 1);
+            }
+        }
+        Deque<String> unreferenced = new ArrayDeque<>();
+        for (Map.Entry<String, Integer> entry : inDegree.entrySet()) {
+            if (entry.getValue() == 0 && !rootReferences.contains(entry.getKey())) {
+                unreferenced.add(entry.getKey());
+            }
+        }
+        Set<String> unusedNames = new LinkedHashSet<>();
+        while (!unreferenced.isEmpty()) {
+            String name = unreferenced.poll();
+            unusedNames.add(name);
+            for (String target : references.get(name)) {
+                Integer count = inDegree.computeIfPresent(target, (key, value) -> value - 1);
+                if (count != null && count == 0 && !rootReferences.contains(target)) {
+                    unreferenced.add(target);
+                }
+            }
+        }
+        return unusedNames;
+    }
+
+    /**
+     * Returns the normalized name of a type definition or enum declaration, or null for other members.
+     */
+    public static String getDeclarationName(ModuleMemberDeclarationNode member) {
+        if (member.kind() == SyntaxKind.TYPE_DEFINITION) {
+            return normalize(((TypeDefinitionNode) member).typeName().text());
+        } else if (member.kind() == SyntaxKind.ENUM_DECLARATION) {
+            return normalize(((EnumDeclarationNode) member).identifier().text());
+        }
+        return null;
+    }
+
+    private static SyntaxTree parse(String content) {
+        return SyntaxTree.from(TextDocuments.from(content));
+    }
+
+    private static Set<String> collectReferences(Node node) {
+        ReferenceCollector collector = new ReferenceCollector();
+        node.accept(collector);
+        return collector.names;
+    }
+
+    private static String normalize(String identifier) {
+        String name = identifier.trim();
+        return name.startsWith("'") ? name.substring(1) : name;
+    }
+
+    /**
+     * Collects the unqualified name references in the type descriptor positions of a syntax node. Variable, parameter
+     * and field names in expressions are not collected, as they never refer to a type.
+     */
+    private static class ReferenceCollector extends NodeVisitor {
+
+        private final Set<String> names = new HashSet<>();
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            if (isTypeDescriptor(simpleNameReferenceNode)) {
+                names.add(normalize(simpleNameReferenceNode.name().text()));
+            }
+        }
+
+        private static boolean isTypeDescriptor(SimpleNameReferenceNode node) {
+            Node parent = node.parent();
+            if (parent == null) {
+                return false;
+            }
+            switch (parent.kind()) {
+                case TYPE_DEFINITION:
+                case TYPE_REFERENCE:
+                case RECORD_FIELD:
+                case REQUIRED_PARAM:
+                case REST_PARAM:
+                case INCLUDED_RECORD_PARAM:
+                case RETURN_TYPE_DESCRIPTOR:
+                case TYPED_BINDING_PATTERN:
+                case TYPE_PARAMETER:
+                case TYPE_CAST_PARAM:
+                case UNION_TYPE_DESC:
+                case INTERSECTION_TYPE_DESC:
+                case OPTIONAL_TYPE_DESC:
+                case ARRAY_TYPE_DESC:
+                case PARENTHESISED_TYPE_DESC:
+                case TUPLE_TYPE_DESC:
+                case REST_TYPE:
+                case RECORD_REST_TYPE:
+                case DISTINCT_TYPE_DESC:
+                case TABLE_TYPE_DESC:
+                case KEY_TYPE_CONSTRAINT:
+                case STREAM_TYPE_PARAMS:
+                    return true;
+                // The other children of these nodes are expressions
+                case RECORD_FIELD_WITH_DEFAULT_VALUE:
+                    return ((RecordFieldWithDefaultValueNode) parent).typeName().equals(node);
+                case DEFAULTABLE_PARAM:
+                    return ((DefaultableParameterNode) parent).typeName().equals(node);
+                case OBJECT_FIELD:
+                    return ((ObjectFieldNode) parent).typeName().equals(node);
+                case TYPE_TEST_EXPRESSION:
+                    return ((TypeTestExpressionNode) parent).typeDescriptor().equals(node);
+                case CONST_DECLARATION:
+                    return ((ConstantDeclarationNode) parent).typeDescriptor().map(node::equals).orElse(false);
+                default:
+                    return false;
+            }
+        }
+    }
+}
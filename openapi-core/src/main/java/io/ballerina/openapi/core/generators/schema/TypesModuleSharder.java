@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+
+/**
+ * Partitions the declarations of a generated types module into multiple syntax trees (shards).
+ * <p>
+ * A declaration is assigned to a shard by a consistent hash of its name, hence a declaration stays in the same shard
+ * across generations, and only a few declarations move to another shard when the number of shards changes, which
+ * keeps the diffs of the regenerated sources small. The number of shards is derived from the given number of
+ * declarations per shard, which is the average number of declarations in a shard. A shard may hold more declarations
+ * when the names hash unevenly. Each shard only imports the modules its declarations refer, since unused imports fail
+ * the compilation of the generated module.
+ *
+ * @since 1.3.0
+ */
+public class TypesModuleSharder {
+
+    private static final Pattern MODULE_PREFIX_PATTERN = Pattern.compile("([_a-zA-Z][_a-zA-Z0-9]*):");
+
+    /**
+     * Shard index of a types module which is small enough to be kept in a single syntax tree.
+     */
+    public static final int UNPARTITIONED = -1;
+
+    private final int maxDeclarationsPerShard;
+
+    /**
+     * Creates a sharder which splits the types modules with more declarations than the given count.
+     *
+     * @param maxDeclarationsPerShard average number of declarations in a shard
+     */
+    public TypesModuleSharder(int maxDeclarationsPerShard) {
+        if (maxDeclarationsPerShard < 1) {
+            throw new IllegalArgumentException("Number of declarations in a shard should be a positive number: " +
+                    maxDeclarationsPerShard);
+        }
+        this.maxDeclarationsPerShard = maxDeclarationsPerShard;
+    }
+
+    /**
+     * Partitions the given types module. The declarations keep their relative order within a shard and shards
+     * without declarations are omitted. The shards keep their index when other shards are empty, hence the files of
+     * the shards can be named by the index.
+     *
+     * @param syntaxTree syntax tree of the types module
+     * @return syntax trees of the shards by their index, or the given syntax tree by {@link #UNPARTITIONED} when it
+     * is small enough
+     */
+    public SortedMap<Integer, SyntaxTree> partition(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        int memberCount = modulePartNode.members().size();
+        SortedMap<Integer, SyntaxTree> shardSyntaxTrees = new TreeMap<>();
+        if (memberCount <= maxDeclarationsPerShard) {
+            shardSyntaxTrees.put(UNPARTITIONED, syntaxTree);
+            return shardSyntaxTrees;
+        }
+        int shardCount = (memberCount + maxDeclarationsPerShard - 1) / maxDeclarationsPerShard;
+        List<List<ModuleMemberDeclarationNode>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            shards.get(getShardIndex(member, shardCount)).add(member);
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            List<ModuleMemberDeclarationNode> shard = shards.get(i);
+            if (shard.isEmpty()) {
+                continue;
+            }
+            Set<String> modulePrefixes = getModulePrefixes(shard);
+            List<ImportDeclarationNode> imports = new ArrayList<>();
+            for (ImportDeclarationNode importDeclarationNode : modulePartNode.imports()) {
+                if (modulePrefixes.contains(getModulePrefix(importDeclarationNode))) {
+                    imports.add(importDeclarationNode);
+                }
+            }
+            Token eofToken = shardSyntaxTrees.isEmpty() ? modulePartNode.eofToken() : createToken(EOF_TOKEN);
+            shardSyntaxTrees.put(i, syntaxTree.modifyWith(createModulePartNode(createNodeList(imports),
+                    createNodeList(shard), eofToken)));
+        }
+        return shardSyntaxTrees;
+    }
+
+    private static int getShardIndex(ModuleMemberDeclarationNode member, int shardCount) {
+        String name = TypeReferenceGraph.getDeclarationName(member);
+        return name == null ? 0 : getConsistentHash(name.hashCode() & 0xffffffffL, shardCount);
+    }
+
+    /**
+     * Jump consistent hash of Lamping and Veach. When the number of buckets grows by one, only the share of the keys
+     * which the new bucket takes moves, and all of them move to the new bucket.
+     */
+    public static int getConsistentHash(long key, int bucketCount) {
+        long bucket = -1;
+        long nextBucket = 0;
+        while (nextBucket < bucketCount) {
+            bucket = nextBucket;
+            key = key * 2862933555777941757L + 1;
+            nextBucket = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    private static String getModulePrefix(ImportDeclarationNode importDeclarationNode) {
+        if (importDeclarationNode.prefix().isPresent()) {
+            return importDeclarationNode.prefix().get().prefix().text();
+        }
+        SeparatedNodeList<IdentifierToken> moduleName = importDeclarationNode.moduleName();
+        return moduleName.get(moduleName.size() - 1).text();
+    }
+
+    private static Set<String> getModulePrefixes(List<ModuleMemberDeclarationNode> members) {
+        ModulePrefixCollector collector = new ModulePrefixCollector();
+        for (ModuleMemberDeclarationNode member : members) {
+            member.accept(collector);
+        }
+        return collector.modulePrefixes;
+    }
+
+    /**
+     * Collects the module prefixes of the qualified references in a syntax node. The generators create some of the
+     * qualified references as a single identifier (ex: {@code http:Response}), hence the prefixes of the simple name
+     * references are collected as well. Documentation is skipped since it may contain URLs.
+     */
+    private static class ModulePrefixCollector extends NodeVisitor {
+
+        private final Set<String> modulePrefixes = new HashSet<>();
+
+        @Override
+        public void visit(QualifiedNameReferenceNode qualifiedNameReferenceNode) {
+            modulePrefixes.add(qualifiedNameReferenceNode.modulePrefix().text());
+        }
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            addModulePrefix(simpleNameReferenceNode.name().text());
+        }
+
+        @Override
+        public void visit(BuiltinSimpleNameReferenceNode builtinSimpleNameReferenceNode) {
+            addModulePrefix(builtinSimpleNameReferenceNode.name().text());
+        }
+
+        @Override
+        public void visit(MarkdownDocumentationNode markdownDocumentationNode) {
+        }
+
+        private void addModulePrefix(String name) {
+            if (name.indexOf(':') < 0) {
+                return;
+            }
+            // The identifier may hold a union of types, ex: `http:Response|error`
+            Matcher matcher = MODULE_PREFIX_PATTERN.matcher(name);
+            while (matcher.find()) {
+                modulePrefixes.add(matcher.group(1));
+            }
+        }
+    }
+}
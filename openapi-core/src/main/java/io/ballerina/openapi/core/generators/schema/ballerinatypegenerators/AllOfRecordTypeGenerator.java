@@ -25,8 +25,8 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
-import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -66,9 +66,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
  * @since 1.3.0
  */
 public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
-    public AllOfRecordTypeGenerator(Schema schema, String typeName) {
+    public AllOfRecordTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
 
-        super(schema, typeName);
+        super(schema, typeName, generatorMetaData);
     }
 
     /**
@@ -82,7 +82,7 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         List<Schema> allOfSchemas = composedSchema.getAllOf();
         if (allOfSchemas.size() == 1 && allOfSchemas.get(0).get$ref() != null) {
             ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(allOfSchemas.get(0),
-                    typeName);
+                    typeName, generatorMetaData);
             return referencedTypeGenerator.generateTypeDescriptorNode();
         } else {
             List<Node> recordFieldList = generateAllOfRecordFields(allOfSchemas);
@@ -98,8 +98,8 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         List<Node> recordFieldList = new ArrayList<>();
         for (Schema allOfSchema : allOfSchemas) {
             if (allOfSchema.get$ref() != null) {
-                Token typeRef = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
-                        GeneratorUtils.extractReferenceType(allOfSchema.get$ref()), true));
+                Token typeRef = AbstractNodeFactory.createIdentifierToken(
+                        generatorMetaData.getRefIndex().getTypeName(allOfSchema.get$ref()));
                 TypeReferenceNode recordField = NodeFactory.createTypeReferenceNode(createToken(ASTERISK_TOKEN),
                         typeRef, createToken(SEMICOLON_TOKEN));
                 recordFieldList.add(recordField);
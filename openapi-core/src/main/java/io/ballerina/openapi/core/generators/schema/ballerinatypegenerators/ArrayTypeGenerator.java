@@ -24,7 +24,6 @@ import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.OptionalTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
@@ -43,10 +42,10 @@ import java.util.List;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createParenthesisedTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
-import static io.ballerina.openapi.core.GeneratorUtils.hasConstraints;
 import static io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils.getNullableType;
 
 /**
@@ -70,8 +69,9 @@ public class ArrayTypeGenerator extends TypeGenerator {
     private String parentType = null;
     private TypeDefinitionNode arrayItemWithConstraint = null;
 
-    public ArrayTypeGenerator(Schema schema, String typeName, String parentType) {
-        super(schema, typeName);
+    public ArrayTypeGenerator(Schema schema, String typeName, String parentType,
+                              GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
         this.parentType = parentType;
     }
 
@@ -89,7 +89,8 @@ public class ArrayTypeGenerator extends TypeGenerator {
         assert schema instanceof ArraySchema;
         ArraySchema arraySchema = (ArraySchema) schema;
         Schema<?> items = arraySchema.getItems();
-        boolean isConstraintsAvailable = !GeneratorMetaData.getInstance().isNullable() && hasConstraints(items);
+        boolean isConstraintsAvailable = !generatorMetaData.isNullable() &&
+                generatorMetaData.getSchemaAnalysis().hasConstraints(items);
         TypeGenerator typeGenerator;
         if (isConstraintsAvailable) {
             String normalizedTypeName = typeName.replaceAll(GeneratorConstants.SPECIAL_CHARACTER_REGEX, "").trim();
@@ -98,7 +99,7 @@ public class ArrayTypeGenerator extends TypeGenerator {
                             parentType + "-" + normalizedTypeName + "-Items-" + items.getType() :
                             normalizedTypeName + "-Items-" + items.getType(),
                     true);
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, generatorMetaData);
             List<AnnotationNode> typeAnnotations = new ArrayList<>();
             AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(items);
             if (constraintNode != null) {
@@ -109,12 +110,13 @@ public class ArrayTypeGenerator extends TypeGenerator {
                     new ArrayList<>(),
                     typeAnnotations);
         } else {
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, generatorMetaData);
         }
 
         TypeDescriptorNode typeDescriptorNode;
         if (typeGenerator instanceof PrimitiveTypeGenerator && isConstraintsAvailable) {
-            typeDescriptorNode = NodeParser.parseTypeDescriptor(typeName);
+            // The constrained item type is referred by the name of its type definition
+            typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
         } else {
             typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
         }
@@ -148,6 +150,6 @@ public class ArrayTypeGenerator extends TypeGenerator {
         ArrayTypeDescriptorNode arrayTypeDescriptorNode = createArrayTypeDescriptorNode(typeDescriptorNode
                 , arrayDimensions);
 
-        return getNullableType(arraySchema, arrayTypeDescriptorNode);
+        return getNullableType(arraySchema, arrayTypeDescriptorNode, generatorMetaData.isNullable());
     }
 }
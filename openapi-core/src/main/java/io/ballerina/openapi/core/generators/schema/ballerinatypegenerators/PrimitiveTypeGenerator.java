@@ -23,6 +23,7 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -47,8 +48,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class PrimitiveTypeGenerator extends TypeGenerator {
 
-    public PrimitiveTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public PrimitiveTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
     }
 
     /**
@@ -66,6 +67,6 @@ public class PrimitiveTypeGenerator extends TypeGenerator {
         }
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(
                 createIdentifierToken(typeDescriptorName));
-        return TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode);
+        return TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode, generatorMetaData.isNullable());
     }
 }
@@ -28,6 +28,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
@@ -80,8 +81,8 @@ public class RecordTypeGenerator extends TypeGenerator {
 
     private final List<TypeDefinitionNode> typeDefinitionNodeList = new ArrayList<>();
 
-    public RecordTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public RecordTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
     }
 
     public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
@@ -120,11 +121,12 @@ public class RecordTypeGenerator extends TypeGenerator {
             String fieldNameStr = GeneratorUtils.escapeIdentifier(field.getKey().trim());
             // API doc generations
             Schema<?> fieldSchema = field.getValue();
-            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema);
+            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema, generatorMetaData.getRefIndex());
             NodeList<Node> schemaDocNodes = createNodeList(schemaDoc);
 
             IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(fieldNameStr);
-            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName);
+            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName,
+                    generatorMetaData);
             TypeDescriptorNode fieldTypeName = typeGenerator.generateTypeDescriptorNode();
             if (typeGenerator instanceof ArrayTypeGenerator &&
                     ((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint() != null) {
@@ -136,7 +138,7 @@ public class RecordTypeGenerator extends TypeGenerator {
                 typeDefinitionNodeList.addAll(newConstraintNode);
             }
             TypeGeneratorUtils.updateRecordFieldList(required, recordFieldList, field, fieldSchema, schemaDocNodes,
-                    fieldName, fieldTypeName);
+                    fieldName, fieldTypeName, generatorMetaData.isNullable());
         }
         return recordFieldList;
     }
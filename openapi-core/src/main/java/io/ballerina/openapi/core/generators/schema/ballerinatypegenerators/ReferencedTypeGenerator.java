@@ -19,7 +19,7 @@
 package io.ballerina.openapi.core.generators.schema.ballerinatypegenerators;
 
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.RefIndex;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
 import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
@@ -49,8 +49,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ReferencedTypeGenerator extends TypeGenerator {
 
-    public ReferencedTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public ReferencedTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
     }
 
     /**
@@ -59,13 +59,14 @@ public class ReferencedTypeGenerator extends TypeGenerator {
     @Override
     public TypeDescriptorNode generateTypeDescriptorNode() throws BallerinaOpenApiException {
 
-        String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(schema.get$ref()), true);
-        Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(typeName);
+        RefIndex.Reference reference = generatorMetaData.getRefIndex().get(schema.get$ref());
+        String typeName = reference.getTypeName();
+        Schema<?> refSchema = reference.getSchema();
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
         if (refSchema == null) {
             throw new BallerinaOpenApiException(String.format("Undefined $ref: '%s' in openAPI contract.",
                     schema.get$ref()));
         }
-        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode);
+        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode, generatorMetaData.isNullable());
     }
 }
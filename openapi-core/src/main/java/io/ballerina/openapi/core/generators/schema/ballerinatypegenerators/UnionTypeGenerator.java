@@ -56,8 +56,8 @@ import static io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils.get
  */
 public class UnionTypeGenerator extends TypeGenerator {
 
-    public UnionTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public UnionTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
     }
 
     private final List<TypeDefinitionNode> typeDefinitionNodeList = new ArrayList<>();
@@ -78,7 +78,7 @@ public class UnionTypeGenerator extends TypeGenerator {
             schemas = composedSchema.getAnyOf();
         }
         TypeDescriptorNode unionTypeDesc = getUnionType(schemas, typeName);
-        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc);
+        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc, generatorMetaData.isNullable());
     }
 
     /**
@@ -94,10 +94,10 @@ public class UnionTypeGenerator extends TypeGenerator {
 
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
         for (Schema schema : schemas) {
-            TypeGenerator typeGenerator = getTypeGenerator(schema, typeName, null);
+            TypeGenerator typeGenerator = getTypeGenerator(schema, typeName, null, generatorMetaData);
             TypeDescriptorNode typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
             if (typeDescriptorNode instanceof OptionalTypeDescriptorNode &&
-                    GeneratorMetaData.getInstance().isNullable()) {
+                    generatorMetaData.isNullable()) {
                 Node internalTypeDesc = ((OptionalTypeDescriptorNode) typeDescriptorNode).typeDescriptor();
                 typeDescriptorNode = (TypeDescriptorNode) internalTypeDesc;
             }
@@ -18,30 +18,36 @@
 
 package io.ballerina.openapi.core.generators.schema.model;
 
+import io.ballerina.openapi.core.RefIndex;
+import io.ballerina.openapi.core.generators.schema.InlineTypeIndex;
+import io.ballerina.openapi.core.generators.schema.SchemaAnalysis;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
  * Stores metadata related to Ballerina types generation.
+ * <p>
+ * An instance is created per code generation invocation and passed explicitly to the type generators. Since the
+ * instance is not shared between invocations and its indexes are thread safe, independent generations can run
+ * concurrently within the same JVM.
  *
  * @since 1.3.0
  */
-public class GeneratorMetaData {
+public final class GeneratorMetaData {
 
     private final OpenAPI openAPI;
     private final boolean nullable;
-    private static GeneratorMetaData generatorMetaData = null;
+    private final RefIndex refIndex;
+    private final InlineTypeIndex inlineTypeIndex = new InlineTypeIndex();
+    private volatile SchemaAnalysis schemaAnalysis;
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
-        this.openAPI = openAPI;
-        this.nullable = nullable;
-    }
-
-    public static void createInstance(OpenAPI openAPI, boolean nullable) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+    public GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
+        this(openAPI, nullable, new RefIndex(openAPI));
     }
 
-    public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+    public GeneratorMetaData(OpenAPI openAPI, boolean nullable, RefIndex refIndex) {
+        this.openAPI = openAPI;
+        this.nullable = nullable;
+        this.refIndex = refIndex;
     }
 
     public OpenAPI getOpenAPI() {
@@ -51,4 +57,29 @@ public class GeneratorMetaData {
     public boolean isNullable() {
         return nullable;
     }
+
+    public RefIndex getRefIndex() {
+        return refIndex;
+    }
+
+    public InlineTypeIndex getInlineTypeIndex() {
+        return inlineTypeIndex;
+    }
+
+    /**
+     * Returns the analysis of the component schemas, which is computed on the first call.
+     */
+    public SchemaAnalysis getSchemaAnalysis() {
+        SchemaAnalysis analysis = schemaAnalysis;
+        if (analysis == null) {
+            synchronized (this) {
+                analysis = schemaAnalysis;
+                if (analysis == null) {
+                    analysis = new SchemaAnalysis(openAPI);
+                    schemaAnalysis = analysis;
+                }
+            }
+        }
+        return analysis;
+    }
 }
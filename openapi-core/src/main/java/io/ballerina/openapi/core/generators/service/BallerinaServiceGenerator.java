@@ -43,6 +43,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
@@ -59,6 +60,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -85,6 +88,7 @@ public class BallerinaServiceGenerator {
     private final OpenAPI openAPI;
     private final Filter filter;
     private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
+    private ForkJoinPool forkJoinPool;
 
     public BallerinaServiceGenerator(OpenAPI openAPI, Filter filter) {
         this.openAPI = openAPI;
@@ -92,12 +96,19 @@ public class BallerinaServiceGenerator {
         this.isNullableRequired = false;
     }
 
+    /**
+     * Enables parallel generation of the resource functions using the given pool. The resource functions are
+     * collected in the order of the operations, hence the generated service is identical to the one generated
+     * sequentially.
+     *
+     * @param forkJoinPool pool to generate the resource functions on, or null to generate sequentially
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
     public List<TypeDefinitionNode> getTypeInclusionRecords() {
-        List<TypeDefinitionNode> typeRecords = new ArrayList<>();
-        this.typeInclusionRecords.forEach((key, value) -> {
-            typeRecords.add(value);
-        });
-        return typeRecords;
+        return new TypeDefinitionRegistry(typeInclusionRecords.values());
     }
 
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
@@ -144,17 +155,38 @@ public class BallerinaServiceGenerator {
 
     private List<Node> createResourceFunctions(OpenAPI openApi, Filter filter) throws BallerinaOpenApiException {
 
-        List<Node> functions = new ArrayList<>();
+        List<ResourceOperation> resourceOperations = new ArrayList<>();
         if (!openApi.getPaths().isEmpty()) {
             Paths paths = openApi.getPaths();
             Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
             for (Map.Entry<String, PathItem> path : pathsItems) {
                 if (!path.getValue().readOperationsMap().isEmpty()) {
                     Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                    functions.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
+                    resourceOperations.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
                 }
             }
         }
+        List<ResourceFunction> resourceFunctions;
+        if (forkJoinPool != null && resourceOperations.size() > 1) {
+            List<Callable<ResourceFunction>> tasks = new ArrayList<>();
+            for (ResourceOperation resourceOperation : resourceOperations) {
+                tasks.add(() -> getResourceFunction(resourceOperation.operation, resourceOperation.path));
+            }
+            resourceFunctions = GeneratorUtils.invokeAll(forkJoinPool, tasks);
+        } else {
+            resourceFunctions = new ArrayList<>();
+            for (ResourceOperation resourceOperation : resourceOperations) {
+                resourceFunctions.add(getResourceFunction(resourceOperation.operation, resourceOperation.path));
+            }
+        }
+        List<Node> functions = new ArrayList<>();
+        for (ResourceFunction resourceFunction : resourceFunctions) {
+            if (!isNullableRequired) {
+                isNullableRequired = resourceFunction.nullableRequired;
+            }
+            typeInclusionRecords.putAll(resourceFunction.typeInclusionRecords);
+            functions.add(resourceFunction.functionDefinitionNode);
+        }
         return functions;
     }
 
@@ -171,11 +203,10 @@ public class BallerinaServiceGenerator {
         }
     }
 
-    private List<Node> applyFiltersForOperations(Filter filter, String path,
-                                                 Map<PathItem.HttpMethod, Operation> operationMap)
-            throws BallerinaOpenApiException {
+    private List<ResourceOperation> applyFiltersForOperations(Filter filter, String path,
+                                                              Map<PathItem.HttpMethod, Operation> operationMap) {
 
-        List<Node> functions = new ArrayList<>();
+        List<ResourceOperation> functions = new ArrayList<>();
         for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
             //Add filter availability
             //1.Tag filter
@@ -190,21 +221,11 @@ public class BallerinaServiceGenerator {
                     if ((operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
                             ((operation.getValue().getOperationId() != null) &&
                                     filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                        // getRelative resource path
-                        List<Node> functionRelativeResourcePath = GeneratorUtils.getRelativeResourcePath(path,
-                                operation.getValue());
-                        // function call
-                        FunctionDefinitionNode functionDefinitionNode = getResourceFunction(operation,
-                                functionRelativeResourcePath, path);
-                        functions.add(functionDefinitionNode);
+                        functions.add(new ResourceOperation(operation, path));
                     }
                 }
             } else {
-                // getRelative resource path
-                List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue());
-                // function call
-                FunctionDefinitionNode resourceFunction = getResourceFunction(operation, relativeResourcePath, path);
-                functions.add(resourceFunction);
+                functions.add(new ResourceOperation(operation, path));
             }
         }
         return functions;
@@ -214,14 +235,16 @@ public class BallerinaServiceGenerator {
      * Generate resource function for given operation.
      *
      * @param operation -  OAS operation
-     * @param pathNodes -  Relative path nodes
-     * @return - {@link FunctionDefinitionNode} relevant resource
+     * @param path      -  OAS path of the operation
+     * @return - {@link ResourceFunction} relevant resource
      * @throws BallerinaOpenApiException when the process failure occur
      */
-    private FunctionDefinitionNode getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                       List<Node> pathNodes, String path)
+    private ResourceFunction getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation, String path)
             throws BallerinaOpenApiException {
 
+        // getRelative resource path
+        List<Node> pathNodes = GeneratorUtils.getRelativeResourcePath(path, operation.getValue());
+
         NodeList<Token> qualifiersList = createNodeList(createIdentifierToken(GeneratorConstants.RESOURCE,
                 GeneratorUtils.SINGLE_WS_MINUTIAE, GeneratorUtils.SINGLE_WS_MINUTIAE));
         Token functionKeyWord = createIdentifierToken(GeneratorConstants.FUNCTION, GeneratorUtils.SINGLE_WS_MINUTIAE,
@@ -253,14 +276,10 @@ public class BallerinaServiceGenerator {
             params.remove(params.size() - 1);
         }
 
-        if (!isNullableRequired) {
-            isNullableRequired = parametersGenerator.isNullableRequired();
-        }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(params);
         ReturnTypeGenerator returnTypeGenerator = new ReturnTypeGenerator();
         ReturnTypeDescriptorNode returnNode = returnTypeGenerator.getReturnTypeDescriptorNode(operation,
                 createEmptyNodeList(), path);
-        typeInclusionRecords.putAll(returnTypeGenerator.getTypeInclusionRecords());
 
         FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(
                 createToken(SyntaxKind.OPEN_PAREN_TOKEN),
@@ -277,9 +296,11 @@ public class BallerinaServiceGenerator {
                         createNodeList(bodyStatements),
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null);
 
-        return createFunctionDefinitionNode(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, null,
-                qualifiersList, functionKeyWord, functionName, relativeResourcePath, functionSignatureNode,
-                functionBodyBlockNode);
+        FunctionDefinitionNode functionDefinitionNode = createFunctionDefinitionNode(
+                SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, null, qualifiersList, functionKeyWord, functionName,
+                relativeResourcePath, functionSignatureNode, functionBodyBlockNode);
+        return new ResourceFunction(functionDefinitionNode, parametersGenerator.isNullableRequired(),
+                returnTypeGenerator.getTypeInclusionRecords());
     }
 
     /**
@@ -294,4 +315,35 @@ public class BallerinaServiceGenerator {
         }
         return requestBody;
     }
+
+    /**
+     * OpenAPI operation selected for the resource function generation.
+     */
+    private static class ResourceOperation {
+
+        private final Map.Entry<PathItem.HttpMethod, Operation> operation;
+        private final String path;
+
+        ResourceOperation(Map.Entry<PathItem.HttpMethod, Operation> operation, String path) {
+            this.operation = operation;
+            this.path = path;
+        }
+    }
+
+    /**
+     * Generated resource function along with the details which are required by the rest of the service.
+     */
+    private static class ResourceFunction {
+
+        private final FunctionDefinitionNode functionDefinitionNode;
+        private final boolean nullableRequired;
+        private final Map<String, TypeDefinitionNode> typeInclusionRecords;
+
+        ResourceFunction(FunctionDefinitionNode functionDefinitionNode, boolean nullableRequired,
+                         Map<String, TypeDefinitionNode> typeInclusionRecords) {
+            this.functionDefinitionNode = functionDefinitionNode;
+            this.nullableRequired = nullableRequired;
+            this.typeInclusionRecords = typeInclusionRecords;
+        }
+    }
 }
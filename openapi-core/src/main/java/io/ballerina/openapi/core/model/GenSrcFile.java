@@ -18,13 +18,19 @@
 
 package io.ballerina.openapi.core.model;
 
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+
 /**
  * Model class to hold generated source file information.
+ * <p>
+ * The content of a file is either the generated source or the syntax tree of it. A syntax tree is formatted while the
+ * file is written, hence the formatted sources of all the files are not held in memory at once.
  *
  * @since 1.3.0
  */
 public class GenSrcFile {
     private String content;
+    private SyntaxTree syntaxTree;
     private String fileName;
     private String pkgName;
     private GenFileType type;
@@ -56,6 +62,18 @@ public class GenSrcFile {
         this.content = content;
     }
 
+    /**
+     * Creates a file with the given syntax tree, which is formatted when the file is written.
+     */
+    public GenSrcFile(GenFileType type, String pkgName, String fileName, SyntaxTree syntaxTree) {
+        this.type = type;
+        this.fileName = fileName;
+        this.syntaxTree = syntaxTree;
+    }
+
+    /**
+     * Returns the generated source, or null when the file holds a syntax tree instead.
+     */
     public String getContent() {
         return content;
     }
@@ -64,6 +82,14 @@ public class GenSrcFile {
         this.content = content;
     }
 
+    public SyntaxTree getSyntaxTree() {
+        return syntaxTree;
+    }
+
+    public void setSyntaxTree(SyntaxTree syntaxTree) {
+        this.syntaxTree = syntaxTree;
+    }
+
     public String getFileName() {
         return fileName;
     }
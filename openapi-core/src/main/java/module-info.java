@@ -31,6 +31,8 @@ module io.ballerina.openapi.core {
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
     requires java.ws.rs;
+    requires java.management;
+    requires jdk.management;
     requires jsr305;
     requires org.apache.commons.io;
     requires org.slf4j;
@@ -41,11 +43,13 @@ module io.ballerina.openapi.core {
     requires swagger.parser.v2.converter;
     requires swagger.parser.v3;
     requires org.apache.commons.lang3;
+    requires jdk.jfr;
     exports io.ballerina.openapi.core.generators.service;
     exports io.ballerina.openapi.core.model;
     exports io.ballerina.openapi.core.exception;
     exports io.ballerina.openapi.core.generators.client;
     exports io.ballerina.openapi.core.generators.schema;
+    exports io.ballerina.openapi.core.generators.schema.model;
     exports io.ballerina.openapi.core;
     exports io.ballerina.openapi.core.generators.client.model;
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.extension.doc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of embedding the generated OpenAPI docs in the service config annotations of a Ballerina
+ * document.
+ *
+ * @since 1.3.0
+ */
+@Name("io.ballerina.openapi.DocEmbedding")
+@Label("OpenAPI Doc Embedding")
+@Category({"Ballerina", "OpenAPI"})
+@Description("Embedding the OpenAPI docs of the services of a Ballerina document")
+@StackTrace(false)
+public class DocEmbeddingEvent extends Event {
+
+    @Label("Ballerina File")
+    @Description("Name of the Ballerina document")
+    private String ballerinaFile;
+
+    @Label("Services")
+    @Description("Number of services of the document with OpenAPI docs")
+    private int serviceCount;
+
+    @Label("Definition Size")
+    @Description("Total length of the embedded OpenAPI docs")
+    @DataAmount
+    private long definitionSize;
+
+    public void setBallerinaFile(String ballerinaFile) {
+        this.ballerinaFile = ballerinaFile;
+    }
+
+    public void setServiceCount(int serviceCount) {
+        this.serviceCount = serviceCount;
+    }
+
+    public void setDefinitionSize(long definitionSize) {
+        this.definitionSize = definitionSize;
+    }
+}
@@ -76,6 +76,8 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
         }
 
         for (OpenApiDocContext openApiContext: getContextHandler().retrieveAvailableContexts()) {
+            DocEmbeddingEvent event = new DocEmbeddingEvent();
+            event.begin();
             ModuleId moduleId = openApiContext.getModuleId();
             Module currentModule = context.currentPackage().module(moduleId);
             DocumentId documentId = openApiContext.getDocumentId();
@@ -92,6 +94,13 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
             } else {
                 context.modifyTestSourceFile(textDocument, documentId);
             }
+            if (event.shouldCommit()) {
+                event.setBallerinaFile(currentDoc.name());
+                event.setServiceCount(openApiContext.getOpenApiDetails().size());
+                event.setDefinitionSize(openApiContext.getOpenApiDetails().stream()
+                        .mapToLong(openApiDef -> openApiDef.getDefinition().length()).sum());
+                event.commit();
+            }
         }
     }
 
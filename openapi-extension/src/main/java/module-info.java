@@ -21,4 +21,5 @@ module ballerina.openapi.extension {
     requires io.ballerina.tools.api;
     requires io.ballerina.parser;
     requires io.ballerina.openapi.converter;
+    requires jdk.jfr;
 }
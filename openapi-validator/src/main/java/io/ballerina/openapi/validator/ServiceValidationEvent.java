@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of validating a Ballerina service against its OpenAPI contract.
+ *
+ * @since 1.3.0
+ */
+@Name("io.ballerina.openapi.ServiceValidation")
+@Label("OpenAPI Service Validation")
+@Category({"Ballerina", "OpenAPI"})
+@Description("Validating a Ballerina service against its OpenAPI contract")
+@StackTrace(false)
+public class ServiceValidationEvent extends Event {
+
+    @Label("Ballerina File")
+    @Description("Path of the Ballerina file of the service")
+    private String ballerinaFile;
+
+    @Label("Service")
+    @Description("Base path of the service")
+    private String serviceName;
+
+    @Label("Operations")
+    @Description("Number of operations of the contract validated against the service")
+    private int operationCount;
+
+    @Label("Resources")
+    @Description("Number of resource functions of the service")
+    private int resourceCount;
+
+    public void setBallerinaFile(String ballerinaFile) {
+        this.ballerinaFile = ballerinaFile;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public void setOperationCount(int operationCount) {
+        this.operationCount = operationCount;
+    }
+
+    public void setResourceCount(int resourceCount) {
+        this.resourceCount = resourceCount;
+    }
+}
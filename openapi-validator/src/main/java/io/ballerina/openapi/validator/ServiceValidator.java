@@ -73,6 +73,8 @@ public class ServiceValidator implements Validator {
      */
     @Override
     public void validate() {
+        ServiceValidationEvent event = new ServiceValidationEvent();
+        event.begin();
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
 
         // 1. Summaries the OAS operations and return the filtered operations
@@ -98,6 +100,14 @@ public class ServiceValidator implements Validator {
         // 6. Resource validation
         validateBalServiceWithOAS(updatedResourcePath, updatedOASPaths);
 
+        if (event.shouldCommit()) {
+            event.setBallerinaFile(context.syntaxTree().filePath());
+            event.setServiceName(serviceNode.absoluteResourcePath().toString().trim());
+            event.setOperationCount(openAPIPathSummaries.stream()
+                    .mapToInt(pathSummary -> pathSummary.getOperations().size()).sum());
+            event.setResourceCount(resourceFunctions.size());
+            event.commit();
+        }
     }
 
     /**
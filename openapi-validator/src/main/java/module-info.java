@@ -21,6 +21,7 @@ module io.ballerina.openapi.validator {
     requires io.swagger.v3.oas.models;
     requires swagger.parser.v3;
     requires swagger.parser.core;
+    requires jdk.jfr;
     exports io.ballerina.openapi.validator;
     exports io.ballerina.openapi.validator.error;
     exports io.ballerina.openapi.validator.model;